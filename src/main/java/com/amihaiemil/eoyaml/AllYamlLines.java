@@ -28,10 +28,12 @@
 package com.amihaiemil.eoyaml;
 
 import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * YamlLines default implementation. "All" refers to the fact that
@@ -46,47 +48,44 @@ import java.util.regex.Pattern;
 final class AllYamlLines implements YamlLines {
 
     /**
-     * There are 3 types of nodes: scalar, sequence and mapping.  This matches
-     * either a sequence or map - no match indicates it's a scalar.
-     *
-     * Does not handle '?' mapping key or flow mapping
-     * (https://yaml.org/spec/1.2/spec.html#id2790832).
-     *
-     * A sequence (group 2) is:
-     *  - [ ]* : 0 or more spaces
-     *    - [\-](|[ ]+.*) : a dash (-) optionally followed by 1 or more
-     *      spaces and any other characters.
-     *
-     * A map (group 4) is:
-     *  - [ ]* : 0 or more spaces followed by:
-     *    - a key:
-     *      - ('(?:[^'\\]|\\.)*') : a single (') quoted string or
-     *      - ("(?:[^"\\]|\\.)*") : double (") quoted string
-     *      - ([^"']*) : a non quoted string (characters other than ' or ").
-     *        - followed by:
-     *          - :(|[ ].*) : a colon (:) optionally followed by a space
-     *            and any other characters.
+     * Yaml lines.
      */
-    private static final Pattern SEQUENCE_OR_MAP = Pattern.compile("^("
-            + "([\\-](|[ ]+.*))|"
-            + "((?:"
-                + "('(?:[^'\\\\]|\\\\.)*')|"
-                  + "(\"(?:[^\"\\\\]|\\\\.)*\")|"
-                  + "([^\"']*)"
-                + "):(|[ ].*))"
-            + ")$");
+    private Collection<YamlLine> lines;
 
     /**
-     * Yaml lines.
+     * Structural index of the lines, built lazily.
      */
-    private Collection<YamlLine> lines;
+    private volatile LinesIndex index;
+
+    /**
+     * Index of the comments, built lazily.
+     */
+    private volatile CommentsIndex comments;
+
+    /**
+     * Are comments read? If not, all the nodes have empty comments.
+     */
+    private final boolean readComments;
 
     /**
      * Ctor.
      * @param lines Yaml lines collection.
      */
     AllYamlLines(final Collection<YamlLine> lines) {
+        this(lines, true);
+    }
+
+    /**
+     * Ctor.
+     * @param lines Yaml lines collection.
+     * @param readComments Are comments read? If not, they are not
+     *  looked for at all.
+     */
+    AllYamlLines(
+        final Collection<YamlLine> lines, final boolean readComments
+    ) {
         this.lines = lines;
+        this.readComments = readComments;
     }
 
     @Override
@@ -119,7 +118,7 @@ final class AllYamlLines implements YamlLines {
                 node = new ReadLiteralBlockScalar(prev, this);
             } else if (lastChar.equals(Follows.FOLDED_BLOCK_SCALAR)) {
                 node = new ReadFoldedBlockScalar(prev, this);
-            } else if (prevLine.matches(Follows.FOLDED_SEQUENCE)) {
+            } else if (prev.kind().foldedSequence()) {
                 node = new ReadYamlSequence(prev, this, guessIndentation);
             } else {
                 node = this.mappingSequenceOrPlainScalar(
@@ -135,6 +134,152 @@ final class AllYamlLines implements YamlLines {
         return this.lines.iterator();
     }
 
+    /**
+     * Get a certain YamlLine in constant time, using the index.
+     * @param number Number of the line.
+     * @return YamlLine or throws {@link IllegalArgumentException}.
+     */
+    @Override
+    public YamlLine line(final int number) {
+        final YamlLine line;
+        if(number < 0 && !this.lines.isEmpty()) {
+            line = this.lines.iterator().next();
+        } else {
+            final LinesIndex idx = this.index();
+            final int position = idx.position(number);
+            if(position < 0) {
+                throw new IllegalArgumentException(
+                    "Couldn't find line " + number
+                  + ". Pay attention, there are "
+                  + this.lines.size() + " lines!"
+                );
+            }
+            line = idx.line(position);
+        }
+        return line;
+    }
+
+    /**
+     * Structural index of these lines. It is built only once, the first
+     * time it is needed.
+     * @return LinesIndex.
+     */
+    LinesIndex index() {
+        LinesIndex built = this.index;
+        if(built == null) {
+            built = new LinesIndex(this.lines);
+            this.index = built;
+        }
+        return built;
+    }
+
+    /**
+     * Comment right above the line with the given number.
+     * @param number Number of the line.
+     * @param markers Should start markers ("---") be skipped?
+     * @return Comment, empty if there is none.
+     */
+    String comment(final int number, final boolean markers) {
+        final String comment;
+        if(!this.readComments) {
+            comment = "";
+        } else if(this.index().ordered()) {
+            comment = this.comments().above(
+                this.index().after(number - 1), markers
+            );
+        } else {
+            final List<YamlLine> before = this.matching(
+                line -> line.number() < number
+            );
+            comment = new CommentsIndex(before).above(
+                before.size(), markers
+            );
+        }
+        return comment;
+    }
+
+    /**
+     * Comment of the whole document, found above the start marker ("---")
+     * which comes before the line with the given number.
+     * @param number Number of the line.
+     * @return Comment, empty if there is none.
+     */
+    String documentComment(final int number) {
+        final String comment;
+        if(!this.readComments) {
+            comment = "";
+        } else if(this.index().ordered()) {
+            comment = this.comments().document(
+                this.index().after(number - 1)
+            );
+        } else {
+            final List<YamlLine> before = this.matching(
+                line -> line.number() < number
+            );
+            comment = new CommentsIndex(before).document(before.size());
+        }
+        return comment;
+    }
+
+    /**
+     * Inline comment of the line with the given number.
+     * @param number Number of the line.
+     * @return Comment, empty if there is none.
+     */
+    String inlineComment(final int number) {
+        final String comment;
+        if(!this.readComments) {
+            comment = "";
+        } else if(this.index().ordered()) {
+            final LinesIndex idx = this.index();
+            final int from = idx.after(number - 1);
+            comment = this.comments().inline(from, idx.after(number));
+        } else {
+            final List<YamlLine> same = this.matching(
+                line -> line.number() == number
+            );
+            comment = new CommentsIndex(same).inline(0, same.size());
+        }
+        return comment;
+    }
+
+    /**
+     * Are comments read?
+     * @return True or false.
+     */
+    boolean readsComments() {
+        return this.readComments;
+    }
+
+    /**
+     * Index of the comments. It is built only once, the first time
+     * it is needed.
+     * @return CommentsIndex.
+     */
+    CommentsIndex comments() {
+        CommentsIndex built = this.comments;
+        if(built == null) {
+            built = new CommentsIndex(this.index().from(0));
+            this.comments = built;
+        }
+        return built;
+    }
+
+    /**
+     * The lines which match a condition, in their order.
+     * @param condition Condition.
+     * @return List of YamlLine.
+     */
+    private List<YamlLine> matching(final Predicate<YamlLine> condition) {
+        final List<YamlLine> found = new ArrayList<>();
+        for(final YamlLine line : this.lines) {
+            if(condition.test(line)) {
+                found.add(line);
+            }
+        }
+        return found;
+    }
+
     /**
      * Try to figure out what YAML node (mapping, sequence or scalar) is found
      * after the given line.
@@ -148,23 +293,33 @@ final class AllYamlLines implements YamlLines {
         final boolean guessIndentation
     ) {
         YamlNode node = null;
-        final YamlLine first = new Skip(
-            this,
-            line -> line.number() <= prev.number(),
-            line -> line.trimmed().startsWith("#"),
-            line -> line.trimmed().startsWith("---"),
-            line -> line.trimmed().startsWith("..."),
-            line -> line.trimmed().startsWith("%"),
-            line -> line.trimmed().startsWith("!!")
-        ).iterator().next();
-        Matcher matcher = SEQUENCE_OR_MAP.matcher(first.trimmed());
-        if (matcher.matches()) {
-            if (matcher.group(2) != null) {
-                node = new ReadYamlSequence(prev, this, guessIndentation);
-            } else if (matcher.group(4) != null) {
-                node = new ReadYamlMapping(prev.number(),
-                        prev, this, guessIndentation);
+        final YamlLine first;
+        final LinesIndex idx = this.index();
+        if(idx.ordered()) {
+            final int position = idx.next(idx.after(prev.number()));
+            if(position < 0) {
+                throw new NoSuchElementException(
+                    "No YAML node found after line " + (prev.number() + 1)
+                );
             }
+            first = idx.line(position);
+        } else {
+            first = new Skip(
+                this,
+                line -> line.number() <= prev.number(),
+                line -> line.trimmed().startsWith("#"),
+                line -> line.trimmed().startsWith("---"),
+                line -> line.trimmed().startsWith("..."),
+                line -> line.trimmed().startsWith("%"),
+                line -> line.trimmed().startsWith("!!")
+            ).iterator().next();
+        }
+        final LineKind kind = first.kind();
+        if (kind.item()) {
+            node = new ReadYamlSequence(prev, this, guessIndentation);
+        } else if (kind.key()) {
+            node = new ReadYamlMapping(prev.number(),
+                    prev, this, guessIndentation);
         } else if (this.original().size() == 1) {
             node = new ReadPlainScalar(this, first);
         }
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable list which can only grow at the end. Adding an element
+ * creates a new Appended which points to this one, so it costs O(1) and
+ * all the lists obtained from the same Appended share their elements.
+ * It is what the builders use to remember what was added, since every
+ * builder may be forked with more additions.
+ * @param <T> Type of the elements.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Appended<T> {
+
+    /**
+     * List without the last element. Null if this list is empty.
+     */
+    private final Appended<T> previous;
+
+    /**
+     * Last element.
+     */
+    private final T last;
+
+    /**
+     * Number of elements.
+     */
+    private final int size;
+
+    /**
+     * Ctor of an empty list.
+     */
+    Appended() {
+        this(null, null, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param previous List without the last element.
+     * @param last Last element.
+     * @param size Number of elements.
+     */
+    private Appended(final Appended<T> previous, final T last, final int size) {
+        this.previous = previous;
+        this.last = last;
+        this.size = size;
+    }
+
+    /**
+     * This list with one more element at the end. This list does not
+     * change.
+     * @param element Added element.
+     * @return New Appended.
+     */
+    Appended<T> with(final T element) {
+        return new Appended<>(this, element, this.size + 1);
+    }
+
+    /**
+     * Number of elements.
+     * @return Size.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Is this list empty?
+     * @return True or false.
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Copy the elements, in the order in which they were added.
+     * @return Mutable List.
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        final Object[] elements = new Object[this.size];
+        Appended<T> current = this;
+        for(int idx = this.size - 1; idx >= 0; --idx) {
+            elements[idx] = current.last;
+            current = current.previous;
+        }
+        return new ArrayList<>((List<T>) Arrays.asList(elements));
+    }
+}
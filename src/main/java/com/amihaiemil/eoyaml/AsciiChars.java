@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ASCII bytes seen as chars, without decoding or copying them. Each
+ * byte is a char, so it takes half of the memory of a char[]. The bytes
+ * may be in the heap or, for example, in a memory-mapped file.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class AsciiChars implements CharSequence {
+
+    /**
+     * The bytes.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Where the chars start.
+     */
+    private final int offset;
+
+    /**
+     * Number of chars.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param bytes The bytes, all of them ASCII.
+     * @param offset Where the chars start.
+     * @param size Number of chars.
+     */
+    AsciiChars(final ByteBuffer bytes, final int offset, final int size) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int length() {
+        return this.size;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of " + this.size
+            );
+        }
+        return (char) this.bytes.get(this.offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if(start < 0 || end > this.size || start > end) {
+            throw new IndexOutOfBoundsException(
+                "Sequence [" + start + ", " + end + ") out of " + this.size
+            );
+        }
+        return new AsciiChars(this.bytes, this.offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        final ByteBuffer slice = this.bytes.duplicate();
+        slice.position(this.offset);
+        slice.limit(this.offset + this.size);
+        return StandardCharsets.US_ASCII.decode(slice).toString();
+    }
+
+    /**
+     * Are the bytes all ASCII?
+     * @param bytes Bytes.
+     * @param from Where to start checking.
+     * @param end Where to stop checking.
+     * @return True or false.
+     */
+    static boolean ascii(
+        final ByteBuffer bytes, final int from, final int end
+    ) {
+        boolean ascii = true;
+        for(int idx = from; ascii && idx < end; ++idx) {
+            ascii = bytes.get(idx) >= 0;
+        }
+        return ascii;
+    }
+}
@@ -55,6 +55,11 @@ final class Backwards implements YamlLines {
         return this.lines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.lines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
@@ -63,13 +68,18 @@ final class Backwards implements YamlLines {
         return this.lines.toYamlNode(prev, guessIndentation);
     }
 
+    /**
+     * Returns an iterator over the lines, starting with the last one.
+     * All the decorated lines have to be read before the first one is
+     * returned, so they are collected only once, in a deque.
+     * @return Iterator over these yaml lines.
+     */
     @Override
     public Iterator<YamlLine> iterator() {
-        final List<YamlLine> original = new ArrayList<>();
+        final Deque<YamlLine> original = new ArrayDeque<>();
         for(final YamlLine line : this.lines) {
             original.add(line);
         }
-        Collections.reverse(original);
-        return original.iterator();
+        return original.descendingIterator();
     }
 }
@@ -40,6 +40,33 @@ package com.amihaiemil.eoyaml;
  */
 abstract class BaseScalar extends BaseYamlNode implements Scalar {
 
+    /**
+     * Value of this scalar, resolved with the core schema the first time
+     * it is needed. It is immutable, so racing threads may only resolve
+     * it more than once.
+     */
+    private volatile CoreValue resolved;
+
+    @Override
+    public final int asInt() {
+        return this.resolved().asInt();
+    }
+
+    @Override
+    public final long asLong() {
+        return this.resolved().asLong();
+    }
+
+    @Override
+    public final double asDouble() {
+        return this.resolved().asDouble();
+    }
+
+    @Override
+    public final boolean asBoolean() {
+        return this.resolved().asBoolean();
+    }
+
     @Override
     public final Node type() {
         return Node.SCALAR;
@@ -111,4 +138,17 @@ abstract class BaseScalar extends BaseYamlNode implements Scalar {
     final boolean isEmpty() {
         return this.value() == null || this.value().isEmpty();
     }
+
+    /**
+     * The value of this scalar, resolved with the core schema.
+     * @return CoreValue.
+     */
+    private CoreValue resolved() {
+        CoreValue value = this.resolved;
+        if(value == null) {
+            value = CoreValue.from(this.value());
+            this.resolved = value;
+        }
+        return value;
+    }
 }
@@ -98,6 +98,17 @@ abstract class BaseYamlNode implements YamlNode {
      */
     @Override
     public final String toString() {
+        return this.printed();
+    }
+
+    /**
+     * Print this YamlNode using a StringWriter. Nodes which cannot
+     * always be printed (e.g. a consumed lazy stream) override it.
+     * @return String print of this YamlNode.
+     * @throws YamlPrintException If there is any I/O problem
+     *  when printing the YAML.
+     */
+    String printed() {
         final StringWriter writer = new StringWriter();
         final YamlPrinter printer = new RtYamlPrinter(writer);
         try {
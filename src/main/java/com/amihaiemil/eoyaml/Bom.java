@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte Order Mark at the beginning of some bytes. If there is one, it
+ * gives the charset of the bytes (UTF-8, UTF-16 or UTF-32), otherwise
+ * the charset is the given default.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Bom {
+
+    /**
+     * Maximum length of a BOM.
+     */
+    static final int MAX_LENGTH = 4;
+
+    /**
+     * The BOMs, as unsigned bytes, in the order they are checked
+     * (UTF-32LE before UTF-16LE, since they start the same).
+     */
+    private static final int[][] MARKS = {
+        {0x00, 0x00, 0xFE, 0xFF},
+        {0xFF, 0xFE, 0x00, 0x00},
+        {0xEF, 0xBB, 0xBF},
+        {0xFE, 0xFF},
+        {0xFF, 0xFE},
+    };
+
+    /**
+     * Names of the charsets of the BOMs.
+     */
+    private static final String[] CHARSETS = {
+        "UTF-32BE", "UTF-32LE", "UTF-8", "UTF-16BE", "UTF-16LE",
+    };
+
+    /**
+     * Charset given by the BOM or the default one.
+     */
+    private final Charset charset;
+
+    /**
+     * Length of the BOM in bytes (0 if there is none).
+     */
+    private final int length;
+
+    /**
+     * Ctor.
+     * @param bytes The first bytes.
+     * @param size How many bytes there are.
+     * @param fallback Charset to use if there is no BOM.
+     */
+    Bom(final byte[] bytes, final int size, final Charset fallback) {
+        int found = -1;
+        for(int idx = 0; idx < MARKS.length && found < 0; ++idx) {
+            if(Bom.startsWith(bytes, size, MARKS[idx])) {
+                found = idx;
+            }
+        }
+        if(found < 0) {
+            this.charset = fallback;
+            this.length = 0;
+        } else {
+            this.charset = Charset.forName(CHARSETS[found]);
+            this.length = MARKS[found].length;
+        }
+    }
+
+    /**
+     * Charset of the bytes.
+     * @return Charset.
+     */
+    Charset charset() {
+        return this.charset;
+    }
+
+    /**
+     * Length of the BOM, which should be skipped.
+     * @return Number of bytes.
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     * Can the bytes be seen directly as chars, if they are all ASCII?
+     * @return True or false.
+     */
+    boolean asciiCompatible() {
+        return this.charset.equals(StandardCharsets.UTF_8)
+            || this.charset.equals(StandardCharsets.US_ASCII)
+            || this.charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Do the bytes start with the given mark?
+     * @param bytes Bytes.
+     * @param size How many bytes there are.
+     * @param mark Mark.
+     * @return True or false.
+     */
+    private static boolean startsWith(
+        final byte[] bytes, final int size, final int[] mark
+    ) {
+        boolean starts = size >= mark.length;
+        for(int idx = 0; starts && idx < mark.length; ++idx) {
+            starts = (bytes[idx] & 0xFF) == mark[idx];
+        }
+        return starts;
+    }
+}
@@ -62,6 +62,11 @@ final class CachedYamlLine implements YamlLine {
      */
     private Boolean hasNestedNode;
 
+    /**
+     * Cached kind.
+     */
+    private LineKind kind;
+
     /**
      * Ctor.
      * @param line YamlLine
@@ -117,6 +122,14 @@ final class CachedYamlLine implements YamlLine {
         return this.hasNestedNode;
     }
 
+    @Override
+    public LineKind kind() {
+        if(this.kind == null) {
+            this.kind = this.line.kind();
+        }
+        return this.kind;
+    }
+
     @Override
     public String toString() {
         return this.line.toString();
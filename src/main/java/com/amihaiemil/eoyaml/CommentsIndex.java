@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of the comments in some YAML lines, built in one pass. For each
+ * position, it knows where the block comment which ends right before it
+ * starts, so the comment of a node is found without going over the
+ * lines above it again.<br><br>
+ * Markers ("..."), directives ("%") and tags ("!!") are not part of
+ * comments, but they do not interrupt them either. The start marker
+ * ("---") ends a comment, unless it is looked for on top of a block
+ * scalar.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class CommentsIndex {
+
+    /**
+     * Indexed lines, by position.
+     */
+    private final List<YamlLine> lines;
+
+    /**
+     * Comment of each line, empty if it has none.
+     */
+    private final String[] comments;
+
+    /**
+     * Is the line a marker, a directive or a tag, which is skipped?
+     */
+    private final boolean[] skipped;
+
+    /**
+     * Start of the block comment which ends before each position.
+     * It has one extra element, for the end of the lines.
+     */
+    private final int[] block;
+
+    /**
+     * Same as block, but start markers are skipped as well.
+     */
+    private final int[] marked;
+
+    /**
+     * Ctor.
+     * @param lines Lines to index.
+     */
+    CommentsIndex(final List<YamlLine> lines) {
+        this.lines = lines;
+        final int size = lines.size();
+        this.comments = new String[size];
+        this.skipped = new boolean[size];
+        this.block = new int[size + 1];
+        this.marked = new int[size + 1];
+        for(int pos = 0; pos < size; ++pos) {
+            final YamlLine line = lines.get(pos);
+            final String trimmed = line.trimmed();
+            this.comments[pos] = line.comment();
+            this.skipped[pos] = trimmed.startsWith("...")
+                || trimmed.startsWith("%") || trimmed.startsWith("!!");
+            final boolean start = "---".equals(trimmed);
+            final boolean ends = this.ends(pos);
+            if(ends || start) {
+                this.block[pos + 1] = pos + 1;
+            } else {
+                this.block[pos + 1] = this.block[pos];
+            }
+            if(ends && !trimmed.startsWith("---")) {
+                this.marked[pos + 1] = pos + 1;
+            } else {
+                this.marked[pos + 1] = this.marked[pos];
+            }
+        }
+    }
+
+    /**
+     * The comment right above the given position.
+     * @param end Position (exclusive).
+     * @param markers Should start markers be skipped?
+     * @return Comment, empty if there is none.
+     */
+    String above(final int end, final boolean markers) {
+        final int from;
+        if(markers) {
+            from = this.marked[end];
+        } else {
+            from = this.block[end];
+        }
+        final List<String> found = new ArrayList<>();
+        for(int pos = from; pos < end; ++pos) {
+            if(this.commented(pos)) {
+                found.add(this.comments[pos]);
+            }
+        }
+        return CommentsIndex.joined(found);
+    }
+
+    /**
+     * The comment of the whole document: the one right above the
+     * closest start marker ("---") before the given position.
+     * @param end Position (exclusive).
+     * @return Comment, empty if there is none.
+     */
+    String document(final int end) {
+        final List<String> found = new ArrayList<>();
+        int pos = end - 1;
+        while(pos >= 0 && found.isEmpty()) {
+            final boolean start = !this.skipped[pos]
+                && "---".equals(this.lines.get(pos).trimmed());
+            pos = pos - 1;
+            while(start && pos >= 0) {
+                if(this.commented(pos)) {
+                    found.add(0, this.comments[pos]);
+                }
+                pos = pos - 1;
+                if(this.ends(pos + 1)) {
+                    break;
+                }
+            }
+        }
+        return CommentsIndex.joined(found);
+    }
+
+    /**
+     * The inline comments of the lines between the given positions.
+     * @param from Start position (inclusive).
+     * @param end End position (exclusive).
+     * @return Comment, empty if there is none.
+     */
+    String inline(final int from, final int end) {
+        final List<String> found = new ArrayList<>();
+        for(int pos = from; pos < end; ++pos) {
+            found.add(this.comments[pos]);
+        }
+        return CommentsIndex.joined(found);
+    }
+
+    /**
+     * Is the line a comment line (it starts with "#")?
+     * @param pos Position of the line.
+     * @return True or false.
+     */
+    private boolean commented(final int pos) {
+        return !this.skipped[pos] && !this.comments[pos].isEmpty()
+            && this.lines.get(pos).trimmed().startsWith("#");
+    }
+
+    /**
+     * Does the line end a comment, since it has none?
+     * @param pos Position of the line.
+     * @return True or false.
+     */
+    private boolean ends(final int pos) {
+        return !this.skipped[pos] && this.comments[pos].isEmpty();
+    }
+
+    /**
+     * Join the lines of a comment.
+     * @param found Lines of the comment.
+     * @return Comment.
+     */
+    private static String joined(final List<String> found) {
+        return String.join(System.lineSeparator(), found).trim();
+    }
+}
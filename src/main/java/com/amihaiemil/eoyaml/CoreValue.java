@@ -0,0 +1,399 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+import java.util.regex.Pattern;
+
+/**
+ * Value of a Scalar, resolved with the YAML 1.2 core schema (null, bool,
+ * int, float), once, and kept as primitives, so it can be cached by the
+ * Scalar and read many times without parsing or boxing. The values
+ * true, false, null and the small integers are shared instances.
+ * Values which are not resolved as numbers are parsed with the
+ * java.lang parse methods, as before, for backwards compatibility
+ * (e.g. "NaN" is still a double).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ * @see <a href="https://yaml.org/spec/1.2.2/#1032-tag-resolution">Core
+ *  schema tag resolution</a>
+ */
+final class CoreValue {
+
+    /**
+     * Kind of the null value.
+     */
+    private static final int NULL = 0;
+
+    /**
+     * Kind of the boolean values.
+     */
+    private static final int BOOL = 1;
+
+    /**
+     * Kind of the integer values.
+     */
+    private static final int INT = 2;
+
+    /**
+     * Kind of the float values.
+     */
+    private static final int FLOAT = 3;
+
+    /**
+     * Kind of the values which are simple strings.
+     */
+    private static final int STR = 4;
+
+    /**
+     * Decimal float, as given by the core schema.
+     */
+    private static final Pattern DECIMAL = Pattern.compile(
+        "[-+]?(\\.[0-9]+|[0-9]+(\\.[0-9]*)?)([eE][-+]?[0-9]+)?"
+    );
+
+    /**
+     * Lowest integer which is shared.
+     */
+    private static final int LOWEST = -128;
+
+    /**
+     * Shared small integers, from LOWEST.
+     */
+    private static final CoreValue[] SMALL = new CoreValue[1152];
+
+    /**
+     * Shared null.
+     */
+    private static final CoreValue NULL_VALUE = new CoreValue(
+        NULL, 0L, 0.0, "null"
+    );
+
+    /**
+     * Shared true.
+     */
+    private static final CoreValue TRUE = new CoreValue(
+        BOOL, 1L, 0.0, "true"
+    );
+
+    /**
+     * Shared false.
+     */
+    private static final CoreValue FALSE = new CoreValue(
+        BOOL, 0L, 0.0, "false"
+    );
+
+    static {
+        for(int idx = 0; idx < SMALL.length; ++idx) {
+            final long number = idx + LOWEST;
+            SMALL[idx] = new CoreValue(
+                INT, number, number, String.valueOf(number)
+            );
+        }
+    }
+
+    /**
+     * Kind of this value.
+     */
+    private final int kind;
+
+    /**
+     * The value, if it is an integer or a boolean (1 for true).
+     */
+    private final long integer;
+
+    /**
+     * The value, if it is a number.
+     */
+    private final double real;
+
+    /**
+     * Text of the Scalar.
+     */
+    private final String text;
+
+    /**
+     * Ctor.
+     * @param kind Kind of the value.
+     * @param integer Integer value.
+     * @param real Float value.
+     * @param text Text of the Scalar.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private CoreValue(
+        final int kind, final long integer, final double real,
+        final String text
+    ) {
+        this.kind = kind;
+        this.integer = integer;
+        this.real = real;
+        this.text = text;
+    }
+
+    /**
+     * Resolve the value of a Scalar.
+     * @param text Value of the Scalar.
+     * @return CoreValue.
+     */
+    static CoreValue from(final String text) {
+        final CoreValue value;
+        if(text == null || "null".equals(text)) {
+            value = NULL_VALUE;
+        } else if("true".equals(text)) {
+            value = TRUE;
+        } else if("false".equals(text)) {
+            value = FALSE;
+        } else if(text.isEmpty() || "~".equals(text)
+            || CoreValue.word(text, "null", "null")) {
+            value = new CoreValue(NULL, 0L, 0.0, text);
+        } else if(CoreValue.word(text, "true", "true")) {
+            value = new CoreValue(BOOL, 1L, 0.0, text);
+        } else if(CoreValue.word(text, "false", "false")) {
+            value = new CoreValue(BOOL, 0L, 0.0, text);
+        } else {
+            value = CoreValue.number(text);
+        }
+        return value;
+    }
+
+    /**
+     * The value as an int.
+     * @return Int value.
+     * @throws NumberFormatException If the value is not an int.
+     */
+    int asInt() {
+        final int value;
+        if(this.kind == INT && this.integer == (int) this.integer) {
+            value = (int) this.integer;
+        } else {
+            value = Integer.parseInt(this.text);
+        }
+        return value;
+    }
+
+    /**
+     * The value as a long.
+     * @return Long value.
+     * @throws NumberFormatException If the value is not a long.
+     */
+    long asLong() {
+        final long value;
+        if(this.kind == INT) {
+            value = this.integer;
+        } else {
+            value = Long.parseLong(this.text);
+        }
+        return value;
+    }
+
+    /**
+     * The value as a double.
+     * @return Double value.
+     * @throws NumberFormatException If the value is not a number.
+     */
+    double asDouble() {
+        final double value;
+        if(this.kind == INT || this.kind == FLOAT) {
+            value = this.real;
+        } else {
+            value = Double.parseDouble(this.text);
+        }
+        return value;
+    }
+
+    /**
+     * The value as a boolean.
+     * @return Boolean value.
+     * @throws YamlReadingException If the value is not a boolean.
+     */
+    boolean asBoolean() {
+        if(this.kind != BOOL) {
+            throw new YamlReadingException(
+                "The scalar value '" + this.text + "' is not a boolean."
+            );
+        }
+        return this.integer == 1L;
+    }
+
+    /**
+     * The core schema accepts only the lowercase, the capitalized or
+     * the uppercase forms of its words (e.g. null, Null or NULL).
+     * @param word The word.
+     * @return True if it is cased as accepted.
+     */
+    private static boolean cased(final String word) {
+        boolean lower = true;
+        boolean upper = true;
+        for(int idx = 1; idx < word.length(); ++idx) {
+            final char letter = word.charAt(idx);
+            lower = lower && Character.isLowerCase(letter);
+            upper = upper && Character.isUpperCase(letter);
+        }
+        return lower || upper && Character.isUpperCase(word.charAt(0));
+    }
+
+    /**
+     * Resolve a number.
+     * @param text Text of the Scalar.
+     * @return CoreValue.
+     */
+    private static CoreValue number(final String text) {
+        CoreValue value = CoreValue.integer(text);
+        if(value == null) {
+            value = CoreValue.real(text);
+        }
+        return value;
+    }
+
+    /**
+     * Resolve an integer, decimal, octal (0o) or hexadecimal (0x).
+     * @param text Text of the Scalar.
+     * @return CoreValue or null, if the text is not an integer.
+     */
+    private static CoreValue integer(final String text) {
+        final int radix;
+        final String digits;
+        if(text.startsWith("0o")) {
+            radix = 8;
+            digits = text.substring(2);
+        } else if(text.startsWith("0x")) {
+            radix = 16;
+            digits = text.substring(2);
+        } else {
+            radix = 10;
+            digits = text;
+        }
+        CoreValue value = null;
+        if(CoreValue.digits(digits, radix)) {
+            try {
+                value = CoreValue.integer(Long.parseLong(digits, radix), text);
+            } catch (final NumberFormatException tooBig) {
+                value = null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The CoreValue of an integer, shared if it is small and written in
+     * its canonical decimal form, so the shared text is the given one.
+     * A negative zero keeps its sign as a double.
+     * @param number The integer.
+     * @param text Text of the Scalar.
+     * @return CoreValue.
+     */
+    private static CoreValue integer(final long number, final String text) {
+        final CoreValue value;
+        if(number >= LOWEST && number < LOWEST + SMALL.length
+            && CoreValue.canonical(text)) {
+            value = SMALL[(int) number - LOWEST];
+        } else {
+            double real = number;
+            if(number == 0L && text.charAt(0) == '-') {
+                real = -0.0;
+            }
+            value = new CoreValue(INT, number, real, text);
+        }
+        return value;
+    }
+
+    /**
+     * Is this integer written in its canonical decimal form (no plus sign,
+     * no radix prefix, no leading zeros and no negative zero)?
+     * @param text Text of the integer.
+     * @return True or false.
+     */
+    private static boolean canonical(final String text) {
+        int start = 0;
+        if(text.charAt(0) == '-') {
+            start = 1;
+        }
+        return text.length() > start
+            && Character.isDigit(text.charAt(start))
+            && (text.charAt(start) != '0' || text.length() == 1);
+    }
+
+    /**
+     * Resolve a float (decimal, infinite or not a number) or a string.
+     * @param text Text of the Scalar.
+     * @return CoreValue.
+     */
+    private static CoreValue real(final String text) {
+        final CoreValue value;
+        if(DECIMAL.matcher(text).matches()) {
+            value = new CoreValue(FLOAT, 0L, Double.parseDouble(text), text);
+        } else if(CoreValue.word(text, ".inf", "+.inf")) {
+            value = new CoreValue(FLOAT, 0L, Double.POSITIVE_INFINITY, text);
+        } else if(CoreValue.word(text, "-.inf", "-.inf")) {
+            value = new CoreValue(FLOAT, 0L, Double.NEGATIVE_INFINITY, text);
+        } else if(".nan".equals(text) || ".NaN".equals(text)
+            || ".NAN".equals(text)) {
+            value = new CoreValue(FLOAT, 0L, Double.NaN, text);
+        } else {
+            value = new CoreValue(STR, 0L, 0.0, text);
+        }
+        return value;
+    }
+
+    /**
+     * Is the text one of the given words, cased as the core schema
+     * accepts?
+     * @param text Text of the Scalar.
+     * @param word Word, lowercase.
+     * @param other Other form of the word, lowercase.
+     * @return True or false.
+     */
+    private static boolean word(
+        final String text, final String word, final String other
+    ) {
+        return (word.equalsIgnoreCase(text) || other.equalsIgnoreCase(text))
+            && CoreValue.cased(text.substring(text.indexOf('.') + 1));
+    }
+
+    /**
+     * Are these the digits of an integer in the given radix?
+     * A sign is accepted only for decimal integers.
+     * @param digits Digits.
+     * @param radix Radix.
+     * @return True or false.
+     */
+    private static boolean digits(final String digits, final int radix) {
+        int start = 0;
+        if(radix == 10 && !digits.isEmpty()
+            && (digits.charAt(0) == '-' || digits.charAt(0) == '+')) {
+            start = 1;
+        }
+        boolean all = digits.length() > start;
+        for(int idx = start; all && idx < digits.length(); ++idx) {
+            final char digit = digits.charAt(idx);
+            all = digit < 128 && Character.digit(digit, radix) >= 0;
+        }
+        return all;
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the documents of a YAML Stream. A document starts
+ * after a start marker (---), or at the beginning of the stream if it does
+ * not start with a marker, and ends at the next start or end marker (...).
+ * The lines are read only when the next document is needed and only the
+ * lines of that document are kept in memory. Empty documents are skipped.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Documents implements Iterator<YamlNode> {
+
+    /**
+     * Lines of the YAML Stream.
+     */
+    private final Iterator<YamlLine> lines;
+
+    /**
+     * If set to true we will try to guess the correct indentation
+     * of misplaced lines.
+     */
+    private final boolean guessIndentation;
+
+    /**
+     * Are comments read?
+     */
+    private final boolean readComments;
+
+    /**
+     * Lines already read for the next document.
+     */
+    private List<YamlLine> pending;
+
+    /**
+     * Start of the next document or null if there are no more documents.
+     */
+    private YamlLine start;
+
+    /**
+     * Has the beginning of the stream been read?
+     */
+    private boolean started;
+
+    /**
+     * Next document, read in advance.
+     */
+    private YamlNode next;
+
+    /**
+     * Ctor.
+     * @param lines Lines of the YAML Stream.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    Documents(final Iterator<YamlLine> lines, final boolean guessIndentation) {
+        this(lines, guessIndentation, true);
+    }
+
+    /**
+     * Ctor.
+     * @param lines Lines of the YAML Stream.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     * @param readComments Are comments read?
+     */
+    Documents(
+        final Iterator<YamlLine> lines,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) {
+        this.lines = lines;
+        this.guessIndentation = guessIndentation;
+        this.readComments = readComments;
+        this.pending = new ArrayList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(this.next == null) {
+            this.next = this.fetch();
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public YamlNode next() {
+        if(!this.hasNext()) {
+            throw new NoSuchElementException("There are no more documents.");
+        }
+        final YamlNode document = this.next;
+        this.next = null;
+        return document;
+    }
+
+    /**
+     * Read the next document.
+     * @return YamlNode or null if there are no more documents.
+     */
+    private YamlNode fetch() {
+        if(!this.started) {
+            this.started = true;
+            this.begin();
+        }
+        YamlNode document = null;
+        while(document == null && this.start != null) {
+            final YamlLine marker = this.start;
+            final List<YamlLine> read = this.pending;
+            this.start = null;
+            this.pending = new ArrayList<>();
+            this.read(read);
+            if(!read.isEmpty()) {
+                document = new AllYamlLines(
+                    read, this.readComments
+                ).toYamlNode(
+                    marker, this.guessIndentation
+                );
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Read the beginning of the stream, up to the start of the first
+     * document. If the stream does not start with a marker (comments and
+     * directives are ignored), the first document starts on the first line
+     * and the read lines are part of it.
+     */
+    private void begin() {
+        while(this.start == null && this.lines.hasNext()) {
+            final YamlLine line = this.lines.next();
+            final String trimmed = line.trimmed();
+            if("---".equals(trimmed)) {
+                this.pending.clear();
+                this.start = line;
+            } else {
+                this.pending.add(line);
+                if(!trimmed.startsWith("#") && !trimmed.startsWith("%")) {
+                    this.start = new YamlLine.NullYamlLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the lines of a document, up to the next start or end marker.
+     * @param document Where to add the lines.
+     */
+    private void read(final List<YamlLine> document) {
+        boolean ended = false;
+        while(!ended && this.lines.hasNext()) {
+            final YamlLine line = this.lines.next();
+            final String trimmed = line.trimmed();
+            if("---".equals(trimmed)) {
+                this.start = line;
+                ended = true;
+            } else if("...".equals(trimmed)) {
+                this.skip();
+                ended = true;
+            } else {
+                document.add(line);
+            }
+        }
+    }
+
+    /**
+     * Skip the lines after an end marker, up to the next start marker.
+     */
+    private void skip() {
+        while(this.start == null && this.lines.hasNext()) {
+            final YamlLine line = this.lines.next();
+            if("---".equals(line.trimmed())) {
+                this.start = line;
+            }
+        }
+    }
+}
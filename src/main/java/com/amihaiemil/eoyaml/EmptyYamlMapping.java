@@ -1,6 +1,8 @@
 package com.amihaiemil.eoyaml;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -35,6 +37,11 @@ public class EmptyYamlMapping extends BaseYamlMapping {
         return null;
     }
 
+    @Override
+    public final Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        return Collections.emptyList();
+    }
+
     @Override
     public final Comment comment() {
         return this.mapping.comment();
@@ -30,6 +30,11 @@ public class EmptyYamlSequence extends BaseYamlSequence {
         return Collections.emptyList();
     }
 
+    @Override
+    public final YamlNode get(final int index) {
+        return null;
+    }
+
     @Override
     public final Comment comment() {
         return sequence.comment();
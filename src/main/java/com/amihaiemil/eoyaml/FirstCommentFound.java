@@ -93,6 +93,11 @@ final class FirstCommentFound implements YamlLines {
         return this.lines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.lines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
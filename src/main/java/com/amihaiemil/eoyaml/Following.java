@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * The lines which follow a given line. This is equivalent to skipping
+ * all the lines with a number lesser or equal to the given line's number,
+ * but it uses the {@link LinesIndex} of the document to find where to
+ * start the iteration, if the lines are ordered by number.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Following implements YamlLines {
+
+    /**
+     * Line after which we start iterating.
+     */
+    private final YamlLine previous;
+
+    /**
+     * All the lines of the document.
+     */
+    private final AllYamlLines all;
+
+    /**
+     * Ctor.
+     * @param previous Line after which we start iterating.
+     * @param all All the lines of the document.
+     */
+    Following(final YamlLine previous, final AllYamlLines all) {
+        this.previous = previous;
+        this.all = all;
+    }
+
+    @Override
+    public Iterator<YamlLine> iterator() {
+        final LinesIndex index = this.all.index();
+        final Iterator<YamlLine> following;
+        if(index.ordered()) {
+            following = index.from(
+                index.after(this.previous.number())
+            ).iterator();
+        } else {
+            following = new Skip(
+                this.all,
+                line -> line.number() <= this.previous.number()
+            ).iterator();
+        }
+        return following;
+    }
+
+    @Override
+    public Collection<YamlLine> original() {
+        return this.all.original();
+    }
+
+    @Override
+    public YamlLine line(final int number) {
+        return this.all.line(number);
+    }
+
+    @Override
+    public YamlNode toYamlNode(
+        final YamlLine prev,
+        final boolean guessIndentation
+    ) {
+        return this.all.toYamlNode(prev, guessIndentation);
+    }
+}
@@ -65,19 +65,4 @@ final class Follows {
      * </pre>
      */
     static final String LITERAL_BLOCK_SCALAR = "|";
-
-    /**
-     * If the line ends with this, it means a folded sequence follows after it.
-     * This is a RegEx pattern because we want it to work even if there are
-     * spaces between the | and the -. Both "| -" and "|-" line endings
-     * should be fine.
-     * E.g.
-     * <pre>
-     *     foldedSequence: |-
-     *       some
-     *       sequence
-     *       values
-     * </pre>
-     */
-    static final String FOLDED_SEQUENCE = "^.+\\|[ ]*\\-$";
 }
@@ -27,10 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * YamlLines implementation that looks for the lines which have
@@ -72,22 +70,21 @@ final class GreaterIndentation implements YamlLines {
      */
     @Override
     public Iterator<YamlLine> iterator() {
-        Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        if (iterator.hasNext()) {
-            final List<YamlLine> greater = new ArrayList<>();
-            while (iterator.hasNext()) {
-                YamlLine current = iterator.next();
-                if(current.indentation() > this.reference.indentation()) {
-                    greater.add(current);
-                } else if (
-                    current.indentation() <= this.reference.indentation()
-                ) {
-                    break;
+        final Iterator<YamlLine> iterator = this.yamlLines.iterator();
+        final int indentation = this.reference.indentation();
+        return new LookAheadIterator() {
+            @Override
+            protected YamlLine fetch() {
+                YamlLine found = null;
+                if(iterator.hasNext()) {
+                    final YamlLine current = iterator.next();
+                    if(current.indentation() > indentation) {
+                        found = current;
+                    }
                 }
+                return found;
             }
-            iterator = greater.iterator();
-        }
-        return iterator;
+        };
     }
 
     @Override
@@ -95,6 +92,11 @@ final class GreaterIndentation implements YamlLines {
         return this.yamlLines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.yamlLines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
@@ -86,6 +86,11 @@ final class Indented implements YamlLine {
         return this.original.requireNestedIndentation();
     }
 
+    @Override
+    public LineKind kind() {
+        return this.original.kind();
+    }
+
     @Override
     public int compareTo(final YamlLine other) {
         return this.original.compareTo(other);
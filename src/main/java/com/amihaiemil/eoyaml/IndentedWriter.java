@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Writer of the pieces of printed YAML: indentation, (escaped) values
+ * and comments. Everything is written straight to the decorated Writer:
+ * the indentation comes from a shared array of spaces and multiline
+ * values are written line by line, without splitting them into new
+ * Strings. It is shared by {@link RtYamlPrinter} and
+ * {@link RtYamlGenerator}, so they print the same way.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class IndentedWriter implements Closeable, Flushable {
+
+    /**
+     * Spaces used for indentation.
+     */
+    private static final char[] SPACES = IndentedWriter.spaces(64);
+
+    /**
+     * Line separator.
+     */
+    private static final String NEW_LINE = System.lineSeparator();
+
+    /**
+     * Decorated writer.
+     */
+    private final Writer writer;
+
+    /**
+     * Ctor.
+     * @param writer Decorated writer.
+     */
+    IndentedWriter(final Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Write some text, as it is.
+     * @param text Text.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void write(final String text) throws IOException {
+        this.writer.write(text);
+    }
+
+    /**
+     * Write a character.
+     * @param chr Character.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void write(final char chr) throws IOException {
+        this.writer.write(chr);
+    }
+
+    /**
+     * Write the line separator.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void newLine() throws IOException {
+        this.writer.write(NEW_LINE);
+    }
+
+    /**
+     * Write the given number of spaces.
+     * @param indentation Number of spaces.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void indent(final int indentation) throws IOException {
+        int spaces = indentation;
+        while(spaces > 0) {
+            final int chunk = Math.min(spaces, SPACES.length);
+            this.writer.write(SPACES, 0, chunk);
+            spaces = spaces - chunk;
+        }
+    }
+
+    /**
+     * Write an inline comment, if it is not empty.
+     * @param comment Comment.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void inline(final String comment) throws IOException {
+        if(!comment.isEmpty()) {
+            this.writer.write(" # ");
+            this.writer.write(comment);
+        }
+    }
+
+    /**
+     * Write a value, in quotes if it has special characters.
+     * @param value Value.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void escaped(final String value) throws IOException {
+        final char quote = RtYamlPrinter.Escaped.quote(value);
+        if(quote == 0) {
+            this.lines(value, 0, false);
+        } else {
+            this.writer.write(quote);
+            this.writer.write(value);
+            this.writer.write(quote);
+        }
+    }
+
+    /**
+     * Write the lines of a value, each one indented. The lines are the
+     * ones String.split(lineSeparator) would give: the empty lines at
+     * the end are left out.
+     * @param value Value.
+     * @param indentation Indentation of each line.
+     * @param comment Are these comment lines? Then each one starts
+     *  with "# " and is followed by a new line.
+     * @throws IOException If any I/O problem occurs.
+     */
+    void lines(
+        final String value, final int indentation, final boolean comment
+    ) throws IOException {
+        int end = value.length();
+        if(value.contains(NEW_LINE)) {
+            while(end > 0
+                && value.startsWith(NEW_LINE, end - NEW_LINE.length())) {
+                end = end - NEW_LINE.length();
+            }
+        } else {
+            end = end + 1;
+        }
+        int from = 0;
+        while(from < end) {
+            int next = value.indexOf(NEW_LINE, from);
+            if(next < 0 || next > end) {
+                next = Math.min(end, value.length());
+            }
+            this.indent(indentation);
+            if(comment) {
+                this.writer.write("# ");
+            }
+            this.writer.write(value, from, next - from);
+            from = next + NEW_LINE.length();
+            if(comment || from < end) {
+                this.writer.write(NEW_LINE);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    /**
+     * An array of spaces.
+     * @param size Size.
+     * @return Array of chars.
+     */
+    private static char[] spaces(final int size) {
+        final char[] spaces = new char[size];
+        Arrays.fill(spaces, ' ');
+        return spaces;
+    }
+}
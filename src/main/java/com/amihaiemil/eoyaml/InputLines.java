@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Lazy iterator over the YAML lines read from a BufferedReader.
+ * Empty lines are ignored.<br><br>
+ * If a line starts with a sequence marker ("-") and the first unescaped
+ * key:value is on the same line, then the line is split: the "-" is kept
+ * on the same indentation and the key:value is moved on the next line,
+ * indented by 2 spaces relative to the "-" (see
+ * https://github.com/decorators-squad/eo-yaml/issues/447). The numbers of
+ * all the following lines are increased by one.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class InputLines extends LookAheadIterator {
+
+    /**
+     * Reader of the lines.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Number of the next line.
+     */
+    private int number;
+
+    /**
+     * Second half of a split line, waiting to be iterated.
+     */
+    private YamlLine pending;
+
+    /**
+     * Ctor.
+     * @param reader Reader of the lines.
+     */
+    InputLines(final BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Fetch the next line.
+     * @return YamlLine or null if there are no more lines.
+     * @throws UncheckedIOException If the lines cannot be read.
+     */
+    @Override
+    protected YamlLine fetch() {
+        YamlLine fetched = this.pending;
+        this.pending = null;
+        while(fetched == null) {
+            final String line;
+            try {
+                line = this.reader.readLine();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            if(line == null) {
+                break;
+            }
+            fetched = this.yamlLine(line);
+        }
+        return fetched;
+    }
+
+    /**
+     * Turn the read line into a YamlLine, splitting it if a mapping starts
+     * right after the dash.
+     * @param line Read line.
+     * @return YamlLine or null if the line is empty.
+     */
+    private YamlLine yamlLine(final String line) {
+        YamlLine read = null;
+        final String trimmed = line.trim();
+        if(LineKind.from(trimmed).dashMapping()) {
+            final String indent = line.substring(
+                0, new RtYamlLine(line, this.number).indentation()
+            );
+            read = new RtYamlLine(indent + "-", this.number);
+            this.number = this.number + 1;
+            this.pending = new RtYamlLine(
+                indent + "  " + trimmed.substring(1).trim(), this.number
+            );
+        } else if(!trimmed.isEmpty()) {
+            read = new RtYamlLine(line, this.number);
+        }
+        this.number = this.number + 1;
+        return read;
+    }
+}
@@ -2,7 +2,12 @@ package com.amihaiemil.eoyaml;
 
 import javax.json.JsonObject;
 import javax.json.JsonValue;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,6 +45,18 @@ final class JsonYamlMapping extends BaseYamlMapping {
         return new JsonYamlDump(jsonValue).dump();
     }
 
+    @Override
+    public Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        final List<Map.Entry<YamlNode, YamlNode>> entries =
+            new ArrayList<>(this.object.size());
+        this.object.forEach((key, value) -> entries.add(
+            new AbstractMap.SimpleImmutableEntry<>(
+                new PlainStringScalar(key), new JsonYamlDump(value).dump()
+            )
+        ));
+        return entries;
+    }
+
     @Override
     public Comment comment() {
         return new Comment() {
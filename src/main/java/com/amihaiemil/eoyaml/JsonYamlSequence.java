@@ -32,6 +32,20 @@ final class JsonYamlSequence extends BaseYamlSequence {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public YamlNode get(final int index) {
+        YamlNode found = null;
+        if(index >= 0 && index < this.array.size()) {
+            found = new JsonYamlDump(this.array.get(index)).dump();
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        return this.array.size();
+    }
+
     @Override
     public Comment comment() {
         return new Comment() {
@@ -0,0 +1,451 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index of the String keys of a {@link ReadYamlMapping}. It maps the
+ * key text, without quotes, to the line where the key is found, for each
+ * spelling of the key (plain, double-quoted or single-quoted), together
+ * with the kind of value found on that line.<br><br>
+ * It is built in one pass over the mapping's significant lines and it
+ * holds only the real key of each line, the same one read by
+ * {@link ReadYamlMapping#keys()}, so a key is found if and only if it is
+ * one of the mapping's keys.
+ * It keeps no lines and no Strings: each key is only a row in some
+ * arrays (its hash, the position of its line and where the key is found
+ * on the line) and the key texts are compared with the lines at lookup.
+ * @checkstyle ExecutableStatementCount (300 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class KeysIndex {
+
+    /**
+     * Plain spelling of a key.
+     */
+    private static final int PLAIN = 0;
+
+    /**
+     * Double-quoted spelling of a key.
+     */
+    private static final int DOUBLE_QUOTED = 1;
+
+    /**
+     * Single-quoted spelling of a key.
+     */
+    private static final int SINGLE_QUOTED = 2;
+
+    /**
+     * Number of kinds, used to pack the spelling and the kind of a key
+     * in one integer.
+     */
+    private static final int KINDS = Kind.values().length;
+
+    /**
+     * Significant lines of the mapping.
+     */
+    private final List<YamlLine> lines;
+
+    /**
+     * Hash of each key.
+     */
+    private int[] hashes;
+
+    /**
+     * Position of each key's line.
+     */
+    private int[] rows;
+
+    /**
+     * Where each key starts on its trimmed line.
+     */
+    private int[] starts;
+
+    /**
+     * Where each key ends on its trimmed line.
+     */
+    private int[] ends;
+
+    /**
+     * Spelling and kind of each key.
+     */
+    private int[] kinds;
+
+    /**
+     * Number of keys.
+     */
+    private int count;
+
+    /**
+     * Open-addressing hash table of the keys, by hash. Each slot holds
+     * a key plus one, or zero if it is empty.
+     */
+    private int[] table;
+
+    /**
+     * Ctor.
+     * @param lines Significant lines of the mapping.
+     */
+    KeysIndex(final List<YamlLine> lines) {
+        this.lines = lines;
+        this.hashes = new int[0];
+        this.rows = new int[0];
+        this.starts = new int[0];
+        this.ends = new int[0];
+        this.kinds = new int[0];
+        this.table = new int[2];
+        boolean first = true;
+        for(int row = 0; row < lines.size(); ++row) {
+            if(this.index(row, lines.get(row).trimmed(), first)) {
+                first = false;
+            }
+        }
+        this.hashes = Arrays.copyOf(this.hashes, this.count);
+        this.rows = Arrays.copyOf(this.rows, this.count);
+        this.starts = Arrays.copyOf(this.starts, this.count);
+        this.ends = Arrays.copyOf(this.ends, this.count);
+        this.kinds = Arrays.copyOf(this.kinds, this.count);
+    }
+
+    /**
+     * Find the line of the given key. If it's found with more spellings,
+     * the plain one wins, then the double-quoted one; if it's found more
+     * times with the same spelling, the first line wins.
+     * @param key Key, as it was given by the user.
+     * @return KeyLine or null if the key is not found.
+     */
+    KeyLine find(final String key) {
+        final int hash = key.hashCode();
+        final int mask = this.table.length - 1;
+        int best = -1;
+        int slot = hash & mask;
+        while(this.table[slot] != 0) {
+            final int found = this.table[slot] - 1;
+            if(this.hashes[found] == hash && this.matches(found, key)
+                && this.better(found, best)) {
+                best = found;
+            }
+            slot = (slot + 1) & mask;
+        }
+        KeyLine line = null;
+        if(best >= 0) {
+            line = new KeyLine(
+                this.lines.get(this.rows[best]),
+                Kind.values()[this.kinds[best] % KINDS]
+            );
+        }
+        return line;
+    }
+
+    /**
+     * Is the key found at the given index better than the best one
+     * found so far? A spelling is better than the ones after it and,
+     * for the same spelling, an earlier key is better.
+     * @param found Index of the key.
+     * @param best Index of the best key so far, -1 if there is none.
+     * @return True or false.
+     */
+    private boolean better(final int found, final int best) {
+        boolean better = true;
+        if(best >= 0) {
+            final int spelling = this.kinds[found] / KINDS;
+            final int other = this.kinds[best] / KINDS;
+            better = spelling < other || spelling == other && found < best;
+        }
+        return better;
+    }
+
+    /**
+     * Does the key found at the given index have the given text?
+     * @param found Index of the key.
+     * @param key Key text.
+     * @return True or false.
+     */
+    private boolean matches(final int found, final String key) {
+        final int start = this.starts[found];
+        return this.ends[found] - start == key.length()
+            && this.lines.get(this.rows[found]).trimmed().regionMatches(
+                start, key, 0, key.length()
+            );
+    }
+
+    /**
+     * Position of the colon which ends the key of a line: the first colon
+     * after the closing quote, if the key is quoted, or the first colon
+     * of the line, otherwise.
+     * @param trimmed Trimmed line.
+     * @param start Where the key starts, maybe after some spaces.
+     * @return Position of the colon or -1 if there is none.
+     */
+    static int colon(final String trimmed, final int start) {
+        int key = start;
+        while(key < trimmed.length() && trimmed.charAt(key) == ' ') {
+            key = key + 1;
+        }
+        int colon = -1;
+        if(key < trimmed.length()
+            && (trimmed.charAt(key) == '"' || trimmed.charAt(key) == '\'')) {
+            final int closing = trimmed.indexOf(trimmed.charAt(key), key + 1);
+            if(closing > 0) {
+                colon = trimmed.indexOf(':', closing);
+            }
+        }
+        if(colon < 0) {
+            colon = trimmed.indexOf(':', start);
+        }
+        return colon;
+    }
+
+    /**
+     * Index the key of the given line, read the same way
+     * {@link ReadYamlMapping} reads its keys. Lines starting with a colon
+     * and, except for the first line, lines starting with a dash have no
+     * key; complex keys ("?") are not indexed.
+     * @param row Position of the line.
+     * @param trimmed Trimmed line.
+     * @param first Is this the first line with a key?
+     * @return True if the line has a key, even if it's not indexed.
+     */
+    private boolean index(
+        final int row, final String trimmed, final boolean first
+    ) {
+        boolean keyed = false;
+        if(!trimmed.startsWith(":")
+            && (first || !trimmed.startsWith("-"))) {
+            int start = 0;
+            if(trimmed.startsWith("-")) {
+                start = 1;
+            }
+            final int colon = KeysIndex.colon(trimmed, start);
+            keyed = colon >= 0 || "?".equals(trimmed);
+            if(colon >= 0) {
+                this.candidate(row, trimmed, start, colon);
+            }
+        }
+        return keyed;
+    }
+
+    /**
+     * Register the key of a line, if it's not empty, with the kind of
+     * its value. The spaces around the key are not part of it.
+     * @param row Position of the line.
+     * @param trimmed Trimmed line.
+     * @param from Where the key starts on the line, maybe with spaces.
+     * @param colon Where the colon after the key is.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private void candidate(
+        final int row, final String trimmed, final int from, final int colon
+    ) {
+        final int start = trimmed.length()
+            - KeysIndex.spacesSkipped(trimmed, from).length();
+        int end = colon;
+        while(end > start && trimmed.charAt(end - 1) == ' ') {
+            end = end - 1;
+        }
+        final int kind = KeysIndex.kind(
+            KeysIndex.spacesSkipped(trimmed, colon + 1)
+        ).ordinal();
+        if(end > start) {
+            this.register(row, trimmed, start, end, PLAIN * KINDS + kind);
+        }
+        if(end - start > 1) {
+            final char first = trimmed.charAt(start);
+            final char last = trimmed.charAt(end - 1);
+            if(first == '"' && last == '"') {
+                this.register(
+                    row, trimmed, start + 1, end - 1,
+                    DOUBLE_QUOTED * KINDS + kind
+                );
+            } else if(first == '\'' && last == '\'') {
+                this.register(
+                    row, trimmed, start + 1, end - 1,
+                    SINGLE_QUOTED * KINDS + kind
+                );
+            }
+        }
+    }
+
+    /**
+     * Register a key.
+     * @param row Position of the line.
+     * @param trimmed Trimmed line.
+     * @param start Where the key starts on the line.
+     * @param end Where the key ends on the line.
+     * @param kind Spelling and kind of the key.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private void register(
+        final int row, final String trimmed,
+        final int start, final int end, final int kind
+    ) {
+        if(this.count == this.rows.length) {
+            final int size = this.count * 2 + 1;
+            this.hashes = Arrays.copyOf(this.hashes, size);
+            this.rows = Arrays.copyOf(this.rows, size);
+            this.starts = Arrays.copyOf(this.starts, size);
+            this.ends = Arrays.copyOf(this.ends, size);
+            this.kinds = Arrays.copyOf(this.kinds, size);
+        }
+        int hash = 0;
+        for(int idx = start; idx < end; ++idx) {
+            hash = 31 * hash + trimmed.charAt(idx);
+        }
+        this.hashes[this.count] = hash;
+        this.rows[this.count] = row;
+        this.starts[this.count] = start;
+        this.ends[this.count] = end;
+        this.kinds[this.count] = kind;
+        this.count = this.count + 1;
+        if(this.count * 2 > this.table.length) {
+            this.table = new int[this.table.length * 2];
+            for(int key = 0; key < this.count; ++key) {
+                this.slot(key);
+            }
+        } else {
+            this.slot(this.count - 1);
+        }
+    }
+
+    /**
+     * Put the given key in the first free slot of the table.
+     * @param key Index of the key.
+     */
+    private void slot(final int key) {
+        final int mask = this.table.length - 1;
+        int slot = this.hashes[key] & mask;
+        while(this.table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = key + 1;
+    }
+
+    /**
+     * Kind of the value of a key.
+     * @param value Text after the key and the colon, without the
+     *  leading spaces.
+     * @return Kind.
+     */
+    private static Kind kind(final String value) {
+        Kind kind = Kind.PLAIN;
+        if(value.isEmpty() || ">".equals(value) || "|".equals(value)) {
+            kind = Kind.NODE;
+        } else if("{}".equals(value)) {
+            kind = Kind.EMPTY_MAPPING;
+        } else if("[]".equals(value)) {
+            kind = Kind.EMPTY_SEQUENCE;
+        }
+        return kind;
+    }
+
+    /**
+     * The text starting at the given index, after skipping any spaces.
+     * @param text Text.
+     * @param index Where to start.
+     * @return String.
+     */
+    private static String spacesSkipped(final String text, final int index) {
+        int start = index;
+        while(start < text.length() && text.charAt(start) == ' ') {
+            start = start + 1;
+        }
+        return text.substring(start);
+    }
+
+    /**
+     * Kind of value found on a key's line.
+     */
+    enum Kind {
+        /**
+         * The value is a node starting on the next lines (or a block
+         * scalar).
+         */
+        NODE,
+        /**
+         * The value is an empty flow mapping.
+         */
+        EMPTY_MAPPING,
+        /**
+         * The value is an empty flow sequence.
+         */
+        EMPTY_SEQUENCE,
+        /**
+         * The value is a plain scalar on the same line.
+         */
+        PLAIN,
+    }
+
+    /**
+     * Line of a key, with the kind of its value.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    static final class KeyLine {
+
+        /**
+         * Line of the key.
+         */
+        private final YamlLine line;
+
+        /**
+         * Kind of the value.
+         */
+        private final Kind kind;
+
+        /**
+         * Ctor.
+         * @param line Line of the key.
+         * @param kind Kind of the value.
+         */
+        KeyLine(final YamlLine line, final Kind kind) {
+            this.line = line;
+            this.kind = kind;
+        }
+
+        /**
+         * Line of the key.
+         * @return YamlLine.
+         */
+        YamlLine line() {
+            return this.line;
+        }
+
+        /**
+         * Kind of the value.
+         * @return Kind.
+         */
+        Kind kind() {
+            return this.kind;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * YAML Stream which reads its documents from the input one by one, as they
+ * are consumed. Only the lines of the document being read are kept in
+ * memory, so the documents which were already consumed can be garbage
+ * collected.<br><br>
+ * Just like any java.util.stream.Stream, it can be consumed only once:
+ * after a Stream operation (e.g. forEach, filter, findFirst), any other
+ * operation, including {@link #values()}, throws IllegalStateException.
+ * Once consumed this way, it is printed as a short description and it is
+ * equal only to itself.
+ * If {@link #values()} is called first, all the documents are read
+ * and remembered, so the Stream operations can be used any number of
+ * times.<br><br>
+ * Call {@link #close()} to close the input when you don't need it anymore.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class LazyYamlStream extends BaseYamlStream {
+
+    /**
+     * Reader of the input.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Documents, read from the input as they are iterated.
+     */
+    private final Iterator<YamlNode> documents;
+
+    /**
+     * Lock for reading the documents.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Have the documents been handed out?
+     */
+    private boolean consumed;
+
+    /**
+     * All the documents, if they have been read with values().
+     */
+    private List<YamlNode> read;
+
+    /**
+     * Constructor.
+     * @param reader Reader of the input.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    LazyYamlStream(
+        final BufferedReader reader,
+        final boolean guessIndentation
+    ) {
+        this(reader, guessIndentation, true);
+    }
+
+    /**
+     * Constructor.
+     * @param reader Reader of the input.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     * @param readComments Are comments read? If not, the comment lines
+     *  are still read, but never looked at.
+     */
+    LazyYamlStream(
+        final BufferedReader reader,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) {
+        this.reader = reader;
+        this.documents = new Documents(
+            new InputLines(reader), guessIndentation, readComments
+        );
+    }
+
+    @Override
+    public Collection<YamlNode> values() {
+        synchronized (this.lock) {
+            if(this.read == null) {
+                this.claim();
+                final List<YamlNode> all = new ArrayList<>();
+                this.documents.forEachRemaining(all::add);
+                this.read = Collections.unmodifiableList(all);
+                this.close();
+            }
+            return this.read;
+        }
+    }
+
+    @Override
+    public Spliterator<YamlNode> spliterator() {
+        synchronized (this.lock) {
+            final Spliterator<YamlNode> spliterator;
+            if(this.read == null) {
+                this.claim();
+                spliterator = Spliterators.spliteratorUnknownSize(
+                    this.documents, Spliterator.ORDERED | Spliterator.NONNULL
+                );
+            } else {
+                spliterator = this.read.spliterator();
+            }
+            return spliterator;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        final int hash;
+        if(this.spent()) {
+            hash = System.identityHashCode(this);
+        } else {
+            hash = super.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        final boolean result;
+        if(this.spent()) {
+            result = this == other;
+        } else {
+            result = super.equals(other);
+        }
+        return result;
+    }
+
+    @Override
+    String printed() {
+        final String printed;
+        if(this.spent()) {
+            printed = "YamlStream read lazily, already consumed.";
+        } else {
+            printed = super.printed();
+        }
+        return printed;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.reader.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Have the documents been handed out to a Stream operation, without
+     * being remembered?
+     * @return True or false.
+     */
+    private boolean spent() {
+        synchronized (this.lock) {
+            return this.consumed && this.read == null;
+        }
+    }
+
+    /**
+     * Hand out the documents, making sure it happens only once.
+     * @throws IllegalStateException If the documents were already
+     *  handed out.
+     */
+    private void claim() {
+        if(this.consumed) {
+            throw new IllegalStateException(
+                "This YamlStream is read lazily and it has already been "
+                + "consumed. Call values() first if you need to use it "
+                + "more times."
+            );
+        }
+        this.consumed = true;
+    }
+}
@@ -0,0 +1,611 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * The kind of a YAML line, as told by its trimmed contents. The line is
+ * classified with a few hand-written scans, instead of regular
+ * expressions, and the result is kept as a set of bit flags, so it can be
+ * cached by the line (see {@link YamlLine#kind()}).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class LineKind {
+
+    /**
+     * Comment line (starts with #).
+     */
+    private static final int COMMENT = 1;
+
+    /**
+     * Directive (starts with %).
+     */
+    private static final int DIRECTIVE = 1 << 1;
+
+    /**
+     * Document start marker (starts with ---).
+     */
+    private static final int START = 1 << 2;
+
+    /**
+     * Document end marker (starts with ...).
+     */
+    private static final int END = 1 << 3;
+
+    /**
+     * Tag line (starts with !!).
+     */
+    private static final int TAG = 1 << 4;
+
+    /**
+     * Line starting with a dash.
+     */
+    private static final int DASH = 1 << 5;
+
+    /**
+     * Sequence item: the dash alone or followed by a space.
+     */
+    private static final int ITEM = 1 << 6;
+
+    /**
+     * A dash followed by a key and a colon.
+     */
+    private static final int DASH_KEY = 1 << 7;
+
+    /**
+     * A dash followed by a key, a colon and a value.
+     */
+    private static final int DASH_MAPPING = 1 << 8;
+
+    /**
+     * A dash followed by a quoted scalar.
+     */
+    private static final int DASH_QUOTED = 1 << 9;
+
+    /**
+     * A dash followed by an empty flow mapping.
+     */
+    private static final int DASH_EMPTY_MAPPING = 1 << 10;
+
+    /**
+     * A dash followed by an empty flow sequence.
+     */
+    private static final int DASH_EMPTY_SEQUENCE = 1 << 11;
+
+    /**
+     * Key, followed by a colon and either a space or the end of the line.
+     */
+    private static final int KEY = 1 << 12;
+
+    /**
+     * Complex key marker (?).
+     */
+    private static final int COMPLEX_KEY = 1 << 13;
+
+    /**
+     * Value of a complex key (starts with :).
+     */
+    private static final int COMPLEX_VALUE = 1 << 14;
+
+    /**
+     * Value of a complex key which is a block scalar.
+     */
+    private static final int COMPLEX_BLOCK = 1 << 15;
+
+    /**
+     * Ends with |, a literal block scalar follows.
+     */
+    private static final int LITERAL = 1 << 16;
+
+    /**
+     * Ends with &gt;, a folded block scalar follows.
+     */
+    private static final int FOLDED = 1 << 17;
+
+    /**
+     * Ends with |-, a folded sequence follows. There may be spaces between
+     * the | and the -. E.g.
+     * <pre>
+     *     foldedSequence: |-
+     *       some
+     *       sequence
+     *       values
+     * </pre>
+     */
+    private static final int FOLDED_SEQUENCE = 1 << 18;
+
+    /**
+     * Flags of the lines which are ignored when reading nodes.
+     */
+    private static final int INSIGNIFICANT =
+        COMMENT | DIRECTIVE | START | END | TAG;
+
+    /**
+     * Kind of the empty line.
+     */
+    private static final LineKind EMPTY = new LineKind(0);
+
+    /**
+     * Flags.
+     */
+    private final int flags;
+
+    /**
+     * Ctor.
+     * @param flags Flags.
+     */
+    private LineKind(final int flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Classify the given trimmed line.
+     * @param trimmed Trimmed line.
+     * @return LineKind.
+     */
+    static LineKind from(final String trimmed) {
+        final LineKind kind;
+        if(trimmed.isEmpty()) {
+            kind = EMPTY;
+        } else {
+            kind = new LineKind(
+                LineKind.start(trimmed)
+                | LineKind.dash(trimmed)
+                | LineKind.key(trimmed)
+                | LineKind.complex(trimmed)
+                | LineKind.ending(trimmed)
+            );
+        }
+        return kind;
+    }
+
+    /**
+     * Position of the first colon which is not inside a quoted scalar and
+     * which is followed by a space or by the end of the line, starting
+     * from the given index. Quotes are considered only if they start the
+     * line or come after a space, so apostrophes inside plain scalars
+     * are ignored.
+     * @param text Trimmed line.
+     * @param from Where to start looking.
+     * @return Position or -1 if there is no such colon.
+     */
+    static int colon(final String text, final int from) {
+        int found = -1;
+        int idx = from;
+        while(idx < text.length()) {
+            final char current = text.charAt(idx);
+            if(current == ':' && LineKind.indicator(text, idx)) {
+                found = idx;
+                break;
+            } else if(LineKind.opensQuote(text, idx)) {
+                idx = LineKind.closingQuote(text, idx);
+            }
+            idx = idx + 1;
+        }
+        return found;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof LineKind
+            && ((LineKind) other).flags == this.flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.flags;
+    }
+
+    /**
+     * Is this line significant for the structure of the document?
+     * Comments, directives, document markers and tags are not.
+     * @return True or false.
+     */
+    boolean significant() {
+        return (this.flags & INSIGNIFICANT) == 0;
+    }
+
+    /**
+     * Is this a comment line?
+     * @return True or false.
+     */
+    boolean comment() {
+        return this.has(COMMENT);
+    }
+
+    /**
+     * Does the line start with a dash?
+     * @return True or false.
+     */
+    boolean dash() {
+        return this.has(DASH);
+    }
+
+    /**
+     * Is this a sequence item (the dash is alone or followed by a space)?
+     * @return True or false.
+     */
+    boolean item() {
+        return this.has(ITEM);
+    }
+
+    /**
+     * Is this a dash followed by a key and a colon, such as "- key:" or
+     * "- key: value"?
+     * @return True or false.
+     */
+    boolean dashKey() {
+        return this.has(DASH_KEY);
+    }
+
+    /**
+     * Does a mapping start right after the dash, with its first key and
+     * value on this line? E.g. "- key: value".
+     * @return True or false.
+     */
+    boolean dashMapping() {
+        return this.has(DASH_MAPPING);
+    }
+
+    /**
+     * Is this a dash followed by a quoted scalar?
+     * @return True or false.
+     */
+    boolean dashQuoted() {
+        return this.has(DASH_QUOTED);
+    }
+
+    /**
+     * Is this a dash followed by an empty flow mapping?
+     * @return True or false.
+     */
+    boolean dashEmptyMapping() {
+        return this.has(DASH_EMPTY_MAPPING);
+    }
+
+    /**
+     * Is this a dash followed by an empty flow sequence?
+     * @return True or false.
+     */
+    boolean dashEmptySequence() {
+        return this.has(DASH_EMPTY_SEQUENCE);
+    }
+
+    /**
+     * Does the line start with a key (plain or quoted), followed by a
+     * colon?
+     * @return True or false.
+     */
+    boolean key() {
+        return this.has(KEY);
+    }
+
+    /**
+     * Is this a complex key marker (?)?
+     * @return True or false.
+     */
+    boolean complexKey() {
+        return this.has(COMPLEX_KEY);
+    }
+
+    /**
+     * Does the line start with the colon of a complex key's value?
+     * @return True or false.
+     */
+    boolean complexValue() {
+        return this.has(COMPLEX_VALUE);
+    }
+
+    /**
+     * Is the complex key's value a block scalar (":" followed by
+     * "|" or "&gt;")?
+     * @return True or false.
+     */
+    boolean complexBlock() {
+        return this.has(COMPLEX_BLOCK);
+    }
+
+    /**
+     * Does a literal block scalar follow (the line ends with |)?
+     * @return True or false.
+     */
+    boolean literal() {
+        return this.has(LITERAL);
+    }
+
+    /**
+     * Does a folded block scalar follow (the line ends with &gt;)?
+     * @return True or false.
+     */
+    boolean folded() {
+        return this.has(FOLDED);
+    }
+
+    /**
+     * Does a folded sequence follow (the line ends with |-)?
+     * @return True or false.
+     */
+    boolean foldedSequence() {
+        return this.has(FOLDED_SEQUENCE);
+    }
+
+    /**
+     * Is the given flag set?
+     * @param flag Flag.
+     * @return True or false.
+     */
+    private boolean has(final int flag) {
+        return (this.flags & flag) != 0;
+    }
+
+    /**
+     * Flags given by how the line starts.
+     * @param trimmed Trimmed line.
+     * @return Flags.
+     */
+    private static int start(final String trimmed) {
+        final int flags;
+        final char first = trimmed.charAt(0);
+        if(first == '#') {
+            flags = COMMENT;
+        } else if(first == '%') {
+            flags = DIRECTIVE;
+        } else if(trimmed.startsWith("---")) {
+            flags = START;
+        } else if(trimmed.startsWith("...")) {
+            flags = END;
+        } else if(trimmed.startsWith("!!")) {
+            flags = TAG;
+        } else {
+            flags = 0;
+        }
+        return flags;
+    }
+
+    /**
+     * Flags of a line starting with a dash.
+     * @param trimmed Trimmed line.
+     * @return Flags.
+     */
+    private static int dash(final String trimmed) {
+        int flags = 0;
+        if(trimmed.charAt(0) == '-') {
+            flags = DASH;
+            if(trimmed.length() == 1 || trimmed.charAt(1) == ' ') {
+                flags = flags | ITEM;
+            }
+            final String rest = LineKind.spacesSkipped(trimmed, 1);
+            if(LineKind.quoted(rest)) {
+                flags = flags | DASH_QUOTED;
+            } else if("{}".equals(rest)) {
+                flags = flags | DASH_EMPTY_MAPPING;
+            } else if("[]".equals(rest)) {
+                flags = flags | DASH_EMPTY_SEQUENCE;
+            }
+            final int colon = LineKind.anyColon(trimmed, 1);
+            if(colon > 0) {
+                flags = flags | DASH_KEY;
+                if((flags & DASH_QUOTED) == 0
+                    && colon < trimmed.length() - 1) {
+                    flags = flags | DASH_MAPPING;
+                }
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Flag of a line starting with a key followed by a colon and then
+     * by a space or the end of the line. The key is either a quoted
+     * scalar or a plain text, without quotes.
+     * @param trimmed Trimmed line.
+     * @return Flags.
+     */
+    private static int key(final String trimmed) {
+        final char first = trimmed.charAt(0);
+        final boolean key;
+        if(first == '"' || first == '\'') {
+            key = LineKind.quotedKey(trimmed);
+        } else {
+            key = LineKind.plainKey(trimmed);
+        }
+        int flags = 0;
+        if(key) {
+            flags = KEY;
+        }
+        return flags;
+    }
+
+    /**
+     * Does the line start with a quoted key, followed by a colon and then
+     * by a space or the end of the line?
+     * @param trimmed Trimmed line, starting with a quote.
+     * @return True or false.
+     */
+    private static boolean quotedKey(final String trimmed) {
+        final int after = LineKind.closingQuote(trimmed, 0) + 1;
+        return after < trimmed.length() && trimmed.charAt(after) == ':'
+            && LineKind.indicator(trimmed, after);
+    }
+
+    /**
+     * Does the line start with a plain key (no quotes), followed by a colon
+     * and then by a space or the end of the line?
+     * @param trimmed Trimmed line.
+     * @return True or false.
+     */
+    private static boolean plainKey(final String trimmed) {
+        boolean key = false;
+        int idx = 0;
+        while(idx < trimmed.length()
+            && trimmed.charAt(idx) != '"' && trimmed.charAt(idx) != '\'') {
+            if(trimmed.charAt(idx) == ':' && LineKind.indicator(trimmed, idx)) {
+                key = true;
+                break;
+            }
+            idx = idx + 1;
+        }
+        return key;
+    }
+
+    /**
+     * Is the colon at the given position followed by a space or by
+     * the end of the text?
+     * @param text Text.
+     * @param idx Position of the colon.
+     * @return True or false.
+     */
+    private static boolean indicator(final String text, final int idx) {
+        return idx == text.length() - 1 || text.charAt(idx + 1) == ' ';
+    }
+
+    /**
+     * Flags of complex keys and their values.
+     * @param trimmed Trimmed line.
+     * @return Flags.
+     */
+    private static int complex(final String trimmed) {
+        int flags = 0;
+        if("?".equals(trimmed)) {
+            flags = COMPLEX_KEY;
+        } else if(trimmed.charAt(0) == ':') {
+            flags = COMPLEX_VALUE;
+            final String rest = LineKind.spacesSkipped(trimmed, 1);
+            if(">".equals(rest) || "|".equals(rest)) {
+                flags = flags | COMPLEX_BLOCK;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Flags given by how the line ends.
+     * @param trimmed Trimmed line.
+     * @return Flags.
+     */
+    private static int ending(final String trimmed) {
+        int flags = 0;
+        final int last = trimmed.length() - 1;
+        final char end = trimmed.charAt(last);
+        if(end == '|') {
+            flags = LITERAL;
+        } else if(end == '>') {
+            flags = FOLDED;
+        } else if(end == '-' && last > 0) {
+            int idx = last - 1;
+            while(idx > 0 && trimmed.charAt(idx) == ' ') {
+                idx = idx - 1;
+            }
+            if(idx > 0 && trimmed.charAt(idx) == '|') {
+                flags = FOLDED_SEQUENCE;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Position of the first colon, starting from the given index, which
+     * is not inside a quoted scalar.
+     * @param text Trimmed line.
+     * @param from Where to start looking.
+     * @return Position or -1 if there is no such colon.
+     */
+    private static int anyColon(final String text, final int from) {
+        int found = -1;
+        int idx = from;
+        while(idx < text.length()) {
+            if(text.charAt(idx) == ':') {
+                found = idx;
+                break;
+            } else if(LineKind.opensQuote(text, idx)) {
+                idx = LineKind.closingQuote(text, idx);
+            }
+            idx = idx + 1;
+        }
+        return found;
+    }
+
+    /**
+     * Does a quoted scalar start at the given position? It does if there
+     * is a quote at the beginning of the text or after a space.
+     * @param text Text.
+     * @param idx Position.
+     * @return True or false.
+     */
+    private static boolean opensQuote(final String text, final int idx) {
+        final char current = text.charAt(idx);
+        return (current == '"' || current == '\'')
+            && (idx == 0 || text.charAt(idx - 1) == ' ');
+    }
+
+    /**
+     * Position of the quote which closes the quoted scalar opened at the
+     * given position. Backslash escapes are skipped.
+     * @param text Text.
+     * @param opening Position of the opening quote.
+     * @return Position of the closing quote or the end of the text if
+     *  the quote is not closed.
+     */
+    private static int closingQuote(final String text, final int opening) {
+        final char quote = text.charAt(opening);
+        int idx = opening + 1;
+        while(idx < text.length() && text.charAt(idx) != quote) {
+            if(text.charAt(idx) == '\\') {
+                idx = idx + 1;
+            }
+            idx = idx + 1;
+        }
+        return Math.min(idx, text.length());
+    }
+
+    /**
+     * Is the whole text a quoted scalar?
+     * @param text Text.
+     * @return True or false.
+     */
+    private static boolean quoted(final String text) {
+        return !text.isEmpty()
+            && (text.charAt(0) == '"' || text.charAt(0) == '\'')
+            && LineKind.closingQuote(text, 0) == text.length() - 1;
+    }
+
+    /**
+     * The text starting at the given index, after skipping any spaces.
+     * @param text Text.
+     * @param index Where to start.
+     * @return String.
+     */
+    private static String spacesSkipped(final String text, final int index) {
+        int start = index;
+        while(start < text.length() && text.charAt(start) == ' ') {
+            start = start + 1;
+        }
+        return text.substring(start);
+    }
+}
@@ -0,0 +1,508 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Columnar table of the lines of a YAML document. All the lines share
+ * the same CharSequence with the contents of the document and each line is
+ * only a row in some arrays: where its contents start (after the
+ * indentation), their length, the indentation, the kind of the line,
+ * where its comment starts and the line number. The lines are handed out
+ * as {@link TableLine} flyweights, which are created when needed and
+ * hold nothing but the table and the row.<br><br>
+ * The lines are the same as the ones read by {@link InputLines}: empty
+ * lines are ignored and a line which has a mapping right after the dash
+ * is split in two.<br><br>
+ * If comments are not read, comment lines are dropped and the inline
+ * comments are cut off from the contents of their lines, except inside
+ * block scalars.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class LineTable extends AbstractList<YamlLine> implements RandomAccess {
+
+    /**
+     * Contents of the document.
+     */
+    private final CharSequence chars;
+
+    /**
+     * Kinds of lines found in the document. The kind of a line is kept as
+     * its position in this list, plus one. Zero means the kind was not
+     * kept (there were too many kinds), so it is classified again.
+     */
+    private final List<LineKind> kinds;
+
+    /**
+     * Positions of the kinds of lines found in the document, plus one.
+     */
+    private final Map<LineKind, Integer> known;
+
+    /**
+     * Which rows to keep.
+     */
+    private final Filter filter;
+
+    /**
+     * Are comments read?
+     */
+    private final boolean comments;
+
+    /**
+     * Indentation of the line which starts the current block scalar,
+     * or -1. Only used when comments are not read.
+     */
+    private int block;
+
+    /**
+     * Number of rows.
+     */
+    private int rows;
+
+    /**
+     * Where the contents of each line start, after the indentation.
+     */
+    private int[] start;
+
+    /**
+     * Length of the contents of each line, after the indentation.
+     */
+    private int[] length;
+
+    /**
+     * Indentation of each line.
+     */
+    private short[] indentation;
+
+    /**
+     * Kind of each line.
+     */
+    private byte[] kind;
+
+    /**
+     * Where the comment of each line starts (the position of '#') or
+     * where the line ends, if it has no comment.
+     */
+    private int[] comment;
+
+    /**
+     * Number of each line.
+     */
+    private int[] number;
+
+    /**
+     * Ctor.
+     * @param chars Contents of the document. They are not copied, so they
+     *  should not change while the lines are used.
+     */
+    LineTable(final CharSequence chars) {
+        this(chars, (indent, trimmed, classified) -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param chars Contents of the document. They are not copied, so they
+     *  should not change while the lines are used.
+     * @param filter Which rows to keep.
+     */
+    LineTable(final CharSequence chars, final Filter filter) {
+        this(chars, filter, true);
+    }
+
+    /**
+     * Ctor.
+     * @param chars Contents of the document. They are not copied, so they
+     *  should not change while the lines are used.
+     * @param filter Which rows to keep.
+     * @param comments Should comments be read?
+     */
+    LineTable(
+        final CharSequence chars, final Filter filter, final boolean comments
+    ) {
+        this.chars = chars;
+        this.filter = filter;
+        this.comments = comments;
+        this.block = -1;
+        this.kinds = new ArrayList<>();
+        this.known = new HashMap<>();
+        final int capacity = 16;
+        this.start = new int[capacity];
+        this.length = new int[capacity];
+        this.indentation = new short[capacity];
+        this.kind = new byte[capacity];
+        this.comment = new int[capacity];
+        this.number = new int[capacity];
+        this.build();
+    }
+
+    @Override
+    public YamlLine get(final int row) {
+        if(row < 0 || row >= this.rows) {
+            throw new IndexOutOfBoundsException(
+                "Row " + row + " out of " + this.rows
+            );
+        }
+        return new TableLine(this, row);
+    }
+
+    @Override
+    public int size() {
+        return this.rows;
+    }
+
+    /**
+     * Contents of a line, without indentation and line terminator.
+     * @param row Row.
+     * @return String.
+     */
+    String contents(final int row) {
+        return this.chars.subSequence(
+            this.start[row], this.start[row] + this.length[row]
+        ).toString();
+    }
+
+    /**
+     * Does a line have a comment, inline or on its own?
+     * @param row Row.
+     * @return True or false.
+     */
+    boolean commented(final int row) {
+        final int first = LineTable.skipped(
+            this.chars, this.start[row], this.comment[row]
+        );
+        return this.comment[row] < this.start[row] + this.length[row]
+            || first < this.comment[row] && this.chars.charAt(first) == '#';
+    }
+
+    /**
+     * Contents of a line, before the comment, trimmed.
+     * @param row Row.
+     * @return String.
+     */
+    String trimmed(final int row) {
+        int from = this.start[row];
+        int end = this.comment[row];
+        while(from < end && this.chars.charAt(from) <= ' ') {
+            from = from + 1;
+        }
+        while(end > from && this.chars.charAt(end - 1) <= ' ') {
+            end = end - 1;
+        }
+        return this.chars.subSequence(from, end).toString();
+    }
+
+    /**
+     * Indentation of a line.
+     * @param row Row.
+     * @return Indentation.
+     */
+    int indentation(final int row) {
+        return this.indentation[row];
+    }
+
+    /**
+     * Number of a line.
+     * @param row Row.
+     * @return Number.
+     */
+    int number(final int row) {
+        return this.number[row];
+    }
+
+    /**
+     * Kind of a line.
+     * @param row Row.
+     * @return LineKind.
+     */
+    LineKind kind(final int row) {
+        final LineKind found;
+        final int index = this.kind[row] & 0xFF;
+        if(index == 0) {
+            found = LineKind.from(this.trimmed(row));
+        } else {
+            found = this.kinds.get(index - 1);
+        }
+        return found;
+    }
+
+    /**
+     * Read the lines of the document.
+     */
+    private void build() {
+        final int size = this.chars.length();
+        int position = 0;
+        int line = 0;
+        while(position < size) {
+            int end = position;
+            while(end < size && this.chars.charAt(end) != '\n'
+                && this.chars.charAt(end) != '\r') {
+                end = end + 1;
+            }
+            line = this.row(position, end, line);
+            position = end + 1;
+            if(end + 1 < size && this.chars.charAt(end) == '\r'
+                && this.chars.charAt(end + 1) == '\n') {
+                position = position + 1;
+            }
+        }
+        this.rows = this.rows - this.filter.retracted(true);
+        this.start = Arrays.copyOf(this.start, this.rows);
+        this.length = Arrays.copyOf(this.length, this.rows);
+        this.indentation = Arrays.copyOf(this.indentation, this.rows);
+        this.kind = Arrays.copyOf(this.kind, this.rows);
+        this.comment = Arrays.copyOf(this.comment, this.rows);
+        this.number = Arrays.copyOf(this.number, this.rows);
+    }
+
+    /**
+     * Add the row(s) of a line, unless it is empty. If it has a mapping
+     * right after the dash, it is split in two rows.
+     * @param from Where the line starts.
+     * @param end Where the line ends (exclusive).
+     * @param line Number of the line.
+     * @return Number of the next line.
+     */
+    private int row(final int from, final int end, final int line) {
+        int next = line + 1;
+        int first = from;
+        while(first < end && this.chars.charAt(first) == ' ') {
+            first = first + 1;
+        }
+        if(LineTable.skipped(this.chars, first, end) < end) {
+            final int indent = first - from;
+            final LineKind classified = LineKind.from(
+                this.chars.subSequence(first, end).toString().trim()
+            );
+            if(classified.dashMapping()) {
+                this.add(first, first + 1, indent, line);
+                this.add(
+                    LineTable.skipped(this.chars, first + 1, end),
+                    end, indent + 2, line + 1
+                );
+                next = next + 1;
+            } else {
+                this.add(first, end, indent, line);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Add a row.
+     * @param from Where the contents start, after the indentation.
+     * @param end Where the contents end (exclusive).
+     * @param indent Indentation.
+     * @param line Number of the line.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private void add(
+        final int from, final int end, final int indent, final int line
+    ) {
+        if(this.rows == this.start.length) {
+            this.grow();
+        }
+        final int row = this.rows;
+        this.start[row] = from;
+        this.length[row] = end - from;
+        this.indentation[row] = (short) Math.min(indent, Short.MAX_VALUE);
+        this.comment[row] = LineTable.comment(this.chars, from, end);
+        this.number[row] = line;
+        final String trimmed = this.trimmed(row);
+        final LineKind classified = LineKind.from(trimmed);
+        final boolean keeps = (this.comments
+            || !this.uncommented(row, indent, trimmed, classified))
+            && this.filter.keeps(indent, trimmed, classified);
+        this.rows = row - this.filter.retracted(false);
+        if(keeps) {
+            if(this.rows < row) {
+                this.move(row, this.rows);
+            }
+            this.classify(this.rows, classified);
+            this.rows = this.rows + 1;
+        }
+    }
+
+    /**
+     * Cut off the comment of a row, when comments are not read.
+     * The lines of block scalars are left as they are.
+     * @param row Row.
+     * @param indent Indentation.
+     * @param trimmed Trimmed contents of the row.
+     * @param classified Kind of the row.
+     * @return True if the row is a comment line, which is dropped.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private boolean uncommented(
+        final int row, final int indent, final String trimmed,
+        final LineKind classified
+    ) {
+        boolean dropped = false;
+        if(this.block < 0 || indent <= this.block) {
+            dropped = classified.comment();
+            if(!dropped) {
+                this.length[row] = this.comment[row] - this.start[row];
+                if(trimmed.endsWith(Follows.LITERAL_BLOCK_SCALAR)
+                    || trimmed.endsWith(Follows.FOLDED_BLOCK_SCALAR)) {
+                    this.block = indent;
+                } else {
+                    this.block = -1;
+                }
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Move a row to an earlier position, over retracted rows.
+     * @param row Row.
+     * @param target New position of the row.
+     */
+    private void move(final int row, final int target) {
+        this.start[target] = this.start[row];
+        this.length[target] = this.length[row];
+        this.indentation[target] = this.indentation[row];
+        this.comment[target] = this.comment[row];
+        this.number[target] = this.number[row];
+    }
+
+    /**
+     * Remember the kind of a row.
+     * @param row Row.
+     * @param classified Its kind.
+     */
+    private void classify(final int row, final LineKind classified) {
+        Integer index = this.known.get(classified);
+        if(index == null && this.kinds.size() < 255) {
+            this.kinds.add(classified);
+            index = this.kinds.size();
+            this.known.put(classified, index);
+        }
+        if(index == null) {
+            this.kind[row] = 0;
+        } else {
+            this.kind[row] = (byte) index.intValue();
+        }
+    }
+
+    /**
+     * Make room for more rows.
+     */
+    private void grow() {
+        final int capacity = this.start.length * 2;
+        this.start = Arrays.copyOf(this.start, capacity);
+        this.length = Arrays.copyOf(this.length, capacity);
+        this.indentation = Arrays.copyOf(this.indentation, capacity);
+        this.kind = Arrays.copyOf(this.kind, capacity);
+        this.comment = Arrays.copyOf(this.comment, capacity);
+        this.number = Arrays.copyOf(this.number, capacity);
+    }
+
+    /**
+     * Where the comment of the given contents starts. Just like
+     * {@link RtYamlLine#trimmed()}, the '#' is not considered if it is
+     * the first char or if it is inside quotes.
+     * @param chars Chars.
+     * @param from Where the contents start.
+     * @param end Where the contents end.
+     * @return Position of the comment or end, if there is no comment.
+     */
+    private static int comment(final CharSequence chars, final int from,
+        final int end) {
+        final int first = LineTable.skipped(chars, from, end);
+        int found = end;
+        int idx = first;
+        while(idx < end) {
+            final char current = chars.charAt(idx);
+            if(idx > first && current == '#') {
+                found = idx;
+                break;
+            } else if(current == '"' || current == '\'') {
+                idx = idx + 1;
+                while(idx < end && chars.charAt(idx) != current) {
+                    idx = idx + 1;
+                }
+            }
+            idx = idx + 1;
+        }
+        return found;
+    }
+
+    /**
+     * Skip the whitespace starting at the given position.
+     * @param chars Chars.
+     * @param from Where to start.
+     * @param end Where to stop.
+     * @return Position of the first char which is not whitespace, or end.
+     */
+    private static int skipped(final CharSequence chars, final int from,
+        final int end) {
+        int idx = from;
+        while(idx < end && chars.charAt(idx) <= ' ') {
+            idx = idx + 1;
+        }
+        return idx;
+    }
+
+    /**
+     * Decides which rows are kept in the table, as they are read.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    interface Filter {
+
+        /**
+         * Should the row be kept?
+         * @param indentation Indentation of the row.
+         * @param trimmed Trimmed contents of the row.
+         * @param kind Kind of the row.
+         * @return True or false.
+         */
+        boolean keeps(int indentation, String trimmed, LineKind kind);
+
+        /**
+         * How many of the last kept rows turned out not to be needed
+         * (e.g. keys whose children were all skipped)? Asked after
+         * each row and once more at the end of the input.
+         * @param end Is the input over?
+         * @return Number of rows to remove from the end of the table.
+         */
+        default int retracted(final boolean end) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,473 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Structural index of some YAML lines. It is built in a single pass and
+ * it records, for each significant line (not a comment, a directive or
+ * a document marker), its parent and the end of its subtree, all based
+ * on indentation. The first child and the next sibling of a line are
+ * found from these two.<br><br>
+ * Lines are referred to by their position in the indexed collection,
+ * not by their number. The index keeps only these positions: if the
+ * indexed lines are a random access list (e.g. a {@link LineTable}),
+ * it does not copy them, so the lines are only created when they are
+ * asked for.
+ * @checkstyle ExecutableStatementCount (300 lines)
+ * @checkstyle CyclomaticComplexity (300 lines)
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class LinesIndex {
+
+    /**
+     * Indexed lines, by position.
+     */
+    private final List<YamlLine> lines;
+
+    /**
+     * Parent of each significant line.
+     */
+    private final int[] parent;
+
+    /**
+     * Last position of the subtree of each significant line, -1 for
+     * the lines which are not significant.
+     */
+    private final int[] end;
+
+    /**
+     * Positions of the significant lines which are not well indented
+     * in relation to the previous significant line. Found lazily.
+     */
+    private volatile int[] misplaced;
+
+    /**
+     * Are the line numbers in ascending order?
+     */
+    private final boolean ordered;
+
+    /**
+     * Smallest line number.
+     */
+    private final int lowest;
+
+    /**
+     * Are the line numbers consecutive, starting with the lowest one?
+     * If they are, the position of a line is its number minus the lowest.
+     */
+    private final boolean consecutive;
+
+    /**
+     * Position of each line, keyed by line number minus the lowest number.
+     * It is null if the numbers are consecutive or too sparse for
+     * such a table.
+     */
+    private final int[] positions;
+
+    /**
+     * Ctor.
+     * @param all Lines to index.
+     */
+    LinesIndex(final Collection<YamlLine> all) {
+        this.lines = LinesIndex.randomAccess(all);
+        final int size = this.lines.size();
+        this.parent = LinesIndex.none(size);
+        this.end = LinesIndex.none(size);
+        this.build();
+        this.ordered = this.ascending();
+        this.lowest = this.lowest();
+        this.consecutive = this.ordered && this.consecutive();
+        this.positions = this.positions();
+    }
+
+    /**
+     * Number of indexed lines.
+     * @return Integer.
+     */
+    int size() {
+        return this.lines.size();
+    }
+
+    /**
+     * Line at the given position.
+     * @param position Position.
+     * @return YamlLine.
+     */
+    YamlLine line(final int position) {
+        return this.lines.get(position);
+    }
+
+    /**
+     * Lines starting at the given position.
+     * @param position Position.
+     * @return List of YamlLine.
+     */
+    List<YamlLine> from(final int position) {
+        return this.lines.subList(position, this.lines.size());
+    }
+
+    /**
+     * Indentation of the line at the given position.
+     * @param position Position.
+     * @return Integer.
+     */
+    int indentation(final int position) {
+        return this.lines.get(position).indentation();
+    }
+
+    /**
+     * Parent of the significant line at the given position.
+     * @param position Position.
+     * @return Position of the parent or -1 if it's a root line.
+     */
+    int parent(final int position) {
+        return this.parent[position];
+    }
+
+    /**
+     * First child of the significant line at the given position. It is
+     * the next significant line, if it's nested under this one.
+     * @param position Position.
+     * @return Position of the first child or -1 if there is none.
+     */
+    int child(final int position) {
+        int child = this.next(position + 1);
+        if(child >= 0 && this.parent[child] != position) {
+            child = -1;
+        }
+        return child;
+    }
+
+    /**
+     * Next sibling of the significant line at the given position. It is
+     * the first significant line after its subtree, if they have
+     * the same parent.
+     * @param position Position.
+     * @return Position of the next sibling or -1 if there is none.
+     */
+    int sibling(final int position) {
+        int sibling = this.next(this.end[position] + 1);
+        if(sibling >= 0 && this.parent[sibling] != this.parent[position]) {
+            sibling = -1;
+        }
+        return sibling;
+    }
+
+    /**
+     * End of the subtree of the significant line at the given position.
+     * @param position Position.
+     * @return Position of the last significant line nested under it,
+     *  or the given position if nothing is nested.
+     */
+    int end(final int position) {
+        return this.end[position];
+    }
+
+    /**
+     * First significant line at or after the given position.
+     * @param position Position.
+     * @return Position of the significant line or -1 if there is none.
+     */
+    int next(final int position) {
+        int next = position;
+        while(next < this.end.length && this.end[next] < 0) {
+            next = next + 1;
+        }
+        if(next >= this.end.length) {
+            next = -1;
+        }
+        return next;
+    }
+
+    /**
+     * Position of the first line which comes after the line with the
+     * given number.
+     * @param number Number of a line (it doesn't have to be indexed).
+     * @return Position, which is equal to size() if there is no such line.
+     */
+    int after(final int number) {
+        final int after;
+        if(this.consecutive) {
+            after = (int) Math.min(
+                Math.max((long) number - this.lowest + 1, 0),
+                this.lines.size()
+            );
+        } else {
+            int low = 0;
+            int high = this.lines.size();
+            while(low < high) {
+                final int middle = (low + high) >>> 1;
+                if(this.lines.get(middle).number() <= number) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            after = low;
+        }
+        return after;
+    }
+
+    /**
+     * Position of the line with the given number.
+     * @param number Number of the line.
+     * @return Position of the first line with this number or -1 if
+     *  there is no such line.
+     */
+    int position(final int number) {
+        int position = -1;
+        final long key = (long) number - this.lowest;
+        if(this.consecutive) {
+            if(key >= 0 && key < this.lines.size()) {
+                position = (int) key;
+            }
+        } else if(this.positions != null) {
+            if(key >= 0 && key < this.positions.length) {
+                position = this.positions[(int) key];
+            }
+        } else {
+            for(int pos = 0; pos < this.lines.size(); ++pos) {
+                if(this.lines.get(pos).number() == number) {
+                    position = pos;
+                    break;
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Are the lines' numbers in ascending order? If they are not, the
+     * positions cannot be found by line number and the index
+     * should not be used.
+     * @return True or false.
+     */
+    boolean ordered() {
+        return this.ordered;
+    }
+
+    /**
+     * Verify the indentation of the significant lines which follow the
+     * given position, the same way {@link WellIndented} would do it.
+     * @param position Position of the first significant line.
+     * @throws com.amihaiemil.eoyaml.exceptions.YamlIndentationException
+     *  If any of the following lines is misplaced.
+     */
+    void verify(final int position) {
+        int[] found = this.misplaced;
+        if(found == null) {
+            found = this.misplaced();
+            this.misplaced = found;
+        }
+        for(final int bad : found) {
+            if(bad > position) {
+                int previous = bad - 1;
+                while(this.end[previous] < 0) {
+                    previous = previous - 1;
+                }
+                WellIndented.verified(
+                    this.lines.get(previous), this.lines.get(bad), false
+                );
+            }
+        }
+    }
+
+    /**
+     * Build the index in one pass over the lines. The stack holds the
+     * open significant lines, together with their indentation.
+     */
+    private void build() {
+        final int size = this.lines.size();
+        final int[] stack = new int[size];
+        final int[] indents = new int[size];
+        int top = -1;
+        int last = -1;
+        for(int pos = 0; pos < size; ++pos) {
+            final YamlLine line = this.lines.get(pos);
+            if(line.kind().significant()) {
+                final int indentation = line.indentation();
+                while(top >= 0 && indents[top] >= indentation) {
+                    this.end[stack[top]] = last;
+                    top = top - 1;
+                }
+                if(top >= 0) {
+                    this.parent[pos] = stack[top];
+                }
+                top = top + 1;
+                stack[top] = pos;
+                indents[top] = indentation;
+                last = pos;
+            }
+        }
+        for(int idx = top; idx >= 0; --idx) {
+            this.end[stack[idx]] = last;
+        }
+    }
+
+    /**
+     * Find the significant lines which are not well indented in relation
+     * to the previous significant line.
+     * @return Positions of the misplaced lines.
+     */
+    private int[] misplaced() {
+        int[] bad = new int[0];
+        int count = 0;
+        int pos = this.next(0);
+        while(pos >= 0) {
+            final int next = this.next(pos + 1);
+            if(next >= 0) {
+                final YamlLine line = this.lines.get(next);
+                if(WellIndented.verified(
+                    this.lines.get(pos), line, true
+                ) != line) {
+                    if(count == bad.length) {
+                        bad = Arrays.copyOf(bad, count * 2 + 1);
+                    }
+                    bad[count] = next;
+                    count = count + 1;
+                }
+            }
+            pos = next;
+        }
+        return Arrays.copyOf(bad, count);
+    }
+
+    /**
+     * Check that the line numbers are in ascending order.
+     * @return True or false.
+     */
+    private boolean ascending() {
+        boolean ascending = true;
+        int previous = Integer.MIN_VALUE;
+        for(final YamlLine line : this.lines) {
+            final int number = line.number();
+            if(previous > number) {
+                ascending = false;
+                break;
+            }
+            previous = number;
+        }
+        return ascending;
+    }
+
+    /**
+     * Find the smallest line number.
+     * @return Integer.
+     */
+    private int lowest() {
+        int min = 0;
+        if(!this.lines.isEmpty()) {
+            min = Integer.MAX_VALUE;
+            for(final YamlLine line : this.lines) {
+                min = Math.min(min, line.number());
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Check that each line's number is the lowest number plus
+     * its position.
+     * @return True or false.
+     */
+    private boolean consecutive() {
+        boolean follows = true;
+        long expected = this.lowest;
+        for(final YamlLine line : this.lines) {
+            if(line.number() != expected) {
+                follows = false;
+                break;
+            }
+            expected = expected + 1;
+        }
+        return follows;
+    }
+
+    /**
+     * Build the table of positions by line number. It is built only if
+     * the line numbers are not consecutive, but dense enough (at most
+     * twice as many numbers as lines), otherwise the lines are scanned
+     * at lookup.
+     * @return Array of positions or null.
+     */
+    private int[] positions() {
+        int[] table = null;
+        if(!this.consecutive) {
+            final int size = this.lines.size();
+            long highest = this.lowest;
+            for(final YamlLine line : this.lines) {
+                highest = Math.max(highest, line.number());
+            }
+            final long span = highest - this.lowest + 1;
+            if(span <= 2L * size + 1) {
+                table = LinesIndex.none((int) span);
+                for(int pos = size - 1; pos >= 0; --pos) {
+                    table[this.lines.get(pos).number() - this.lowest] = pos;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * The given lines, as a random access list. They are copied only
+     * if they are not already such a list.
+     * @param all Lines.
+     * @return List of YamlLine.
+     */
+    private static List<YamlLine> randomAccess(
+        final Collection<YamlLine> all
+    ) {
+        final List<YamlLine> list;
+        if(all instanceof List && all instanceof RandomAccess) {
+            list = (List<YamlLine>) all;
+        } else {
+            list = new ArrayList<>(all);
+        }
+        return list;
+    }
+
+    /**
+     * Array of the given size, filled with -1.
+     * @param size Size.
+     * @return Array of integers.
+     */
+    private static int[] none(final int size) {
+        final int[] none = new int[size];
+        Arrays.fill(none, -1);
+        return none;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over YAML lines. Each line is fetched only when it is
+ * needed, so the decorators of {@link YamlLines} can be stacked and
+ * iterated in a single pass, without copying the lines, and they can
+ * stop early.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+abstract class LookAheadIterator implements Iterator<YamlLine> {
+
+    /**
+     * Next line, already fetched.
+     */
+    private YamlLine ahead;
+
+    /**
+     * Have we reached the end?
+     */
+    private boolean done;
+
+    @Override
+    public final boolean hasNext() {
+        if(this.ahead == null && !this.done) {
+            this.ahead = this.fetch();
+            this.done = this.ahead == null;
+        }
+        return this.ahead != null;
+    }
+
+    @Override
+    public final YamlLine next() {
+        if(!this.hasNext()) {
+            throw new NoSuchElementException("No more YAML lines.");
+        }
+        final YamlLine next = this.ahead;
+        this.ahead = null;
+        return next;
+    }
+
+    /**
+     * Fetch the next line.
+     * @return The next line or null if there are no more lines.
+     */
+    protected abstract YamlLine fetch();
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * YamlSource which is a file, mapped in memory. Just like
+ * {@link StreamSource}, if the file starts with a BOM, it is decoded with
+ * the charset given by it, otherwise with the given charset. If the
+ * charset is compatible with ASCII and all the bytes are ASCII, they are
+ * not decoded and not copied in the heap at all: the lines are read
+ * directly from the mapped file (see {@link AsciiChars}). Otherwise, the
+ * file is decoded once. The file cannot be larger than 2GB.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class MappedSource implements YamlSource {
+
+    /**
+     * File to read.
+     */
+    private final Path path;
+
+    /**
+     * Charset of the file, if it does not start with a BOM.
+     */
+    private final Charset charset;
+
+    /**
+     * Ctor.
+     * @param path File to read.
+     * @param charset Charset of the file, if it does not start with a BOM.
+     */
+    MappedSource(final Path path, final Charset charset) {
+        this.path = path;
+        this.charset = charset;
+    }
+
+    @Override
+    public CharSequence chars() throws IOException {
+        final MappedByteBuffer buffer = this.map();
+        final int size = buffer.limit();
+        final byte[] first = new byte[Math.min(Bom.MAX_LENGTH, size)];
+        buffer.get(first);
+        buffer.rewind();
+        final Bom bom = new Bom(first, first.length, this.charset);
+        final CharSequence chars;
+        if(bom.asciiCompatible()
+            && AsciiChars.ascii(buffer, bom.length(), size)) {
+            chars = new AsciiChars(buffer, bom.length(), size - bom.length());
+        } else {
+            buffer.position(bom.length());
+            chars = bom.charset().decode(buffer);
+        }
+        return chars;
+    }
+
+    @Override
+    public Reader reader() throws IOException {
+        return new StreamSource(
+            Files.newInputStream(this.path), this.charset
+        ).reader();
+    }
+
+    /**
+     * Map the file in memory. The mapping stays valid after the channel
+     * is closed.
+     * @return MappedByteBuffer.
+     * @throws IOException If the file cannot be read or if it is too large.
+     */
+    private MappedByteBuffer map() throws IOException {
+        try (
+            FileChannel channel = FileChannel.open(
+                this.path, StandardOpenOption.READ
+            )
+        ) {
+            final long size = channel.size();
+            if(size > Integer.MAX_VALUE) {
+                throw new IOException(
+                    "File " + this.path + " is too large to be mapped in "
+                    + "memory (" + size + " bytes). Please read it from an "
+                    + "InputStream."
+                );
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+}
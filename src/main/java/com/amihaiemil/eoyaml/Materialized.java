@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
+
+/**
+ * A YamlNode copied, with all its children, into immutable, in-memory
+ * nodes ({@link RtYamlMapping}, {@link RtYamlSequence},
+ * {@link PlainStringScalar}), so nothing is read again on later accesses.
+ * The top-level entries (or elements) are independent of each other,
+ * so they are copied in parallel, with fork/join, on the common
+ * ForkJoinPool. Below {@link #THRESHOLD} entries, the work is done
+ * sequentially, in the calling thread. Block scalars are kept as they are,
+ * but their value is read, since they remember it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Materialized {
+
+    /**
+     * Number of top-level entries under which they are copied
+     * sequentially.
+     */
+    static final int THRESHOLD = 32;
+
+    /**
+     * Node to copy.
+     */
+    private final YamlNode node;
+
+    /**
+     * Ctor.
+     * @param node Node to copy.
+     */
+    Materialized(final YamlNode node) {
+        this.node = node;
+    }
+
+    /**
+     * Copy the node.
+     * @return Materialized YamlNode.
+     */
+    YamlNode value() {
+        final YamlNode copy;
+        if(this.node instanceof YamlMapping
+            && !(this.node instanceof EmptyYamlMapping)) {
+            final YamlMapping mapping = (YamlMapping) this.node;
+            final Collection<Map.Entry<YamlNode, YamlNode>> pairs =
+                mapping.entries();
+            final List<YamlNode> values = new ArrayList<>(pairs.size());
+            for(final Map.Entry<YamlNode, YamlNode> pair : pairs) {
+                values.add(pair.getValue());
+            }
+            final Iterator<YamlNode> copied = new Subtrees(
+                values, 0, values.size()
+            ).invoke().iterator();
+            final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+            for(final Map.Entry<YamlNode, YamlNode> pair : pairs) {
+                entries.put(Materialized.copy(pair.getKey()), copied.next());
+            }
+            copy = new RtYamlMapping(entries, mapping.comment().value());
+        } else if(this.node instanceof YamlSequence
+            && !(this.node instanceof EmptyYamlSequence)) {
+            final YamlSequence sequence = (YamlSequence) this.node;
+            final List<YamlNode> values = new ArrayList<>(sequence.values());
+            copy = new RtYamlSequence(
+                new Subtrees(values, 0, values.size()).invoke(),
+                sequence.comment().value()
+            );
+        } else {
+            copy = Materialized.copy(this.node);
+        }
+        return copy;
+    }
+
+    /**
+     * Copy the given node and its children sequentially.
+     * @param node Node to copy.
+     * @return Copied YamlNode.
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    static YamlNode copy(final YamlNode node) {
+        final YamlNode copy;
+        if(node == null) {
+            copy = null;
+        } else if(node instanceof EmptyYamlMapping) {
+            copy = new EmptyYamlMapping(
+                new RtYamlMapping(
+                    new LinkedHashMap<>(), node.comment().value()
+                )
+            );
+        } else if(node instanceof EmptyYamlSequence) {
+            copy = new EmptyYamlSequence(
+                new RtYamlSequence(
+                    new ArrayList<>(), node.comment().value()
+                )
+            );
+        } else if(node instanceof YamlMapping) {
+            final YamlMapping mapping = (YamlMapping) node;
+            final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+            for(final Map.Entry<YamlNode, YamlNode> pair : mapping.entries()) {
+                entries.put(
+                    Materialized.copy(pair.getKey()),
+                    Materialized.copy(pair.getValue())
+                );
+            }
+            copy = new RtYamlMapping(entries, mapping.comment().value());
+        } else if(node instanceof YamlSequence) {
+            final List<YamlNode> values = new ArrayList<>();
+            for(final YamlNode value : ((YamlSequence) node).values()) {
+                values.add(Materialized.copy(value));
+            }
+            copy = new RtYamlSequence(values, node.comment().value());
+        } else if(node instanceof YamlStream) {
+            final List<YamlNode> documents = new ArrayList<>();
+            for(final YamlNode document : ((YamlStream) node).values()) {
+                documents.add(Materialized.copy(document));
+            }
+            copy = new RtYamlStreamBuilder.BuiltYamlStream(documents);
+        } else {
+            copy = Materialized.scalar((Scalar) node);
+        }
+        return copy;
+    }
+
+    /**
+     * Copy a Scalar. Read block scalars are copied into built ones, with
+     * the same value and lines, so they no longer refer to the lines of
+     * the whole document.
+     * @param scalar Scalar to copy.
+     * @return Copied Scalar.
+     */
+    private static YamlNode scalar(final Scalar scalar) {
+        final YamlNode copy;
+        final String value = scalar.value();
+        if(scalar instanceof ReadFoldedBlockScalar) {
+            copy = new RtYamlScalarBuilder.BuiltFoldedBlockScalar(
+                ((ReadFoldedBlockScalar) scalar).unfolded(),
+                scalar.comment().value(),
+                value
+            );
+        } else if(scalar instanceof ReadLiteralBlockScalar) {
+            copy = new RtYamlScalarBuilder.BuiltLiteralBlockScalar(
+                Arrays.asList(
+                    value.split(Pattern.quote(System.lineSeparator()), -1)
+                ),
+                scalar.comment().value()
+            );
+        } else if(scalar instanceof BaseFoldedScalar
+            || scalar instanceof RtYamlScalarBuilder.BuiltLiteralBlockScalar) {
+            copy = scalar;
+        } else if(scalar.comment() instanceof ScalarComment) {
+            final ScalarComment comment = (ScalarComment) scalar.comment();
+            copy = new PlainStringScalar(
+                value, comment.above().value(), comment.inline().value()
+            );
+        } else {
+            copy = new PlainStringScalar(value, scalar.comment().value(), "");
+        }
+        return copy;
+    }
+
+    /**
+     * Fork/join task copying a range of sibling nodes. The range is split
+     * in halves until it has at most {@link Materialized#THRESHOLD} nodes.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Subtrees extends RecursiveTask<List<YamlNode>> {
+
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Sibling nodes.
+         */
+        private final transient List<YamlNode> nodes;
+
+        /**
+         * First node to copy.
+         */
+        private final int from;
+
+        /**
+         * Where to stop (exclusive).
+         */
+        private final int end;
+
+        /**
+         * Ctor.
+         * @param nodes Sibling nodes.
+         * @param from First node to copy.
+         * @param end Where to stop (exclusive).
+         */
+        Subtrees(final List<YamlNode> nodes, final int from, final int end) {
+            this.nodes = nodes;
+            this.from = from;
+            this.end = end;
+        }
+
+        @Override
+        protected List<YamlNode> compute() {
+            final List<YamlNode> copied;
+            if(this.end - this.from <= Materialized.THRESHOLD) {
+                copied = new ArrayList<>(this.end - this.from);
+                for(int idx = this.from; idx < this.end; ++idx) {
+                    copied.add(Materialized.copy(this.nodes.get(idx)));
+                }
+            } else {
+                final int middle = (this.from + this.end) >>> 1;
+                final Subtrees first = new Subtrees(
+                    this.nodes, this.from, middle
+                );
+                first.fork();
+                final List<YamlNode> second = new Subtrees(
+                    this.nodes, middle, this.end
+                ).compute();
+                copied = new ArrayList<>(first.join());
+                copied.addAll(second);
+            }
+            return copied;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Supplier;
+
+/**
+ * Lazily calculated value, which is calculated only once and then
+ * remembered. It is thread-safe: the value is calculated by the first
+ * thread which needs it and safely published to the others.<br><br>
+ * If the system property <b>eoyaml.memo.soft</b> is true, the value is
+ * only softly referenced, so the garbage collector may reclaim it when
+ * memory is low; in that case, it will be calculated again the next time
+ * it is needed.
+ * @param <T> Type of the value.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Memo<T> {
+
+    /**
+     * Should the values be softly referenced by default?
+     */
+    private static final boolean SOFT = Boolean.getBoolean("eoyaml.memo.soft");
+
+    /**
+     * Calculates the value.
+     */
+    private final Supplier<T> source;
+
+    /**
+     * Is the value softly referenced?
+     */
+    private final boolean soft;
+
+    /**
+     * Lock for calculating the value.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The value, if it is strongly referenced.
+     */
+    private volatile T strong;
+
+    /**
+     * The value, if it is softly referenced.
+     */
+    private volatile SoftReference<T> weak;
+
+    /**
+     * Ctor.
+     * @param source Calculates the value. It should not return null.
+     */
+    Memo(final Supplier<T> source) {
+        this(source, Memo.SOFT);
+    }
+
+    /**
+     * Ctor.
+     * @param source Calculates the value. It should not return null.
+     * @param soft Should the value be softly referenced?
+     */
+    Memo(final Supplier<T> source, final boolean soft) {
+        this.source = source;
+        this.soft = soft;
+    }
+
+    /**
+     * Get the value, calculating it if needed.
+     * @return The value.
+     */
+    T get() {
+        T value = this.peek();
+        if(value == null) {
+            synchronized (this.lock) {
+                value = this.peek();
+                if(value == null) {
+                    value = this.source.get();
+                    if(this.soft) {
+                        this.weak = new SoftReference<>(value);
+                    } else {
+                        this.strong = value;
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The remembered value.
+     * @return The value or null if it is not calculated yet (or if it
+     *  was reclaimed).
+     */
+    private T peek() {
+        T value = this.strong;
+        if(value == null) {
+            final SoftReference<T> reference = this.weak;
+            if(reference != null) {
+                value = reference.get();
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Rows of a YAML document which are covered by a {@link Projection}.
+ * The rows are looked at in order, as they are read, and the path
+ * (keys and indexes) of each one is kept on a stack, by indentation.
+ * Once a row is not covered, all the rows which are more indented than it
+ * (its subtree) are skipped without being looked at, together with the
+ * comments in between. Rows which cannot be told apart (complex keys,
+ * lines of multiline scalars) are kept. Keys and items which are only
+ * on the way to selected rows are kept tentatively: if none of their
+ * children is kept, they are retracted.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class ProjectedRows implements LineTable.Filter {
+
+    /**
+     * The projection.
+     */
+    private final Projection projection;
+
+    /**
+     * Kept rows which may have children, the root at the bottom.
+     */
+    private final Deque<Frame> frames;
+
+    /**
+     * Indentation of the row whose subtree is skipped, or -1.
+     */
+    private int skipped;
+
+    /**
+     * Was the skipped row a key without a value? Then the sequence items
+     * at the same indentation are its children too.
+     */
+    private boolean skippedKey;
+
+    /**
+     * Number of tentative rows which turned out not to be needed.
+     */
+    private int unneeded;
+
+    /**
+     * Ctor.
+     * @param projection The projection.
+     */
+    ProjectedRows(final Projection projection) {
+        this.projection = projection;
+        this.frames = new ArrayDeque<>();
+        this.skipped = -1;
+        this.reset();
+    }
+
+    @Override
+    public boolean keeps(
+        final int indentation, final String trimmed, final LineKind kind
+    ) {
+        final boolean keeps;
+        if(this.skipping(indentation, kind)) {
+            keeps = false;
+        } else if(kind.significant()) {
+            keeps = this.significant(indentation, trimmed, kind);
+        } else if(kind.comment()) {
+            keeps = this.frames.peek().selected;
+        } else {
+            if(trimmed.startsWith("---")) {
+                this.pop(-1, kind);
+                this.reset();
+            } else {
+                this.confirm();
+            }
+            keeps = true;
+        }
+        return keeps;
+    }
+
+    @Override
+    public int retracted(final boolean end) {
+        if(end) {
+            this.pop(-1, LineKind.from(""));
+        }
+        final int retracted = this.unneeded;
+        this.unneeded = 0;
+        return retracted;
+    }
+
+    /**
+     * Is the row in the subtree which is skipped?
+     * @param indentation Indentation of the row.
+     * @param kind Kind of the row.
+     * @return True or false.
+     */
+    private boolean skipping(final int indentation, final LineKind kind) {
+        boolean skipping = false;
+        if(this.skipped >= 0) {
+            final boolean items = this.skippedKey && kind.item();
+            skipping = kind.comment() || indentation > this.skipped
+                || indentation == this.skipped && items;
+            if(!skipping) {
+                this.skipped = -1;
+            }
+        }
+        return skipping;
+    }
+
+    /**
+     * Should the significant row be kept?
+     * @param indentation Indentation of the row.
+     * @param trimmed Trimmed contents of the row.
+     * @param kind Kind of the row.
+     * @return True or false.
+     */
+    private boolean significant(
+        final int indentation, final String trimmed, final LineKind kind
+    ) {
+        this.pop(indentation, kind);
+        final Frame parent = this.frames.peek();
+        String element = null;
+        if(!parent.selected) {
+            element = parent.element(trimmed, kind);
+        }
+        boolean keeps = true;
+        if(element != null) {
+            final boolean open = "-".equals(trimmed) || kind.key()
+                && trimmed.endsWith(":");
+            final List<String> path = new ArrayList<>(parent.path);
+            path.add(element);
+            if(this.projection.selects(path)) {
+                this.confirm();
+                this.frames.push(
+                    new Frame(indentation, path, true, open && kind.key())
+                );
+            } else if(open && this.projection.covers(path)) {
+                this.frames.push(
+                    new Frame(indentation, path, false, kind.key())
+                );
+            } else {
+                keeps = false;
+                this.skipped = indentation;
+                this.skippedKey = open && kind.key();
+            }
+        } else {
+            this.confirm();
+        }
+        return keeps;
+    }
+
+    /**
+     * Remove the frames which are not parents of the given row.
+     * @param indentation Indentation of the row.
+     * @param kind Kind of the row.
+     */
+    private void pop(final int indentation, final LineKind kind) {
+        while(this.frames.size() > 1) {
+            final Frame top = this.frames.peek();
+            if(top.indentation > indentation
+                || top.indentation == indentation
+                && !(kind.item() && top.key)) {
+                if(!this.frames.pop().needed) {
+                    this.unneeded = this.unneeded + 1;
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * The tentative rows on the stack are needed, since one of their
+     * descendants is kept.
+     */
+    private void confirm() {
+        for(final Frame frame : this.frames) {
+            if(frame.needed) {
+                break;
+            }
+            frame.needed = true;
+        }
+    }
+
+    /**
+     * Start a new document.
+     */
+    private void reset() {
+        this.frames.clear();
+        this.frames.push(
+            new Frame(
+                -1, Collections.emptyList(),
+                this.projection.selects(Collections.emptyList()), false
+            )
+        );
+    }
+
+    /**
+     * A kept row, which may have children.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Frame {
+
+        /**
+         * Indentation of the row.
+         */
+        private final int indentation;
+
+        /**
+         * Path of the row.
+         */
+        private final List<String> path;
+
+        /**
+         * Is it selected, with all its children?
+         */
+        private final boolean selected;
+
+        /**
+         * Is it a key without a value?
+         */
+        private final boolean key;
+
+        /**
+         * Is the row needed, or only kept tentatively?
+         */
+        private boolean needed;
+
+        /**
+         * Number of sequence items found under it.
+         */
+        private int items;
+
+        /**
+         * Ctor.
+         * @param indentation Indentation of the row.
+         * @param path Path of the row.
+         * @param selected Is it selected?
+         * @param key Is it a key without a value?
+         * @checkstyle ParameterNumber (5 lines)
+         */
+        Frame(
+            final int indentation, final List<String> path,
+            final boolean selected, final boolean key
+        ) {
+            this.indentation = indentation;
+            this.path = path;
+            this.selected = selected;
+            this.key = key;
+            this.needed = selected || indentation < 0;
+        }
+
+        /**
+         * The key or index of a child row.
+         * @param trimmed Trimmed contents of the child row.
+         * @param kind Kind of the child row.
+         * @return Key, index in brackets, or null if it cannot be told.
+         */
+        String element(final String trimmed, final LineKind kind) {
+            String element = null;
+            if(kind.item()) {
+                element = "[" + this.items + "]";
+                this.items = this.items + 1;
+            } else if(kind.key()) {
+                final int colon = LineKind.colon(trimmed, 0);
+                if(colon > 0) {
+                    element = Frame.unquoted(
+                        trimmed.substring(0, colon).trim()
+                    );
+                }
+            }
+            return element;
+        }
+
+        /**
+         * A key without its quotes.
+         * @param key Key.
+         * @return Unquoted key.
+         */
+        private static String unquoted(final String key) {
+            String unquoted = key;
+            if(key.length() > 1 && (key.charAt(0) == '"'
+                || key.charAt(0) == '\'')
+                && key.charAt(key.length() - 1) == key.charAt(0)) {
+                unquoted = key.substring(1, key.length() - 1);
+            }
+            return unquoted;
+        }
+    }
+}
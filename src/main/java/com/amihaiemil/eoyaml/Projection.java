@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.List;
+
+/**
+ * The parts of a YAML document which should be read, when the rest of it
+ * is not needed. E.g. for a document with routes, only
+ * <pre>
+ *   Yaml.createProjection("routes[*].match", "routes[*].backend")
+ * </pre>
+ * The parts which are not covered by the projection are skipped while the
+ * input is read, together with their comments, so they cost neither
+ * parsing time nor memory. The paths to nodes are given as lists of keys
+ * and indexes, from the root of the document; indexes are written
+ * in brackets, e.g. [2].
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ * @see YamlInput#readYamlMapping(Projection)
+ */
+public interface Projection {
+
+    /**
+     * Is the node at the given path selected, with all its children?
+     * @param path Keys and indexes leading to the node.
+     * @return True or false.
+     */
+    boolean selects(final List<String> path);
+
+    /**
+     * Should the node at the given path be read, because it is selected
+     * or because some of its descendants may be selected?
+     * @param path Keys and indexes leading to the node.
+     * @return True or false.
+     */
+    boolean covers(final List<String> path);
+}
@@ -68,7 +68,12 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
     /**
      * The significant lines of this folded block scalar.
      */
-    private final YamlLines significant;
+    private final MemoizedLines significant;
+
+    /**
+     * Value of this scalar, read lazily.
+     */
+    private final Memo<String> value;
 
     /**
      * Ctor.
@@ -86,18 +91,18 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
     ReadFoldedBlockScalar(final YamlLine previous, final AllYamlLines lines) {
         this.previous = previous;
         this.all = lines;
-        this.significant = new GreaterIndentation(
+        this.significant = new MemoizedLines(new GreaterIndentation(
             previous,
             new Skip(
-                lines,
-                line -> line.number() <= previous.number(),
+                new Following(previous, lines),
                 line -> line.trimmed().endsWith(">"),
                 line -> line.trimmed().startsWith("---"),
                 line -> line.trimmed().startsWith("..."),
                 line -> line.trimmed().startsWith("%"),
                 line -> line.trimmed().startsWith("!!")
             )
-        );
+        ));
+        this.value = new Memo<>(this::readValue);
     }
 
     /**
@@ -114,6 +119,14 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
      * @return String
      */
     public String value() {
+        return this.value.get();
+    }
+
+    /**
+     * Read the value of this scalar.
+     * @return String
+     */
+    private String readValue() {
         StringBuilder builder = new StringBuilder();
         final String newLine = System.lineSeparator();
         for(final YamlLine line: this.significant) {
@@ -139,37 +152,13 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
 
     @Override
     public Comment comment() {
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(this.previous.number() < 0) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("---"),
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    )
-                )
-            ),
-            this
-        );
+        final int stop;
+        if(this.previous.number() < 0) {
+            stop = this.significant.start();
+        } else {
+            stop = this.previous.number();
+        }
+        return new BuiltComment(this, this.all.comment(stop, true));
     }
 
     @Override
@@ -64,7 +64,12 @@ final class ReadLiteralBlockScalar extends BaseScalar {
     /**
      * The significant lines of this literal block scalar.
      */
-    private final YamlLines significant;
+    private final MemoizedLines significant;
+
+    /**
+     * Value of this scalar, read lazily.
+     */
+    private final Memo<String> value;
 
     /**
      * Ctor.
@@ -82,18 +87,18 @@ final class ReadLiteralBlockScalar extends BaseScalar {
     ReadLiteralBlockScalar(final YamlLine previous, final AllYamlLines lines) {
         this.previous = previous;
         this.all = lines;
-        this.significant = new GreaterIndentation(
+        this.significant = new MemoizedLines(new GreaterIndentation(
             previous,
             new Skip(
-                lines,
-                line -> line.number() <= previous.number(),
+                new Following(previous, lines),
                 line -> line.trimmed().endsWith("|"),
                 line -> line.trimmed().startsWith("---"),
                 line -> line.trimmed().startsWith("..."),
                 line -> line.trimmed().startsWith("%"),
                 line -> line.trimmed().startsWith("!!")
             )
-        );
+        ));
+        this.value = new Memo<>(this::readValue);
     }
 
     /**
@@ -101,6 +106,14 @@ final class ReadLiteralBlockScalar extends BaseScalar {
      * @return String
      */
     public String value() {
+        return this.value.get();
+    }
+
+    /**
+     * Read the value of this scalar.
+     * @return String
+     */
+    private String readValue() {
         StringBuilder builder = new StringBuilder();
         for (final YamlLine yamlLine: this.significant) {
             int previousIndent = previous.indentation();
@@ -112,37 +125,13 @@ final class ReadLiteralBlockScalar extends BaseScalar {
 
     @Override
     public Comment comment() {
-        return new ReadComment(
-            //@checkstyle LineLength (50 lines)
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(this.previous.number() < 0) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("---"),
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    )
-                )
-            ),
-            this
-        );
+        final int stop;
+        if(this.previous.number() < 0) {
+            stop = this.significant.start();
+        } else {
+            stop = this.previous.number();
+        }
+        return new BuiltComment(this, this.all.comment(stop, true));
     }
 
 }
@@ -27,8 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Iterator;
 
 /**
  * A plain scalar value read from somewhere.
@@ -38,46 +37,6 @@ import java.util.regex.Pattern;
  */
 final class ReadPlainScalar extends BaseScalar {
 
-    /**
-     * Pattern to match scalars in mappings or sequences.
-     *
-     * Ignore zero or more spaces and a hyphen (-) followed by one
-     * or more spaces.
-     *
-     * A quoted scalar literal is inside:
-     *  - ('(?:[^'\\]|\\.)*') : a single (') quoted string or
-     *  - ("(?:[^"\\]|\\.)*") : double (") quoted string
-     *
-     * A scalar for a mapping are characters after:
-     *  - .*:[ ]+(.*) : Any characters before a colon followed by
-     *    one or more spaces.
-     *
-     * The sequence scalar is:
-     *   - -[ ]+(.*) : Any characters after a hyphen (-) and one more spaces.
-     */
-    private static final Pattern QUOTED_LITERAL_MAP_SEQ = Pattern.compile("^("
-            + "[ ]*(-[ ]+)"
-                + "(('(?:[^'\\\\]|\\\\.)*')|"
-                + "(\"(?:[^\"\\\\]|\\\\.)*\"))|"
-            + "(.*:[ ]+(.*))|"
-            + "(-[ ]+(.*))"
-            + ")$");
-
-    /**
-     * Regex group index that matches quoted literals.
-     */
-    private static final int QUOTED_LITERAL_GROUP = 3;
-
-    /**
-     * Regex group index that matches scalar values of mappings.
-     */
-    private static final int MAPPING_GROUP = 7;
-
-    /**
-     * Regex group index that matches scalar value of non-quotes sequences.
-     */
-    private static final int SEQUENCE_GROUP = 9;
-
     /**
      * All YAML Lines of the document.
      */
@@ -102,6 +61,16 @@ final class ReadPlainScalar extends BaseScalar {
         this.scalar = scalar;
     }
 
+    /**
+     * Constructor for a document which is only a plain scalar. The scalar
+     * is on the first line which is not a comment, a marker, a directive
+     * or a tag.
+     * @param all All lines of the document.
+     */
+    ReadPlainScalar(final AllYamlLines all) {
+        this(all, ReadPlainScalar.firstLine(all));
+    }
+
     /**
      * Unescaped String value of this scalar. Pay attention, if the
      * scalar's value is the "null" String, then we return null, because
@@ -111,16 +80,16 @@ final class ReadPlainScalar extends BaseScalar {
      */
     @Override
     public String value() {
-        String value = this.scalar.trimmed();
-        Matcher matcher = this.escapedSequenceScalar(this.scalar);
-        if(matcher.matches()) {
-            if (matcher.group(QUOTED_LITERAL_GROUP) != null) {
-                value = matcher.group(QUOTED_LITERAL_GROUP);
-            } else if (matcher.group(MAPPING_GROUP) != null) {
-                value = matcher.group(MAPPING_GROUP).trim();
-            } else if (matcher.group(SEQUENCE_GROUP) != null) {
-                value = matcher.group(SEQUENCE_GROUP).trim();
-            }
+        final String trimmed = this.scalar.trimmed();
+        final LineKind kind = this.scalar.kind();
+        String value = trimmed;
+        final int colon = LineKind.colon(trimmed, 0);
+        if(kind.item() && kind.dashQuoted()) {
+            value = trimmed.substring(1).trim();
+        } else if(colon >= 0 && colon < trimmed.length() - 1) {
+            value = trimmed.substring(colon + 1).trim();
+        } else if(trimmed.startsWith("- ")) {
+            value = trimmed.substring(2).trim();
         }
         if("null".equals(value)) {
             return null;
@@ -140,35 +109,37 @@ final class ReadPlainScalar extends BaseScalar {
         } else {
             final int lineNumber = this.scalar.number();
             comment = new Concatenated(
-                new ReadComment(
-                    new Backwards(
-                        new FirstCommentFound(
-                            new Backwards(
-                                new Skip(
-                                    this.all,
-                                    line -> line.number() >= lineNumber,
-                                    line -> line.trimmed().startsWith("..."),
-                                    line -> line.trimmed().startsWith("%"),
-                                    line -> line.trimmed().startsWith("!!")
-                                )
-                            ),
-                            false
-                        )
-                    ),
-                    this
-                ),
-                new ReadComment(
-                    new Skip(
-                        this.all,
-                        line -> line.number() != lineNumber
-                    ),
-                    this
-                )
+                new BuiltComment(this, this.all.comment(lineNumber, false)),
+                new BuiltComment(this, this.all.inlineComment(lineNumber))
             );
         }
         return comment;
     }
 
+    /**
+     * The first line of a document which is not a comment, a marker,
+     * a directive or a tag.
+     * @param all All lines of the document.
+     * @return YamlLine or NullYamlLine if there is no such line.
+     */
+    private static YamlLine firstLine(final AllYamlLines all) {
+        final YamlLine first;
+        final Iterator<YamlLine> iterator = new Skip(
+            all,
+            line -> line.trimmed().startsWith("#"),
+            line -> line.trimmed().startsWith("---"),
+            line -> line.trimmed().startsWith("..."),
+            line -> line.trimmed().startsWith("%"),
+            line -> line.trimmed().startsWith("!!")
+        ).iterator();
+        if(iterator.hasNext()) {
+            first = iterator.next();
+        } else {
+            first = new YamlLine.NullYamlLine();
+        }
+        return first;
+    }
+
     /**
      * Remove the possible escaping quotes or apostrophes surrounding the
      * given value.
@@ -190,15 +161,4 @@ final class ReadPlainScalar extends BaseScalar {
         }
         return unescaped;
     }
-
-    /**
-     * Returns true if there's a YamlMapping starting right after the
-     * dash, on the same line.
-     * @param dashLine Line.
-     * @return True of false.
-     */
-    private Matcher escapedSequenceScalar(final YamlLine dashLine) {
-        final String trimmed = dashLine.trimmed();
-        return QUOTED_LITERAL_MAP_SEQ.matcher(trimmed);
-    }
 }
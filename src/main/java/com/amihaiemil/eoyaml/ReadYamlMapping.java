@@ -31,7 +31,7 @@ import static com.amihaiemil.eoyaml.YamlLine.UNKNOWN_LINE_NUMBER;
 
 import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * YamlMapping read from somewhere. YAML directives and
@@ -77,6 +77,21 @@ final class ReadYamlMapping extends BaseYamlMapping {
      */
     private final boolean guessIndentation;
 
+    /**
+     * Index of the String keys, built lazily.
+     */
+    private final Memo<KeysIndex> keysIndex;
+
+    /**
+     * Keys of this mapping, read lazily.
+     */
+    private final Memo<Set<YamlNode>> keys;
+
+    /**
+     * Values already read, by key.
+     */
+    private final Memo<Map<YamlNode, YamlNode>> children;
+
     /**
      * Where to stop looking for comments.
      */
@@ -122,26 +137,79 @@ final class ReadYamlMapping extends BaseYamlMapping {
         this.commentStop = commentStop;
         this.previous = previous;
         this.all = lines;
-        this.significant = new SameIndentationLevel(
-            new WellIndented(
-                new Skip(
-                    lines,
-                    line -> line.number() <= previous.number(),
-                    line -> line.trimmed().startsWith("#"),
-                    line -> line.trimmed().startsWith("---"),
-                    line -> line.trimmed().startsWith("..."),
-                    line -> line.trimmed().startsWith("%"),
-                    line -> line.trimmed().startsWith("!!")
-                ),
-                guessIndentation
-            )
-        );
+        if(guessIndentation || !lines.index().ordered()) {
+            this.significant = new MemoizedLines(new SameIndentationLevel(
+                new WellIndented(
+                    new Skip(
+                        lines,
+                        line -> line.number() <= previous.number(),
+                        line -> line.trimmed().startsWith("#"),
+                        line -> line.trimmed().startsWith("---"),
+                        line -> line.trimmed().startsWith("..."),
+                        line -> line.trimmed().startsWith("%"),
+                        line -> line.trimmed().startsWith("!!")
+                    ),
+                    guessIndentation
+                )
+            ));
+        } else {
+            this.significant = new Siblings(previous, lines);
+        }
         this.guessIndentation = guessIndentation;
+        this.keysIndex = new Memo<>(() -> new KeysIndex(
+            this.significant.asList()
+        ));
+        this.keys = new Memo<>(this::readKeys);
+        this.children = new Memo<>(ConcurrentHashMap::new);
     }
 
     @Override
     public Set<YamlNode> keys() {
-        final Set<YamlNode> keys = new LinkedHashSet<>();
+        return new LinkedHashSet<>(this.keys.get());
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        final Map<YamlNode, YamlNode> read = this.children.get();
+        YamlNode value = read.get(key);
+        if(value == null) {
+            if(key instanceof Scalar) {
+                value = this.valueOfStringKey(((Scalar) key).value());
+            } else {
+                value = this.valueOfNodeKey(key);
+            }
+            if(value != null) {
+                read.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        final Set<YamlNode> read = this.keys.get();
+        for(final YamlNode key : read) {
+            if(!(key instanceof Scalar)) {
+                this.readComplexValues();
+                break;
+            }
+        }
+        final List<Map.Entry<YamlNode, YamlNode>> entries =
+            new ArrayList<>(read.size());
+        for(final YamlNode key : read) {
+            entries.add(
+                new AbstractMap.SimpleImmutableEntry<>(key, this.value(key))
+            );
+        }
+        return entries;
+    }
+
+    /**
+     * Read the keys of this mapping.
+     * @return Set of YamlNode.
+     */
+    private Set<YamlNode> readKeys() {
+        final Set<YamlNode> read = new LinkedHashSet<>();
         YamlLine prev = new YamlLine.NullYamlLine();
         for (final YamlLine line : this.significant) {
             final String trimmed = line.trimmed();
@@ -151,129 +219,87 @@ final class ReadYamlMapping extends BaseYamlMapping {
             ) {
                 continue;
             } else if ("?".equals(trimmed)) {
-                keys.add(
+                read.add(
                     this.significant.toYamlNode(line, this.guessIndentation)
                 );
             } else {
                 if(!trimmed.contains(":")) {
                     continue;
                 }
-                final String key;
+                int start = 0;
                 if(trimmed.startsWith("-")) {
-                    key = trimmed.substring(
-                        1, trimmed.indexOf(":")
-                    ).trim();
-                } else {
-                    key = trimmed.substring(
-                        0, trimmed.indexOf(":")
-                    ).trim();
+                    start = 1;
                 }
+                final String key = trimmed.substring(
+                    start, KeysIndex.colon(trimmed, start)
+                ).trim();
                 if(!key.isEmpty()) {
-                    keys.add(new PlainStringScalar(key));
+                    read.add(new PlainStringScalar(key));
                 }
             }
             prev = line;
         }
-        return keys;
+        return read;
     }
 
     @Override
-    public YamlNode value(final YamlNode key) {
-        final YamlNode value;
+    public boolean containsKey(final YamlNode key) {
+        final boolean contains;
         if(key instanceof Scalar) {
-            value = this.valueOfStringKey(((Scalar) key).value());
+            contains = this.keysIndex.get().find(
+                ((Scalar) key).value()
+            ) != null;
         } else {
-            value = this.valueOfNodeKey(key);
+            contains = this.keys().contains(key);
         }
-        return value;
+        return contains;
     }
 
     @Override
     public Comment comment() {
-        boolean documentComment = this.previous.number() < 0;
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= commentStop;
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    ),
-                    documentComment
-                )
-            ),
-            this
-        );
+        final String comment;
+        if(this.previous.number() < 0) {
+            comment = this.all.documentComment(this.significant.start());
+        } else {
+            comment = this.all.comment(this.commentStop, false);
+        }
+        return new BuiltComment(this, comment);
     }
 
     /**
      * The YamlNode value associated with a String (scalar) key.
+     * The key is looked up in the {@link KeysIndex} of this mapping,
+     * which is built the first time it is needed.
      * @param key String key.
      * @return YamlNode.
-     * @checkstyle ReturnCount (50 lines)
-     * @checkstyle LineLength (30 lines)
      */
     private YamlNode valueOfStringKey(final String key) {
         YamlNode value = null;
-        final String[] keys = new String[] {
-            key,
-            "\"" + key + "\"",
-            "'" + key + "'",
-        };
-        for(final String tryKey : keys) {
-            for (final YamlLine line : this.significant) {
-                final String trimmed = line.trimmed();
-                if(trimmed.matches("^-?[ ]*" + Pattern.quote(tryKey) + ":")
-                    || trimmed.matches("^" + Pattern.quote(tryKey) + "\\:[ ]*\\>$")
-                    || trimmed.matches("^" + Pattern.quote(tryKey) + "\\:[ ]*\\|$")
-                ) {
-                    value = this.significant.toYamlNode(
-                        line, this.guessIndentation
-                    );
-                } else if (trimmed.matches(tryKey + ":[ ]*\\{\\}")) {
-                    value = new EmptyYamlMapping(new ReadYamlMapping(
-                            line.number(),
-                            this.all.line(line.number()),
-                            this.all,
-                            this.guessIndentation
-                    ));
-                } else if (trimmed.matches(tryKey + ":[ ]*\\[]")) {
-                    value = new EmptyYamlSequence(new ReadYamlSequence(
-                            this.all.line(line.number()),
-                            this.all,
-                            this.guessIndentation
-                    ));
-                } else if((trimmed.startsWith(tryKey + ":")
-                        || trimmed.startsWith("- " + tryKey + ":"))
-                        && trimmed.length() > 1
-                ) {
-                    value = new ReadPlainScalar(this.all, line);
-                }
-
-                if(value != null) {
-                    return value;
-                }
+        final KeysIndex.KeyLine found = this.keysIndex.get().find(key);
+        if(found != null) {
+            final YamlLine line = found.line();
+            if(found.kind() == KeysIndex.Kind.NODE) {
+                value = this.significant.toYamlNode(
+                    line, this.guessIndentation
+                );
+            } else if(found.kind() == KeysIndex.Kind.EMPTY_MAPPING) {
+                value = new EmptyYamlMapping(new ReadYamlMapping(
+                    line.number(),
+                    this.all.line(line.number()),
+                    this.all,
+                    this.guessIndentation
+                ));
+            } else if(found.kind() == KeysIndex.Kind.EMPTY_SEQUENCE) {
+                value = new EmptyYamlSequence(new ReadYamlSequence(
+                    this.all.line(line.number()),
+                    this.all,
+                    this.guessIndentation
+                ));
+            } else {
+                value = new ReadPlainScalar(this.all, line);
             }
         }
-        return null;
+        return value;
     }
 
     /**
@@ -293,29 +319,59 @@ final class ReadYamlMapping extends BaseYamlMapping {
                     line, this.guessIndentation
                 );
                 if(keyNode.equals(key)) {
-                    final YamlLine colonLine = linesIt.next();
-                    if(":".equals(colonLine.trimmed())
-                        || colonLine.trimmed().matches("^\\:[ ]*\\>$")
-                        || colonLine.trimmed().matches("^\\:[ ]*\\|$")
-                    ) {
-                        value = this.significant.toYamlNode(
-                            colonLine, this.guessIndentation
-                        );
-                    } else if(colonLine.trimmed().startsWith(":")
-                        && (colonLine.trimmed().length() > 1)
-                    ){
-                        value = new ReadPlainScalar(this.all, colonLine);
-                    } else {
-                        throw new YamlReadingException(
-                            "No value found for existing complex key: "
-                          + System.lineSeparator()
-                          + ((BaseYamlNode) key).toString()
-                        );
-                    }
+                    value = this.complexValue(key, linesIt.next());
                     break;
                 }
             }
         }
         return value;
     }
+
+    /**
+     * Read the values of all the "complex" keys (starting with '?'), in
+     * one pass over the lines, and remember them.
+     */
+    private void readComplexValues() {
+        final Map<YamlNode, YamlNode> read = this.children.get();
+        final Iterator<YamlLine> linesIt = this.significant.iterator();
+        while(linesIt.hasNext()) {
+            final YamlLine line = linesIt.next();
+            if("?".equals(line.trimmed())) {
+                final YamlNode key = this.significant.toYamlNode(
+                    line, this.guessIndentation
+                );
+                read.putIfAbsent(key, this.complexValue(key, linesIt.next()));
+            }
+        }
+    }
+
+    /**
+     * The value of a "complex" key, starting on the line after the key.
+     * @param key YamlNode key.
+     * @param colonLine Line after the key.
+     * @return YamlNode.
+     */
+    private YamlNode complexValue(
+        final YamlNode key, final YamlLine colonLine
+    ) {
+        final YamlNode value;
+        if(":".equals(colonLine.trimmed())
+            || colonLine.kind().complexBlock()
+        ) {
+            value = this.significant.toYamlNode(
+                colonLine, this.guessIndentation
+            );
+        } else if(colonLine.trimmed().startsWith(":")
+            && (colonLine.trimmed().length() > 1)
+        ){
+            value = new ReadPlainScalar(this.all, colonLine);
+        } else {
+            throw new YamlReadingException(
+                "No value found for existing complex key: "
+              + System.lineSeparator()
+              + ((BaseYamlNode) key).toString()
+            );
+        }
+        return value;
+    }
 }
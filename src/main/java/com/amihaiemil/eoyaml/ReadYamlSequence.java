@@ -27,8 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -72,6 +72,11 @@ final class ReadYamlSequence extends BaseYamlSequence {
      */
     private final boolean guessIndentation;
 
+    /**
+     * Values of this sequence, read lazily, by index.
+     */
+    private final Memo<List<YamlNode>> values;
+
     /**
      * Ctor.
      * @param lines Given lines.
@@ -116,32 +121,59 @@ final class ReadYamlSequence extends BaseYamlSequence {
     ) {
         this.previous = previous;
         this.all = lines;
-        this.significant = new SameIndentationLevel(
-            new WellIndented(
-                new Skip(
-                    lines,
-                    line -> line.number() <= previous.number(),
-                    line -> line.trimmed().startsWith("#"),
-                    line -> line.trimmed().startsWith("---"),
-                    line -> line.trimmed().startsWith("..."),
-                    line -> line.trimmed().startsWith("%"),
-                    line -> line.trimmed().startsWith("!!")
-                ),
-                guessIndentation
-            )
-        );
+        if(guessIndentation || !lines.index().ordered()) {
+            this.significant = new MemoizedLines(new SameIndentationLevel(
+                new WellIndented(
+                    new Skip(
+                        lines,
+                        line -> line.number() <= previous.number(),
+                        line -> line.trimmed().startsWith("#"),
+                        line -> line.trimmed().startsWith("---"),
+                        line -> line.trimmed().startsWith("..."),
+                        line -> line.trimmed().startsWith("%"),
+                        line -> line.trimmed().startsWith("!!")
+                    ),
+                    guessIndentation
+                )
+            ));
+        } else {
+            this.significant = new Siblings(previous, lines);
+        }
         this.guessIndentation = guessIndentation;
+        this.values = new Memo<>(this::readValues);
     }
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> kids = new LinkedList<>();
-        final boolean foldedSequence = this.previous.trimmed().matches(
-            "^.*\\|.*\\-$"
-        );
+        return new ArrayList<>(this.values.get());
+    }
+
+    @Override
+    public YamlNode get(final int index) {
+        final List<YamlNode> read = this.values.get();
+        YamlNode found = null;
+        if(index >= 0 && index < read.size()) {
+            found = read.get(index);
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        return this.values.get().size();
+    }
+
+    /**
+     * Read the values of this sequence.
+     * @return List of YamlNode.
+     */
+    private List<YamlNode> readValues() {
+        final List<YamlNode> kids = new ArrayList<>();
+        final boolean foldedSequence = this.previous.kind().foldedSequence();
         for(final YamlLine line : this.significant) {
             final String trimmed = line.trimmed();
-            if(foldedSequence || trimmed.startsWith("-")) {
+            final LineKind kind = line.kind();
+            if(foldedSequence || kind.dash()) {
                 if ("-".equals(trimmed)
                     || trimmed.endsWith("|")
                     || trimmed.endsWith(">")
@@ -151,21 +183,21 @@ final class ReadYamlSequence extends BaseYamlSequence {
                                     line, this.guessIndentation
                             )
                     );
-                } else if (trimmed.matches("^-[ ]*\\{}")) {
+                } else if (kind.dashEmptyMapping()) {
                     kids.add(new EmptyYamlMapping(new ReadYamlMapping(
                             line.number(),
                             this.all.line(line.number()),
                             this.all,
                             this.guessIndentation
                     )));
-                } else if (trimmed.matches("^-[ ]*\\[]")) {
+                } else if (kind.dashEmptySequence()) {
                     kids.add(new EmptyYamlSequence(new ReadYamlSequence(
                             this.all.line(line.number()),
                             this.all,
                             this.guessIndentation
                     )));
                 } else {
-                    if(this.mappingStartsAtDash(line)) {
+                    if(kind.dashKey()) {
                         kids.add(
                             new ReadYamlMapping(
                                 line.number() + 1,
@@ -185,50 +217,12 @@ final class ReadYamlSequence extends BaseYamlSequence {
 
     @Override
     public Comment comment() {
-        boolean documentComment = this.previous.number() < 0;
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    ),
-                    documentComment
-                )
-            ),
-            this
-        );
-    }
-
-    /**
-     * Returns true if there's a YamlMapping starting right after the
-     * dash, on the same line.
-     * @param dashLine Line.
-     * @return True of false.
-     */
-    private boolean mappingStartsAtDash(final YamlLine dashLine) {
-        final String trimmed = dashLine.trimmed();
-        final boolean escapedScalar = trimmed.matches("^[ ]*\\-[ ]*\".*\"$")
-            || trimmed.matches("^[ ]*\\-[ ]*\'.*\'$");
-        return trimmed.matches("^.*\\-.*\\:.*$") && !escapedScalar;
+        final String comment;
+        if(this.previous.number() < 0) {
+            comment = this.all.documentComment(this.significant.start());
+        } else {
+            comment = this.all.comment(this.previous.number(), false);
+        }
+        return new BuiltComment(this, comment);
     }
 }
@@ -29,7 +29,13 @@ package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Read YAML Stream of documents.
@@ -42,12 +48,7 @@ final class ReadYamlStream extends BaseYamlStream {
     /**
      * All the lines of this YamlStream.
      */
-    private final YamlLines all;
-
-    /**
-     * Read lines of this YAML Stream.
-     */
-    private final YamlLines startMarkers;
+    private final AllYamlLines all;
 
     /**
      * If set to true we will try to guess the correct indentation
@@ -70,61 +71,59 @@ final class ReadYamlStream extends BaseYamlStream {
      *  the correct indentation of misplaced lines.
      */
     ReadYamlStream(final AllYamlLines lines, final boolean guessIndentation) {
-        this.startMarkers = new WellIndented(
-            new StartMarkers(
-                new Skip(
-                    lines,
-                    line -> line.trimmed().startsWith("#"),
-                    line -> line.trimmed().startsWith("%")
-                )
-            )
-        );
-        this.all = new Skip(
-            lines,
-            line -> line.trimmed().startsWith("#"),
-            line -> line.trimmed().startsWith("%")
-        );
+        this.all = lines;
         this.guessIndentation = guessIndentation;
     }
 
     @Override
     public Collection<YamlNode> values() {
         final List<YamlNode> values = new ArrayList<>();
-        for(final YamlLine startDoc : this.startMarkers) {
-            final YamlLines document = this.readDocument(startDoc);
-            if(!document.original().isEmpty()) {
-                values.add(
-                    document.toYamlNode(
-                        startDoc, this.guessIndentation
-                    )
-                );
-            }
-        }
+        this.documents().forEachRemaining(values::add);
         return values;
     }
 
+    @Override
+    public Spliterator<YamlNode> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+            this.documents(),
+            Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE
+        );
+    }
+
     /**
-     * Read a document from this Stream.
-     * @param start Start marker of the document.
-     * @return YamlLines of the read document.
+     * Parallel Stream of the documents. The lines are cut at the start
+     * markers in one scan, then the documents are read (and further
+     * processed by the Stream's operations) on the common ForkJoinPool.
+     * The order of the documents is kept.
+     * @return Parallel Stream of YamlNode.
      */
-    private YamlLines readDocument(final YamlLine start) {
-        final List<YamlLine> yamlDocLines = new ArrayList<>();
-        final YamlLine startLine = this.all.line(start.number());
-        if(!"---".equals(startLine.trimmed())) {
-            yamlDocLines.add(startLine);
-        }
-        for(final YamlLine line : this.all.original()) {
-            if(line.number() > start.number()) {
-                final String current = line.trimmed();
-                if("---".equals(current) || "...".equals(current)) {
-                    break;
-                } else {
-                    yamlDocLines.add(line);
-                }
-            }
+    @Override
+    public Stream<YamlNode> parallel() {
+        final Collection<YamlLine> lines = this.all.original();
+        final List<YamlLine> indexed;
+        if(lines instanceof List && lines instanceof RandomAccess) {
+            indexed = (List<YamlLine>) lines;
+        } else {
+            indexed = new ArrayList<>(lines);
         }
-        return new AllYamlLines(yamlDocLines);
+        return StreamSupport.stream(
+            new SplitDocuments(
+                indexed, this.guessIndentation, this.all.readsComments()
+            ),
+            true
+        );
+    }
+
+    /**
+     * The documents of this Stream, read in a single pass over the lines,
+     * as they are iterated.
+     * @return Iterator of YamlNode.
+     */
+    private Iterator<YamlNode> documents() {
+        return new Documents(
+            this.all.original().iterator(), this.guessIndentation,
+            this.all.readsComments()
+        );
     }
 
 }
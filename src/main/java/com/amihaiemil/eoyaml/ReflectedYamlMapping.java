@@ -106,6 +106,30 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
         return node;
     }
 
+    @Override
+    public Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        final List<Map.Entry<YamlNode, YamlNode>> entries = new ArrayList<>();
+        if(this.bean instanceof Map) {
+            for(final Object entry : ((Map) this.bean).entrySet()) {
+                entries.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        this.objectToYamlNode(((Map.Entry) entry).getKey()),
+                        this.objectToYamlNode(((Map.Entry) entry).getValue())
+                    )
+                );
+            }
+        } else {
+            for(final YamlNode key : this.keys()) {
+                entries.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        key, this.value(key)
+                    )
+                );
+            }
+        }
+        return entries;
+    }
+
     @Override
     public Comment comment() {
         return new Comment() {
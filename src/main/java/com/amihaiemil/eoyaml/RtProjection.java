@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projection given by some YAML paths (see {@link YamlPath}). A node is
+ * selected if any of the paths selects it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class RtProjection implements Projection {
+
+    /**
+     * The paths.
+     */
+    private final List<RtYamlPath> paths;
+
+    /**
+     * Ctor.
+     * @param paths The paths.
+     * @throws IllegalArgumentException If any path is not valid.
+     */
+    RtProjection(final String... paths) {
+        this.paths = new ArrayList<>(paths.length);
+        for(final String path : paths) {
+            this.paths.add(new RtYamlPath(path));
+        }
+    }
+
+    @Override
+    public boolean selects(final List<String> path) {
+        boolean selects = false;
+        for(final RtYamlPath projected : this.paths) {
+            if(projected.selects(path)) {
+                selects = true;
+                break;
+            }
+        }
+        return selects;
+    }
+
+    @Override
+    public boolean covers(final List<String> path) {
+        boolean covers = false;
+        for(final RtYamlPath projected : this.paths) {
+            if(projected.covers(path)) {
+                covers = true;
+                break;
+            }
+        }
+        return covers;
+    }
+
+    @Override
+    public String toString() {
+        return this.paths.toString();
+    }
+}
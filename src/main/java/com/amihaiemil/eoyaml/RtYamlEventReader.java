@@ -0,0 +1,552 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * YamlEventReader which reads the lines of the input one by one, as the
+ * events are pulled. It only keeps in memory the mappings and sequences
+ * which are currently open (the current nesting path), the events of the
+ * last read line and, while reading a block scalar, the lines of that
+ * scalar.<br><br>
+ * The lines are classified with {@link LineKind} and the values of the
+ * scalars are read with the same {@link ReadPlainScalar},
+ * {@link ReadLiteralBlockScalar} and {@link ReadFoldedBlockScalar} used by
+ * {@link YamlInput}, so the events agree with the nodes read from the
+ * same input.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ * @checkstyle ClassDataAbstractionCoupling (400 lines)
+ */
+final class RtYamlEventReader implements YamlEventReader {
+
+    /**
+     * Reader of the input.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Events read, waiting to be pulled.
+     */
+    private final Deque<YamlEvent> events;
+
+    /**
+     * Mappings and sequences which are currently open, innermost first.
+     */
+    private final Deque<Container> path;
+
+    /**
+     * Number of the next line of the input, starting from 0.
+     */
+    private int number;
+
+    /**
+     * Line which was read from the input, but not handled yet.
+     */
+    private YamlLine back;
+
+    /**
+     * Second half of a split line, waiting to be handled.
+     */
+    private YamlLine half;
+
+    /**
+     * Key or dash which is still waiting for its value.
+     */
+    private YamlLine awaiting;
+
+    /**
+     * Is a document open?
+     */
+    private boolean document;
+
+    /**
+     * Has the whole input been read?
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param input InputStream to read from.
+     */
+    RtYamlEventReader(final InputStream input) {
+        this(input, Charset.defaultCharset());
+    }
+
+    /**
+     * Ctor. Just like {@link RtYamlInput}, the input is read through a
+     * {@link StreamSource}, so its BOM, if any, is skipped and its charset
+     * is used.
+     * @param input InputStream to read from.
+     * @param charset Charset of the input, if it does not start with a BOM.
+     */
+    RtYamlEventReader(final InputStream input, final Charset charset) {
+        this(RtYamlEventReader.reader(new StreamSource(input, charset)));
+    }
+
+    /**
+     * Ctor.
+     * @param reader Reader of the input.
+     */
+    RtYamlEventReader(final BufferedReader reader) {
+        this.reader = reader;
+        this.events = new ArrayDeque<>();
+        this.path = new ArrayDeque<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(this.events.isEmpty() && !this.finished) {
+            this.read();
+        }
+        return !this.events.isEmpty();
+    }
+
+    @Override
+    public YamlEvent next() {
+        if(!this.hasNext()) {
+            throw new NoSuchElementException("There are no more YAML events.");
+        }
+        return this.events.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Read the next line and turn it into events.
+     */
+    private void read() {
+        final YamlLine line = this.nextLine();
+        if(line == null) {
+            this.endDocument(this.number);
+            this.finished = true;
+        } else {
+            final String trimmed = line.trimmed();
+            if(line.kind().comment()) {
+                this.add(YamlEvent.Type.COMMENT, line.comment(), line);
+            } else if(trimmed.startsWith("---")) {
+                this.endDocument(line.number());
+                this.startDocument(line);
+            } else if(trimmed.startsWith("...")) {
+                this.endDocument(line.number() + 1);
+            } else if(line.kind().significant()) {
+                this.node(line);
+            }
+        }
+    }
+
+    /**
+     * Read the events of a line which is part of a node.
+     * @param line YamlLine.
+     */
+    private void node(final YamlLine line) {
+        if(!this.document) {
+            this.startDocument(line);
+        }
+        if(this.nestedSequence(line)) {
+            this.open(line);
+        } else {
+            if(this.awaiting != null
+                && line.indentation() <= this.awaiting.indentation()) {
+                this.add(YamlEvent.Type.SCALAR, null, this.awaiting);
+            }
+            this.close(line);
+            if(this.container(line) && (this.path.isEmpty()
+                || this.path.peek().indentation < line.indentation())) {
+                this.open(line);
+            }
+        }
+        this.awaiting = null;
+        this.content(line);
+        if(!line.comment().isEmpty()) {
+            this.add(YamlEvent.Type.COMMENT, line.comment(), line);
+        }
+    }
+
+    /**
+     * Read the contents of a line, after the mappings and sequences
+     * have been opened or closed.
+     * @param line YamlLine.
+     */
+    private void content(final YamlLine line) {
+        final String trimmed = line.trimmed();
+        final LineKind kind = line.kind();
+        if(kind.item()) {
+            this.value(line, trimmed.substring(1).trim());
+        } else if(RtYamlEventReader.complexKey(line)) {
+            this.add(YamlEvent.Type.KEY, null, line);
+            this.value(line, "");
+        } else if(RtYamlEventReader.complexValue(line)) {
+            this.value(line, trimmed.substring(1).trim());
+        } else if(kind.key()) {
+            final int colon = LineKind.colon(trimmed, 0);
+            this.add(
+                YamlEvent.Type.KEY, trimmed.substring(0, colon).trim(), line
+            );
+            this.value(line, trimmed.substring(colon + 1).trim());
+        } else {
+            this.add(
+                YamlEvent.Type.SCALAR,
+                new ReadPlainScalar(this.lines(line), line).value(),
+                line
+            );
+        }
+    }
+
+    /**
+     * Read the value which follows a key or a dash.
+     * @param line YamlLine.
+     * @param value The value, as written after the key or the dash.
+     */
+    private void value(final YamlLine line, final String value) {
+        if(value.isEmpty()) {
+            this.awaiting = line;
+        } else if("{}".equals(value)) {
+            this.add(YamlEvent.Type.START_MAPPING, null, line);
+            this.add(YamlEvent.Type.END_MAPPING, null, line);
+        } else if("[]".equals(value)) {
+            this.add(YamlEvent.Type.START_SEQUENCE, null, line);
+            this.add(YamlEvent.Type.END_SEQUENCE, null, line);
+        } else if(value.endsWith("|") || value.endsWith("|-")) {
+            this.add(
+                YamlEvent.Type.SCALAR,
+                new ReadLiteralBlockScalar(line, this.block(line)).value(),
+                line
+            );
+        } else if(value.endsWith(">") || value.endsWith(">-")) {
+            this.add(
+                YamlEvent.Type.SCALAR,
+                new ReadFoldedBlockScalar(line, this.block(line)).value(),
+                line
+            );
+        } else {
+            this.add(
+                YamlEvent.Type.SCALAR,
+                new ReadPlainScalar(this.lines(line), line).value(),
+                line
+            );
+        }
+    }
+
+    /**
+     * Read the lines of a block scalar, which are all the lines indented
+     * more than its header.
+     * @param header Line where the block scalar starts.
+     * @return The lines of the block scalar, with the header.
+     */
+    private AllYamlLines block(final YamlLine header) {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(header);
+        YamlLine line = this.physical();
+        while(line != null && line.indentation() > header.indentation()) {
+            lines.add(line);
+            line = this.physical();
+        }
+        this.back = line;
+        return new AllYamlLines(lines);
+    }
+
+    /**
+     * Is this line the first item of a sequence which is the value of
+     * the awaiting key, written on the same indentation as the key? E.g.
+     * <pre>
+     *   key:
+     *   - first
+     *   - second
+     * </pre>
+     * @param line YamlLine.
+     * @return True or false.
+     */
+    private boolean nestedSequence(final YamlLine line) {
+        return this.awaiting != null
+            && this.awaiting.kind().key()
+            && line.kind().item()
+            && line.indentation() == this.awaiting.indentation();
+    }
+
+    /**
+     * Does this line open a mapping or a sequence, if it is the first
+     * on its indentation?
+     * @param line YamlLine.
+     * @return True or false.
+     */
+    private boolean container(final YamlLine line) {
+        return line.kind().item() || line.kind().key()
+            || RtYamlEventReader.complexKey(line);
+    }
+
+    /**
+     * Does this line start a complex key? The key is the node nested
+     * under it. E.g.
+     * <pre>
+     *   ?
+     *     - a
+     *     - b
+     *   : value
+     * </pre>
+     * @param line YamlLine.
+     * @return True or false.
+     */
+    private static boolean complexKey(final YamlLine line) {
+        return "?".equals(line.trimmed());
+    }
+
+    /**
+     * Does this line start the value of a complex key?
+     * @param line YamlLine.
+     * @return True or false.
+     */
+    private static boolean complexValue(final YamlLine line) {
+        final String trimmed = line.trimmed();
+        return ":".equals(trimmed) || trimmed.startsWith(": ");
+    }
+
+    /**
+     * Open a mapping or a sequence, starting with the given line.
+     * @param line YamlLine.
+     */
+    private void open(final YamlLine line) {
+        final Container opened = new Container(
+            line.indentation(), line.kind().item()
+        );
+        this.path.push(opened);
+        this.add(opened.start(), null, line);
+    }
+
+    /**
+     * Close the mappings and sequences which end before the given line:
+     * the ones which are indented more and the ones which are on the same
+     * indentation, but of a different kind.
+     * @param line YamlLine.
+     */
+    private void close(final YamlLine line) {
+        final boolean container = this.container(line);
+        final boolean item = line.kind().item();
+        while(!this.path.isEmpty()) {
+            final Container top = this.path.peek();
+            final boolean ended = top.indentation > line.indentation()
+                || container && top.indentation == line.indentation()
+                && top.sequence != item;
+            if(!ended) {
+                break;
+            }
+            this.path.pop();
+            this.add(top.end(), null, line);
+        }
+    }
+
+    /**
+     * Start a document.
+     * @param line Line where the document starts.
+     */
+    private void startDocument(final YamlLine line) {
+        this.add(YamlEvent.Type.DOCUMENT_START, null, line);
+        this.document = true;
+    }
+
+    /**
+     * End the current document, if any, closing everything which is open.
+     * @param end Number of the line where the document ends, starting
+     *  from 1.
+     */
+    private void endDocument(final int end) {
+        final YamlLine line = new RtYamlLine("", Math.max(end - 1, 0));
+        if(this.awaiting != null) {
+            this.add(YamlEvent.Type.SCALAR, null, this.awaiting);
+            this.awaiting = null;
+        }
+        while(!this.path.isEmpty()) {
+            this.add(this.path.pop().end(), null, line);
+        }
+        if(this.document) {
+            this.add(YamlEvent.Type.DOCUMENT_END, null, line);
+            this.document = false;
+        }
+    }
+
+    /**
+     * Add an event.
+     * @param type Type of the event.
+     * @param value Value of the event.
+     * @param line Line where the event occurred.
+     */
+    private void add(
+        final YamlEvent.Type type,
+        final String value,
+        final YamlLine line
+    ) {
+        this.events.add(new RtYamlEvent(type, value, line.number() + 1));
+    }
+
+    /**
+     * The given line, as the only line of a document.
+     * @param line YamlLine.
+     * @return AllYamlLines.
+     */
+    private AllYamlLines lines(final YamlLine line) {
+        final List<YamlLine> lines = new ArrayList<>(1);
+        lines.add(line);
+        return new AllYamlLines(lines);
+    }
+
+    /**
+     * Next line to handle. A line with a dash followed by a key is split,
+     * just like {@link InputLines} does: the dash remains on its line and
+     * the key is moved on a second line, indented by 2 more spaces, with
+     * the same number.
+     * @return YamlLine or null if there are no more lines.
+     */
+    private YamlLine nextLine() {
+        YamlLine line = this.half;
+        this.half = null;
+        if(line == null) {
+            line = this.physical();
+            if(line != null && line.kind().item() && line.kind().dashKey()
+                && !line.kind().dashQuoted()) {
+                final StringBuilder indent = new StringBuilder();
+                for(int idx = 0; idx < line.indentation(); ++idx) {
+                    indent.append(' ');
+                }
+                this.half = new RtYamlLine(
+                    indent + "  " + line.toString().trim().substring(1).trim(),
+                    line.number()
+                );
+                line = new RtYamlLine(indent + "-", line.number());
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Next non-empty line of the input.
+     * @return YamlLine or null if there are no more lines.
+     * @throws UncheckedIOException If the input cannot be read.
+     */
+    private YamlLine physical() {
+        YamlLine line = this.back;
+        this.back = null;
+        while(line == null) {
+            final String text;
+            try {
+                text = this.reader.readLine();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            if(text == null) {
+                break;
+            }
+            if(!text.trim().isEmpty()) {
+                line = new RtYamlLine(text, this.number);
+            }
+            this.number = this.number + 1;
+        }
+        return line;
+    }
+
+    /**
+     * Reader of the given source.
+     * @param source YamlSource.
+     * @return BufferedReader.
+     * @throws UncheckedIOException If the source cannot be read.
+     */
+    private static BufferedReader reader(final YamlSource source) {
+        try {
+            return new BufferedReader(source.reader());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * A mapping or a sequence which is open.
+     */
+    private static final class Container {
+
+        /**
+         * Indentation of its lines.
+         */
+        private final int indentation;
+
+        /**
+         * Is it a sequence?
+         */
+        private final boolean sequence;
+
+        /**
+         * Ctor.
+         * @param indentation Indentation of its lines.
+         * @param sequence Is it a sequence?
+         */
+        Container(final int indentation, final boolean sequence) {
+            this.indentation = indentation;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Type of the event which starts it.
+         * @return Type.
+         */
+        YamlEvent.Type start() {
+            final YamlEvent.Type type;
+            if(this.sequence) {
+                type = YamlEvent.Type.START_SEQUENCE;
+            } else {
+                type = YamlEvent.Type.START_MAPPING;
+            }
+            return type;
+        }
+
+        /**
+         * Type of the event which ends it.
+         * @return Type.
+         */
+        YamlEvent.Type end() {
+            final YamlEvent.Type type;
+            if(this.sequence) {
+                type = YamlEvent.Type.END_SEQUENCE;
+            } else {
+                type = YamlEvent.Type.END_MAPPING;
+            }
+            return type;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Implementation of {@link YamlGenerator}. "Rt" stands for "Runtime".
+ * It writes the same way {@link RtYamlPrinter} does, through an
+ * {@link IndentedWriter}, and keeps only a stack with the mappings and
+ * sequences which are still open.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class RtYamlGenerator implements YamlGenerator {
+
+    /**
+     * Writer of the YAML.
+     */
+    private final IndentedWriter writer;
+
+    /**
+     * Open mappings and sequences, the innermost at the top.
+     */
+    private final Deque<Frame> frames;
+
+    /**
+     * Comment of the next document, if any.
+     */
+    private String pending;
+
+    /**
+     * Number of started documents, if a YAML Stream is written.
+     */
+    private int documents;
+
+    /**
+     * Is a document's node expected?
+     */
+    private boolean expected;
+
+    /**
+     * Ctor.
+     * @param writer Destination writer.
+     */
+    RtYamlGenerator(final Writer writer) {
+        this.writer = new IndentedWriter(writer);
+        this.frames = new ArrayDeque<>();
+        this.pending = "";
+        this.expected = true;
+    }
+
+    @Override
+    public YamlGenerator writeDocumentStart() throws IOException {
+        if(!this.frames.isEmpty()) {
+            throw new IllegalStateException(
+                "The previous document is not ended."
+            );
+        }
+        if(this.expected == this.documents > 0) {
+            throw new IllegalStateException(
+                "A document start has to be followed by a node and it "
+                + "cannot follow a node which is not in a document."
+            );
+        }
+        if(this.documents > 0) {
+            this.writer.newLine();
+        }
+        this.pendingComment();
+        this.writer.write("---");
+        this.documents = this.documents + 1;
+        this.expected = true;
+        return this;
+    }
+
+    @Override
+    public YamlGenerator writeStartMapping() throws IOException {
+        this.start(true);
+        return this;
+    }
+
+    @Override
+    public YamlGenerator writeStartSequence() throws IOException {
+        this.start(false);
+        return this;
+    }
+
+    @Override
+    public YamlGenerator writeKey(final String key) throws IOException {
+        final Frame top = this.frames.peek();
+        if(top == null || !top.mapping || top.keyed) {
+            throw new IllegalStateException(
+                "A key can only be written in a mapping, before its value."
+            );
+        }
+        this.separate(top);
+        this.writer.indent(top.indentation);
+        this.writer.escaped(key);
+        this.writer.write(':');
+        top.keyed = true;
+        top.children = top.children + 1;
+        top.open = false;
+        return this;
+    }
+
+    @Override
+    public YamlGenerator writeScalar(final String value, final String comment)
+        throws IOException {
+        final Frame parent = this.parent();
+        if(parent == null && this.documents == 0) {
+            this.writer.write("---");
+            this.writer.newLine();
+            this.pendingComment();
+            if(value == null) {
+                this.writer.write("null");
+            } else {
+                this.writer.escaped(value);
+            }
+            this.writer.inline(comment);
+            this.writer.newLine();
+            this.writer.write("...");
+        } else {
+            if(parent != null) {
+                this.item(parent);
+            }
+            if(value == null || value.isEmpty()) {
+                this.writer.write(" null");
+            } else {
+                if(parent == null) {
+                    this.writer.newLine();
+                } else {
+                    this.writer.write(' ');
+                }
+                this.writer.escaped(value);
+                this.writer.inline(comment);
+            }
+        }
+        this.expected = false;
+        return this;
+    }
+
+    @Override
+    public YamlGenerator writeComment(final String comment)
+        throws IOException {
+        final Frame top = this.frames.peek();
+        if(top == null) {
+            if(this.expected == this.documents > 0) {
+                throw new IllegalStateException(
+                    "The comment of a document has to be written before "
+                    + "its start."
+                );
+            }
+            if(this.pending.isEmpty()) {
+                this.pending = comment;
+            } else {
+                this.pending = this.pending + System.lineSeparator()
+                    + comment;
+            }
+        } else if(top.keyed) {
+            throw new IllegalStateException(
+                "A comment cannot be written between a key and its value."
+            );
+        } else if(!comment.trim().isEmpty()) {
+            this.separate(top);
+            this.writer.lines(comment, top.indentation, true);
+        }
+        return this;
+    }
+
+    @Override
+    public YamlGenerator writeEnd() throws IOException {
+        final Frame top = this.frames.peek();
+        if(top == null || top.keyed) {
+            throw new IllegalStateException(
+                "There is no mapping or sequence to end, or the last "
+                + "key has no value."
+            );
+        }
+        this.frames.pop();
+        if(top.children == 0 && !top.root) {
+            if(top.mapping) {
+                this.writer.write(" {}");
+            } else {
+                this.writer.write(" []");
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(!this.frames.isEmpty()) {
+            this.writer.close();
+            throw new IllegalStateException(
+                "Not all the mappings and sequences are ended."
+            );
+        }
+        this.writer.close();
+    }
+
+    /**
+     * Start a mapping or a sequence.
+     * @param mapping Is it a mapping?
+     * @throws IOException If the YAML cannot be written.
+     */
+    private void start(final boolean mapping) throws IOException {
+        final Frame parent = this.parent();
+        final Frame started;
+        if(parent == null && this.documents == 0) {
+            if(!this.pending.trim().isEmpty()) {
+                this.pendingComment();
+                this.writer.write("---");
+                this.writer.newLine();
+            }
+            started = new Frame(mapping, 0, true);
+        } else if(parent == null) {
+            started = new Frame(mapping, 2, false);
+        } else {
+            this.item(parent);
+            started = new Frame(mapping, parent.indentation + 2, false);
+        }
+        this.expected = false;
+        this.frames.push(started);
+    }
+
+    /**
+     * The mapping or sequence where the next node goes, or null if it is
+     * the node of a document.
+     * @return Frame or null.
+     */
+    private Frame parent() {
+        final Frame top = this.frames.peek();
+        if(top == null && !this.expected) {
+            throw new IllegalStateException(
+                "The document is already written. Start a new one."
+            );
+        }
+        if(top != null && top.mapping && !top.keyed) {
+            throw new IllegalStateException(
+                "The value of a mapping has to follow a key."
+            );
+        }
+        return top;
+    }
+
+    /**
+     * Begin a node of a mapping (its value) or a sequence (an item).
+     * @param parent Mapping or sequence.
+     * @throws IOException If the YAML cannot be written.
+     */
+    private void item(final Frame parent) throws IOException {
+        if(parent.mapping) {
+            parent.keyed = false;
+        } else {
+            this.separate(parent);
+            this.writer.indent(parent.indentation);
+            this.writer.write('-');
+            parent.children = parent.children + 1;
+            parent.open = false;
+        }
+    }
+
+    /**
+     * Separate the next entry of a mapping or sequence from the previous
+     * one (or from the parent node), unless it has already been done.
+     * @param frame Mapping or sequence.
+     * @throws IOException If the YAML cannot be written.
+     */
+    private void separate(final Frame frame) throws IOException {
+        if(!frame.open) {
+            if(frame.children > 0 || !frame.root) {
+                this.writer.newLine();
+            }
+            frame.open = true;
+        }
+    }
+
+    /**
+     * Write the comment of the document, if any.
+     * @throws IOException If the YAML cannot be written.
+     */
+    private void pendingComment() throws IOException {
+        if(!this.pending.trim().isEmpty()) {
+            this.writer.lines(this.pending, 0, true);
+        }
+        this.pending = "";
+    }
+
+    /**
+     * An open mapping or sequence.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Frame {
+
+        /**
+         * Is it a mapping or a sequence?
+         */
+        private final boolean mapping;
+
+        /**
+         * Indentation of its entries.
+         */
+        private final int indentation;
+
+        /**
+         * Is it the root of a document which is not in a YAML Stream?
+         */
+        private final boolean root;
+
+        /**
+         * Number of entries written so far.
+         */
+        private int children;
+
+        /**
+         * Has a key been written, without its value?
+         */
+        private boolean keyed;
+
+        /**
+         * Has the next entry been separated from the previous one?
+         */
+        private boolean open;
+
+        /**
+         * Ctor.
+         * @param mapping Is it a mapping?
+         * @param indentation Indentation of its entries.
+         * @param root Is it the root of a document?
+         */
+        Frame(final boolean mapping, final int indentation,
+            final boolean root) {
+            this.mapping = mapping;
+            this.indentation = indentation;
+            this.root = root;
+        }
+    }
+}
@@ -30,11 +30,7 @@ package com.amihaiemil.eoyaml;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.stream.Stream;
+import java.nio.charset.Charset;
 
 /**
  * Implementation for {@link YamlInput}. "Rt" stands for "Runtime".
@@ -47,7 +43,7 @@ final class RtYamlInput implements YamlInput {
     /**
      * Source of the input.
      */
-    private final InputStream source;
+    private final YamlSource source;
 
     /**
      * If set to true, we will try to guess the correct indentation
@@ -55,6 +51,11 @@ final class RtYamlInput implements YamlInput {
      */
     private final boolean guessIndentation;
 
+    /**
+     * Are comments read?
+     */
+    private final boolean readComments;
+
     /**
      * Ctor.
      * @param source Given source.
@@ -70,8 +71,64 @@ final class RtYamlInput implements YamlInput {
      *  the correct indentation of misplaced lines.
      */
     RtYamlInput(final InputStream source, final boolean guessIndentation) {
+        this(source, Charset.defaultCharset(), guessIndentation);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given source.
+     * @param charset Charset of the source, if it does not start with a BOM.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    RtYamlInput(
+        final InputStream source,
+        final Charset charset,
+        final boolean guessIndentation
+    ) {
+        this(new StreamSource(source, charset), guessIndentation);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given text, read as it is.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    RtYamlInput(final CharSequence source, final boolean guessIndentation) {
+        this(new CharsSource(source), guessIndentation);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given source.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    RtYamlInput(final YamlSource source, final boolean guessIndentation) {
+        this(source, guessIndentation, true);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given source.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     * @param readComments Are comments read?
+     */
+    RtYamlInput(
+        final YamlSource source,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) {
         this.source = source;
         this.guessIndentation = guessIndentation;
+        this.readComments = readComments;
+    }
+
+    @Override
+    public YamlInput withoutComments() {
+        return new RtYamlInput(this.source, this.guessIndentation, false);
     }
 
     @Override
@@ -84,29 +141,39 @@ final class RtYamlInput implements YamlInput {
         return new ReadYamlSequence(this.readInput(), this.guessIndentation);
     }
 
+    @Override
+    public YamlMapping readYamlMapping(final Projection projection)
+        throws IOException {
+        return new ReadYamlMapping(
+            this.readInput(projection), this.guessIndentation
+        );
+    }
+
+    @Override
+    public YamlSequence readYamlSequence(final Projection projection)
+        throws IOException {
+        return new ReadYamlSequence(
+            this.readInput(projection), this.guessIndentation
+        );
+    }
+
     @Override
     public YamlStream readYamlStream() throws IOException {
         return new ReadYamlStream(this.readInput(), this.guessIndentation);
     }
 
+    @Override
+    public YamlStream readYamlStreamLazily() throws IOException {
+        return new LazyYamlStream(
+            new BufferedReader(this.source.reader()),
+            this.guessIndentation,
+            this.readComments
+        );
+    }
+
     @Override
     public Scalar readPlainScalar() throws IOException {
-        final ReadPlainScalar read;
-        final AllYamlLines all = this.readInput();
-        final Iterator<YamlLine> iterator = new Skip(
-            all,
-            line -> line.trimmed().startsWith("#"),
-            line -> line.trimmed().startsWith("---"),
-            line -> line.trimmed().startsWith("..."),
-            line -> line.trimmed().startsWith("%"),
-            line -> line.trimmed().startsWith("!!")
-        ).iterator();
-        if(!iterator.hasNext()) {
-            read = new ReadPlainScalar(all, new YamlLine.NullYamlLine());
-        } else {
-            read = new ReadPlainScalar(all, iterator.next());
-        }
-        return read;
+        return new ReadPlainScalar(this.readInput());
     }
 
     @Override
@@ -120,81 +187,38 @@ final class RtYamlInput implements YamlInput {
     }
 
     /**
-     * Read the input's lines.
+     * Read the input's lines. The whole input is read and the lines are
+     * kept in a {@link LineTable} over its text.
      * @return All read YamlLines
      * @throws IOException If something goes wrong while reading the input.
-     * @todo #447:60min Refactor solution for #447 by using lines iterators.
      */
     private AllYamlLines readInput() throws IOException {
-        final List<YamlLine> lines = new ArrayList<>();
-        try (
-            BufferedReader reader = new BufferedReader(
-                new InputStreamReader(this.source)
-            )
-        ) {
-            String line;
-            int number = 0;
-            while ((line = reader.readLine()) != null) {
-
-                if (this.mappingStartsAtDash(line)) {
-
-                    // if line starts with a sequence ("-") and the first
-                    // key:value is unescaped and on the same line with the
-                    // sequence marker, then split the line by keeping the "-"
-                    // on the same indentation and move the key:value on the
-                    // next line with correct indentation relative to "-".
-                    // see bug:
-                    // https://github.com/decorators-squad/eo-yaml/issues/447
-
-                    final String seqIndent = Stream.iterate(" ", s -> s)
-                        .limit(new RtYamlLine(line, number).indentation())
-                        .reduce((acc, space) -> acc + space)
-                        .orElse("");
-                    final YamlLine sequenceLine = new RtYamlLine(
-                        seqIndent + "-",
-                        number
-                    );
-                    lines.add(sequenceLine);
-
-                    // 2 spaces offset
-                    final String offset = "  ";
-                    final String keyValueIndent = seqIndent + offset;
-                    final YamlLine keyValueLine = new RtYamlLine(
-                        keyValueIndent + line.split("-")[1].trim(),
-                        ++number
-                    );
-                    if (!keyValueLine.toString().trim().isEmpty()) {
-                        lines.add(keyValueLine);
-                    }
-                } else {
-                    final YamlLine current = new RtYamlLine(line, number);
-                    if (!current.toString().trim().isEmpty()) {
-                        lines.add(current);
-                    }
-                }
-                number++;
-            }
-        }
-        return new AllYamlLines(lines);
+        return this.readInput((indent, trimmed, kind) -> true);
+    }
+
+    /**
+     * Read only the lines covered by the given projection.
+     * @param projection Projection.
+     * @return AllYamlLines.
+     * @throws IOException If the input cannot be read.
+     */
+    private AllYamlLines readInput(final Projection projection)
+        throws IOException {
+        return this.readInput(new ProjectedRows(projection));
     }
 
     /**
-     * Is the <i>key:value</i> on the same line as the same sequence marker
-     * <i>-</i> ?.
-     * <br/>
-     * Example:
-     * <br/>
-     * <code>
-     *     - foo: bar
-     * </code>
-     * @param line Line.
-     * @return Boolean.
+     * Read the lines kept by the given filter. If comments are not read,
+     * they are dropped from the lines as well.
+     * @param filter Which lines to keep.
+     * @return AllYamlLines.
+     * @throws IOException If the input cannot be read.
      */
-    private boolean mappingStartsAtDash(final String line){
-        //line without indentation.
-        final String trimmed = line.trim();
-        final boolean escapedScalar = trimmed.matches("^[ ]*-[ ]*\".*\"$")
-            || trimmed.matches("^[ ]*-[ ]*'.*'$");
-        return trimmed.matches("^[ ]*-.*:.+$") && !escapedScalar;
+    private AllYamlLines readInput(final LineTable.Filter filter)
+        throws IOException {
+        return new AllYamlLines(
+            new LineTable(this.source.chars(), filter, this.readComments),
+            this.readComments
+        );
     }
 }
@@ -49,6 +49,16 @@ final class RtYamlLine implements YamlLine {
      */
     private int number;
 
+    /**
+     * Trimmed contents, calculated once.
+     */
+    private String trimmed;
+
+    /**
+     * Kind of this line, calculated once.
+     */
+    private LineKind kind;
+
     /**
      * Ctor.
      * @param value Contents of this line.
@@ -61,26 +71,18 @@ final class RtYamlLine implements YamlLine {
 
     @Override
     public String trimmed() {
-        String trimmed = this.value.trim();
-        int i = 0;
-        while(i < trimmed.length()) {
-            if(i > 0 && trimmed.charAt(i) == '#') {
-                trimmed = trimmed.substring(0, i);
-                break;
-            } else if(trimmed.charAt(i) == '"') {
-                i++;
-                while(i < trimmed.length() && trimmed.charAt(i) != '"') {
-                    i++;
-                }
-            } else if(trimmed.charAt(i) == '\'') {
-                i++;
-                while(i < trimmed.length() && trimmed.charAt(i) != '\'') {
-                    i++;
-                }
-            }
-            i++;
+        if(this.trimmed == null) {
+            this.trimmed = this.withoutComment();
         }
-        return trimmed.trim();
+        return this.trimmed;
+    }
+
+    @Override
+    public LineKind kind() {
+        if(this.kind == null) {
+            this.kind = LineKind.from(this.trimmed());
+        }
+        return this.kind;
     }
 
     @Override
@@ -101,20 +103,20 @@ final class RtYamlLine implements YamlLine {
     @Override
     public String comment() {
         String comment = "";
-        String trimmed = this.value.trim();
+        String text = this.value.trim();
         int i = 0;
-        while(i < trimmed.length()) {
-            if(trimmed.charAt(i) == '#') {
-                comment = trimmed.substring(i + 1);
+        while(i < text.length()) {
+            if(text.charAt(i) == '#') {
+                comment = text.substring(i + 1);
                 break;
-            } else if(trimmed.charAt(i) == '"') {
+            } else if(text.charAt(i) == '"') {
                 i++;
-                while(i < trimmed.length() && trimmed.charAt(i) != '"') {
+                while(i < text.length() && text.charAt(i) != '"') {
                     i++;
                 }
-            } else if(trimmed.charAt(i) == '\'') {
+            } else if(text.charAt(i) == '\'') {
                 i++;
-                while(i < trimmed.length() && trimmed.charAt(i) != '\'') {
+                while(i < text.length() && text.charAt(i) != '\'') {
                     i++;
                 }
             }
@@ -169,4 +171,31 @@ final class RtYamlLine implements YamlLine {
         }
         return result;
     }
+
+    /**
+     * This line's contents without the comment and the surrounding spaces.
+     * @return String.
+     */
+    private String withoutComment() {
+        String text = this.value.trim();
+        int i = 0;
+        while(i < text.length()) {
+            if(i > 0 && text.charAt(i) == '#') {
+                text = text.substring(0, i);
+                break;
+            } else if(text.charAt(i) == '"') {
+                i++;
+                while(i < text.length() && text.charAt(i) != '"') {
+                    i++;
+                }
+            } else if(text.charAt(i) == '\'') {
+                i++;
+                while(i < text.length() && text.charAt(i) != '\'') {
+                    i++;
+                }
+            }
+            i++;
+        }
+        return text.trim();
+    }
 }
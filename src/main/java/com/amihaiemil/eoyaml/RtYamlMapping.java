@@ -46,8 +46,7 @@ final class RtYamlMapping extends BaseYamlMapping {
     /**
      * Key:value linked map (maintains the order of insertion).
      */
-    private final Map<YamlNode, YamlNode> mappings =
-        new LinkedHashMap<>();
+    private final Map<YamlNode, YamlNode> mappings;
 
     /**
      * Ctor.
@@ -66,7 +65,26 @@ final class RtYamlMapping extends BaseYamlMapping {
         final Map<YamlNode, YamlNode> entries,
         final String comment
     ) {
-        this.mappings.putAll(entries);
+        this(entries, comment, false);
+    }
+
+    /**
+     * Ctor.
+     * @param entries Entries contained in this mapping.
+     * @param comment Comment on top of this YamlMapping.
+     * @param owned If true, the given LinkedHashMap is used as it is,
+     *  instead of being copied, so nobody else should change it.
+     */
+    RtYamlMapping(
+        final Map<YamlNode, YamlNode> entries,
+        final String comment,
+        final boolean owned
+    ) {
+        if(owned) {
+            this.mappings = entries;
+        } else {
+            this.mappings = new LinkedHashMap<>(entries);
+        }
         this.comment = new BuiltComment(this, comment);
     }
 
@@ -82,6 +100,22 @@ final class RtYamlMapping extends BaseYamlMapping {
         return this.mappings.get(key);
     }
 
+    @Override
+    public boolean containsKey(final YamlNode key) {
+        return this.mappings.containsKey(key);
+    }
+
+    @Override
+    public Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        final List<Map.Entry<YamlNode, YamlNode>> entries =
+            new ArrayList<>(this.mappings.size());
+        for(final Map.Entry<YamlNode, YamlNode> entry
+            : this.mappings.entrySet()) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+        }
+        return entries;
+    }
+
     @Override
     public Comment comment() {
         return this.comment;
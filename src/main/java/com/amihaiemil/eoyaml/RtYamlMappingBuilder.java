@@ -27,6 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.AbstractMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -41,22 +42,25 @@ import java.util.Map;
 final class RtYamlMappingBuilder implements YamlMappingBuilder {
 
     /**
-     * Added pairs.
+     * Added pairs, in order. A key added again replaces the previous
+     * value when the YamlMapping is built.
      */
-    private final Map<YamlNode, YamlNode> pairs;
+    private final Appended<Map.Entry<YamlNode, YamlNode>> pairs;
 
     /**
      * Default ctor.
      */
     RtYamlMappingBuilder() {
-        this(new LinkedHashMap<>());
+        this(new Appended<>());
     }
 
     /**
      * Constructor.
      * @param pairs Pairs used in building the YamlMapping.
      */
-    RtYamlMappingBuilder(final Map<YamlNode, YamlNode> pairs) {
+    RtYamlMappingBuilder(
+        final Appended<Map.Entry<YamlNode, YamlNode>> pairs
+    ) {
         this.pairs = pairs;
     }
 
@@ -85,19 +89,35 @@ final class RtYamlMappingBuilder implements YamlMappingBuilder {
                 "The key in YamlMapping cannot be null or empty!"
             );
         }
-        final Map<YamlNode, YamlNode> withAdded = new LinkedHashMap<>();
-        withAdded.putAll(this.pairs);
-        withAdded.put(key, value);
-        return new RtYamlMappingBuilder(withAdded);
+        return new RtYamlMappingBuilder(
+            this.pairs.with(new AbstractMap.SimpleImmutableEntry<>(key, value))
+        );
+    }
+
+    @Override
+    public YamlMappingBuilder transientMode() {
+        return new TransientYamlMappingBuilder(this.entries());
     }
 
     @Override
     public YamlMapping build(final String comment) {
-        YamlMapping mapping = new RtYamlMapping(this.pairs, comment);
-        if (pairs.isEmpty()) {
+        final Map<YamlNode, YamlNode> entries = this.entries();
+        YamlMapping mapping = new RtYamlMapping(entries, comment, true);
+        if (entries.isEmpty()) {
             mapping = new EmptyYamlMapping(mapping);
         }
         return mapping;
     }
 
+    /**
+     * The added pairs, in order. A key added again has its last value.
+     * @return Mutable LinkedHashMap.
+     */
+    private Map<YamlNode, YamlNode> entries() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        for(final Map.Entry<YamlNode, YamlNode> pair : this.pairs.toList()) {
+            entries.put(pair.getKey(), pair.getValue());
+        }
+        return entries;
+    }
 }
@@ -0,0 +1,512 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * YamlPath compiled into a list of steps. The path is evaluated with an
+ * explicit stack of iterators, one for each step, so the nodes are found
+ * one by one, as they are needed. Only the nodes on the path are visited:
+ * a key step looks the key up in the mapping and, for read YAML, the
+ * mapping's keys are found by jumping from sibling to sibling in the
+ * index of the lines, so the subtrees of the other keys are never read.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class RtYamlPath implements YamlPath {
+
+    /**
+     * The path, as given.
+     */
+    private final String expression;
+
+    /**
+     * Compiled steps.
+     */
+    private final List<Step> steps;
+
+    /**
+     * Ctor.
+     * @param expression The path.
+     * @throws IllegalArgumentException If the path is not valid.
+     */
+    RtYamlPath(final String expression) {
+        this.expression = expression;
+        this.steps = RtYamlPath.compile(expression);
+    }
+
+    @Override
+    public Stream<YamlNode> select(final YamlNode node) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new Selection(node),
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+
+    /**
+     * Is the node at the given path selected by this YamlPath, or is it
+     * inside a selected node?
+     * @param path Keys and indexes ([2]) leading to the node,
+     *  from the root.
+     * @return True or false.
+     */
+    boolean selects(final List<String> path) {
+        return this.matches(0, path, 0, false);
+    }
+
+    /**
+     * Could the node at the given path hold nodes selected by this
+     * YamlPath, or is it selected itself?
+     * @param path Keys and indexes ([2]) leading to the node,
+     *  from the root.
+     * @return True or false.
+     */
+    boolean covers(final List<String> path) {
+        return this.matches(0, path, 0, true);
+    }
+
+    /**
+     * Match the path of a node against the steps. A recursive descent
+     * matches any number of keys or indexes.
+     * @param step First step to match.
+     * @param path Keys and indexes leading to the node.
+     * @param element First element of the path to match.
+     * @param prefix Is it enough for the path to match the first steps?
+     * @return True or false.
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private boolean matches(
+        final int step, final List<String> path, final int element,
+        final boolean prefix
+    ) {
+        final boolean matches;
+        if(step == this.steps.size()) {
+            matches = true;
+        } else if(element == path.size()) {
+            matches = prefix;
+        } else if(this.steps.get(step) instanceof Descent) {
+            matches = this.matches(step + 1, path, element, prefix)
+                || this.matches(step, path, element + 1, prefix);
+        } else {
+            matches = this.steps.get(step).matches(path.get(element))
+                && this.matches(step + 1, path, element + 1, prefix);
+        }
+        return matches;
+    }
+
+    /**
+     * Compile the path.
+     * @param expression The path.
+     * @return List of steps.
+     */
+    private static List<Step> compile(final String expression) {
+        final List<Step> steps = new ArrayList<>();
+        int pos = 0;
+        if(expression.startsWith("$")) {
+            pos = 1;
+        }
+        boolean name = pos == 0;
+        while(pos < expression.length()) {
+            final char current = expression.charAt(pos);
+            if(current == '.') {
+                if(expression.startsWith("..", pos)) {
+                    steps.add(new Descent());
+                    pos = pos + 2;
+                } else {
+                    pos = pos + 1;
+                }
+                RtYamlPath.expectStep(expression, pos);
+                name = true;
+            } else if(current == '[') {
+                pos = RtYamlPath.bracket(expression, pos, steps);
+                name = false;
+            } else if(name) {
+                pos = RtYamlPath.name(expression, pos, steps);
+                name = false;
+            } else {
+                throw RtYamlPath.invalid(expression, pos);
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Make sure a step follows at the given position.
+     * @param expression The path.
+     * @param pos Position.
+     */
+    private static void expectStep(final String expression, final int pos) {
+        if(pos >= expression.length() || expression.charAt(pos) == '.') {
+            throw RtYamlPath.invalid(expression, pos);
+        }
+    }
+
+    /**
+     * Compile a key or a wildcard, which ends at the next dot or bracket.
+     * @param expression The path.
+     * @param start Where the name starts.
+     * @param steps Where to add the step.
+     * @return Position after the name.
+     */
+    private static int name(
+        final String expression, final int start, final List<Step> steps
+    ) {
+        int end = start;
+        while(end < expression.length() && expression.charAt(end) != '.'
+            && expression.charAt(end) != '[') {
+            end = end + 1;
+        }
+        final String name = expression.substring(start, end);
+        if("*".equals(name)) {
+            steps.add(new Wildcard());
+        } else {
+            steps.add(new Key(name));
+        }
+        return end;
+    }
+
+    /**
+     * Compile a step between brackets: an index, a wildcard or
+     * a quoted key.
+     * @param expression The path.
+     * @param start Where the opening bracket is.
+     * @param steps Where to add the step.
+     * @return Position after the closing bracket.
+     */
+    private static int bracket(
+        final String expression, final int start, final List<Step> steps
+    ) {
+        final int end = expression.indexOf(']', start);
+        if(end < 0) {
+            throw RtYamlPath.invalid(expression, start);
+        }
+        final String inside = expression.substring(start + 1, end).trim();
+        if("*".equals(inside)) {
+            steps.add(new Wildcard());
+        } else if(inside.length() > 1 && (inside.charAt(0) == '\''
+            || inside.charAt(0) == '"')
+            && inside.charAt(inside.length() - 1) == inside.charAt(0)) {
+            steps.add(new Key(inside.substring(1, inside.length() - 1)));
+        } else if(!inside.isEmpty() && inside.chars().allMatch(
+            digit -> digit >= '0' && digit <= '9'
+        )) {
+            steps.add(new Index(Integer.parseInt(inside)));
+        } else {
+            throw RtYamlPath.invalid(expression, start);
+        }
+        return end + 1;
+    }
+
+    /**
+     * Exception for an invalid path.
+     * @param expression The path.
+     * @param pos Where the error is.
+     * @return IllegalArgumentException.
+     */
+    private static IllegalArgumentException invalid(
+        final String expression, final int pos
+    ) {
+        return new IllegalArgumentException(
+            "Invalid YAML path '" + expression + "' at position " + pos + "."
+        );
+    }
+
+    /**
+     * The nodes found by the path, visited depth-first, with an iterator
+     * for each step on the stack.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private final class Selection implements Iterator<YamlNode> {
+
+        /**
+         * Iterators of nodes; the one at depth N holds the nodes to which
+         * step N is applied next.
+         */
+        private final Deque<Iterator<YamlNode>> stack;
+
+        /**
+         * Next found node, looked up in advance.
+         */
+        private YamlNode next;
+
+        /**
+         * Ctor.
+         * @param node Node to start from.
+         */
+        Selection(final YamlNode node) {
+            this.stack = new ArrayDeque<>();
+            this.stack.push(Collections.singletonList(node).iterator());
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(this.next == null) {
+                this.next = this.fetch();
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public YamlNode next() {
+            if(!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "No more nodes found at " + RtYamlPath.this.expression
+                );
+            }
+            final YamlNode found = this.next;
+            this.next = null;
+            return found;
+        }
+
+        /**
+         * Find the next node.
+         * @return YamlNode or null if there are no more.
+         */
+        private YamlNode fetch() {
+            YamlNode found = null;
+            while(found == null && !this.stack.isEmpty()) {
+                final Iterator<YamlNode> top = this.stack.peek();
+                if(top.hasNext()) {
+                    final YamlNode node = top.next();
+                    final int depth = this.stack.size() - 1;
+                    if(node == null) {
+                        continue;
+                    } else if(depth == RtYamlPath.this.steps.size()) {
+                        found = node;
+                    } else {
+                        this.stack.push(
+                            RtYamlPath.this.steps.get(depth).apply(node)
+                        );
+                    }
+                } else {
+                    this.stack.pop();
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * A step of the path.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    interface Step {
+
+        /**
+         * Apply this step to a node.
+         * @param node Node.
+         * @return The nodes selected by this step, which can be null.
+         */
+        Iterator<YamlNode> apply(YamlNode node);
+
+        /**
+         * Does this step match the given key or index ([2])?
+         * @param element Key or index.
+         * @return True or false.
+         */
+        boolean matches(String element);
+    }
+
+    /**
+     * Step selecting the value of a key.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Key implements Step {
+
+        /**
+         * The key.
+         */
+        private final YamlNode key;
+
+        /**
+         * The key, as text.
+         */
+        private final String text;
+
+        /**
+         * Ctor.
+         * @param key The key.
+         */
+        Key(final String key) {
+            this.key = new PlainStringScalar(key);
+            this.text = key;
+        }
+
+        @Override
+        public boolean matches(final String element) {
+            return this.text.equals(element);
+        }
+
+        @Override
+        public Iterator<YamlNode> apply(final YamlNode node) {
+            final Iterator<YamlNode> found;
+            if(node instanceof YamlMapping) {
+                found = Collections.singletonList(
+                    ((YamlMapping) node).value(this.key)
+                ).iterator();
+            } else {
+                found = Collections.emptyIterator();
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Step selecting an element of a sequence.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Index implements Step {
+
+        /**
+         * The index.
+         */
+        private final int index;
+
+        /**
+         * Ctor.
+         * @param index The index.
+         */
+        Index(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean matches(final String element) {
+            return ("[" + this.index + "]").equals(element);
+        }
+
+        @Override
+        public Iterator<YamlNode> apply(final YamlNode node) {
+            Iterator<YamlNode> found = Collections.emptyIterator();
+            if(node instanceof YamlSequence) {
+                final YamlNode element = ((YamlSequence) node).get(this.index);
+                if(element != null) {
+                    found = Collections.singletonList(element).iterator();
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Step selecting all the values of a mapping or a sequence.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Wildcard implements Step {
+
+        @Override
+        public boolean matches(final String element) {
+            return true;
+        }
+
+        @Override
+        public Iterator<YamlNode> apply(final YamlNode node) {
+            final Iterator<YamlNode> found;
+            if(node instanceof YamlMapping) {
+                found = ((YamlMapping) node).values().iterator();
+            } else if(node instanceof YamlSequence) {
+                found = ((YamlSequence) node).values().iterator();
+            } else {
+                found = Collections.emptyIterator();
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Step selecting a node and all its descendants, in the order
+     * of the document.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 5.2.2
+     */
+    private static final class Descent implements Step {
+
+        @Override
+        public boolean matches(final String element) {
+            return true;
+        }
+
+        @Override
+        public Iterator<YamlNode> apply(final YamlNode node) {
+            final Deque<Iterator<YamlNode>> stack = new ArrayDeque<>();
+            stack.push(Collections.singletonList(node).iterator());
+            final Step children = new Wildcard();
+            return new Iterator<YamlNode>() {
+                @Override
+                public boolean hasNext() {
+                    while(!stack.isEmpty() && !stack.peek().hasNext()) {
+                        stack.pop();
+                    }
+                    return !stack.isEmpty();
+                }
+                @Override
+                public YamlNode next() {
+                    if(!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final YamlNode current = stack.peek().next();
+                    if(current != null) {
+                        stack.push(children.apply(current));
+                    }
+                    return current;
+                }
+            };
+        }
+    }
+}
@@ -31,9 +31,12 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base implementation of YamlPrinter. "Rt" stands for "Runtime".
+ * Everything is written straight to the Writer, through an
+ * {@link IndentedWriter}.
  * @checkstyle ExecutableStatementCount (400 lines)
  * @checkstyle CyclomaticComplexity (400 lines)
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -45,34 +48,38 @@ final class RtYamlPrinter implements YamlPrinter {
     /**
      * Writer where the given YAML will be printed.
      */
-    private final Writer writer;
+    private final IndentedWriter writer;
 
     /**
      * Constructor.
      * @param writer Destination writer.
      */
     RtYamlPrinter(final Writer writer) {
-        this.writer = writer;
+        this.writer = new IndentedWriter(writer);
     }
 
     @Override
     public void print(final YamlNode node) throws IOException  {
         try {
             if (node instanceof Scalar) {
-                this.writer.append("---").append(System.lineSeparator());
-                this.printPossibleComment(node, "");
+                this.writer.write("---");
+                this.writer.newLine();
+                this.printPossibleComment(node, 0);
                 this.printScalar((Scalar) node, 0);
-                this.writer.append(System.lineSeparator()).append("...");
+                this.writer.newLine();
+                this.writer.write("...");
             } else if (node instanceof YamlSequence) {
-                boolean documentComment = this.printPossibleComment(node, "");
+                boolean documentComment = this.printPossibleComment(node, 0);
                 if(documentComment) {
-                    this.writer.append("---").append(System.lineSeparator());
+                    this.writer.write("---");
+                    this.writer.newLine();
                 }
                 this.printSequence((YamlSequence) node, 0);
             } else if (node instanceof YamlMapping) {
-                boolean documentComment = this.printPossibleComment(node, "");
+                boolean documentComment = this.printPossibleComment(node, 0);
                 if(documentComment) {
-                    this.writer.append("---").append(System.lineSeparator());
+                    this.writer.write("---");
+                    this.writer.newLine();
                 }
                 this.printMapping((YamlMapping) node, 0);
             } else if (node instanceof YamlStream) {
@@ -93,22 +100,14 @@ final class RtYamlPrinter implements YamlPrinter {
         final YamlStream stream,
         final int indentation
     ) throws IOException {
-        final String newLine = System.lineSeparator();
-        int spaces = indentation;
-        final StringBuilder indent = new StringBuilder();
-        while (spaces > 0) {
-            indent.append(" ");
-            spaces--;
-        }
         final Iterator<YamlNode> valuesIt = stream.values().iterator();
         while(valuesIt.hasNext()) {
             final YamlNode document = valuesIt.next();
-            this.writer
-                .append(indent)
-                .append("---");
+            this.writer.indent(indentation);
+            this.writer.write("---");
             this.printNode(document, true, indentation + 2);
             if(valuesIt.hasNext()) {
-                this.writer.append(newLine);
+                this.writer.newLine();
             }
         }
     }
@@ -123,43 +122,31 @@ final class RtYamlPrinter implements YamlPrinter {
         final YamlMapping mapping,
         final int indentation
     ) throws IOException {
-        final String newLine = System.lineSeparator();
-        int spaces = indentation;
-        final StringBuilder alignment = new StringBuilder();
-        while (spaces > 0) {
-            alignment.append(" ");
-            spaces--;
-        }
-        final Iterator<YamlNode> keysIt = mapping.keys().iterator();
-        while(keysIt.hasNext()) {
-            final YamlNode key = keysIt.next();
-            final YamlNode value = mapping.value(key);
-            this.printPossibleComment(value, alignment.toString());
-            this.writer.append(alignment);
+        final Iterator<Map.Entry<YamlNode, YamlNode>> entriesIt =
+            mapping.entries().iterator();
+        while(entriesIt.hasNext()) {
+            final Map.Entry<YamlNode, YamlNode> entry = entriesIt.next();
+            final YamlNode key = entry.getKey();
+            final YamlNode value = entry.getValue();
+            this.printPossibleComment(value, indentation);
+            this.writer.indent(indentation);
             if(key instanceof Scalar) {
-                this.writer.append(
-                    this.indent(
-                        new Escaped((Scalar) key).value(),
-                        0
-                    )
-                );
-                this.writer
-                    .append(":");
+                this.writer.escaped(((Scalar) key).value());
+                this.writer.write(':');
             } else {
-                this.writer
-                    .append("?");
+                this.writer.write('?');
                 this.printNode(key, true, indentation + 2);
-                this.writer.append(newLine)
-                    .append(alignment)
-                    .append(":");
+                this.writer.newLine();
+                this.writer.indent(indentation);
+                this.writer.write(':');
             }
             if (value instanceof Scalar) {
                 this.printNode(value, false, indentation);
             } else  {
                 this.printNode(value, true, indentation + 2);
             }
-            if(keysIt.hasNext()) {
-                this.writer.append(newLine);
+            if(entriesIt.hasNext()) {
+                this.writer.newLine();
             }
         }
     }
@@ -174,27 +161,19 @@ final class RtYamlPrinter implements YamlPrinter {
         final YamlSequence sequence,
         final int indentation
     ) throws IOException {
-        final String newLine = System.lineSeparator();
-        int spaces = indentation;
-        final StringBuilder alignment = new StringBuilder();
-        while (spaces > 0) {
-            alignment.append(" ");
-            spaces--;
-        }
         final Iterator<YamlNode> valuesIt = sequence.values().iterator();
         while(valuesIt.hasNext()) {
             final YamlNode node = valuesIt.next();
-            this.printPossibleComment(node, alignment.toString());
-            this.writer
-                .append(alignment)
-                .append("-");
+            this.printPossibleComment(node, indentation);
+            this.writer.indent(indentation);
+            this.writer.write('-');
             if (node instanceof Scalar) {
                 this.printNode(node, false, 0);
             } else  {
                 this.printNode(node, true, indentation + 2);
             }
             if(valuesIt.hasNext()) {
-                this.writer.append(newLine);
+                this.writer.newLine();
             }
         }
     }
@@ -211,51 +190,32 @@ final class RtYamlPrinter implements YamlPrinter {
     ) throws IOException {
         if (scalar instanceof BaseFoldedScalar) {
             final BaseFoldedScalar foldedScalar = (BaseFoldedScalar) scalar;
-            this.writer.append(">");
-            if(!scalar.comment().value().isEmpty()) {
-                this.writer.append(" # ").append(scalar.comment().value());
-            }
-            this.writer.append(System.lineSeparator());
+            this.writer.write('>');
+            this.writer.inline(scalar.comment().value());
+            this.writer.newLine();
             final List<String> unfolded = foldedScalar.unfolded();
             for(int idx = 0; idx < unfolded.size(); idx++) {
-                this.writer.append(
-                    this.indent(
-                        unfolded.get(idx).trim(),
-                        indentation + 2
-                    )
+                this.writer.lines(
+                    unfolded.get(idx).trim(), indentation + 2, false
                 );
                 if(idx < unfolded.size() - 1) {
-                    this.writer.append(System.lineSeparator());
+                    this.writer.newLine();
                 }
             }
         } else if (scalar instanceof RtYamlScalarBuilder.BuiltLiteralBlockScalar
                 || scalar instanceof ReadLiteralBlockScalar
         ) {
-            this.writer.append("|");
-            if(!scalar.comment().value().isEmpty()) {
-                this.writer.append(" # ").append(scalar.comment().value());
-            }
-            this.writer
-                .append(System.lineSeparator())
-                .append(
-                    this.indent(scalar.value(), indentation + 2)
-                );
+            this.writer.write('|');
+            this.writer.inline(scalar.comment().value());
+            this.writer.newLine();
+            this.writer.lines(scalar.value(), indentation + 2, false);
         } else {
             final Comment comment = scalar.comment();
             if(comment instanceof ScalarComment) {
-                this.writer.append(
-                    this.indent(
-                        new Escaped(scalar).value(),
-                        0
-                    )
+                this.writer.escaped(scalar.value());
+                this.writer.inline(
+                    ((ScalarComment) comment).inline().value()
                 );
-                final ScalarComment scalarComment = (ScalarComment) comment;
-
-                if(!scalarComment.inline().value().isEmpty()) {
-                    this.writer.append(" # ").append(
-                        scalarComment.inline().value()
-                    );
-                }
             }
         }
     }
@@ -275,17 +235,17 @@ final class RtYamlPrinter implements YamlPrinter {
     ) throws IOException {
         if (node == null || ((BaseYamlNode) node).isEmpty()) {
             if (node instanceof EmptyYamlSequence) {
-                this.writer.append(" ").append("[]");
+                this.writer.write(" []");
             } else if (node instanceof EmptyYamlMapping) {
-                this.writer.append(" ").append("{}");
+                this.writer.write(" {}");
             } else {
-                this.writer.append(" ").append("null");
+                this.writer.write(" null");
             }
         } else {
             if (onNewLine) {
-                this.writer.append(System.lineSeparator());
+                this.writer.newLine();
             } else {
-                this.writer.append(" ");
+                this.writer.write(' ');
             }
             if (node instanceof Scalar) {
                 this.printScalar((Scalar) node, indentation);
@@ -304,64 +264,33 @@ final class RtYamlPrinter implements YamlPrinter {
      * lines separated by NewLine and also add a '# ' in front of each
      * line.
      * @param node Node containing the Comment.
-     * @param alignment Indentation.
+     * @param indentation Indentation.
      * @return True if a comment was printed, false otherwise.
      * @throws IOException If any I/O problem occurs.
      */
     private boolean printPossibleComment(
         final YamlNode node,
-        final String alignment
+        final int indentation
     ) throws IOException {
         boolean printed = false;
-        if(node != null && node.comment() != null) {
-            final Comment tmpComment;
-            if(node.comment() instanceof ScalarComment) {
-                tmpComment = ((ScalarComment) node.comment()).above();
-            } else {
-                tmpComment = node.comment();
-            }
-            final String com = tmpComment.value();
-            if (com.trim().length() != 0) {
-                String[] lines = com.split(System.lineSeparator());
-                for (final String line : lines) {
-                    this.writer
-                            .append(alignment)
-                            .append("# ")
-                            .append(line)
-                            .append(System.lineSeparator());
+        if(node != null) {
+            final Comment comment = node.comment();
+            if(comment != null) {
+                final String com;
+                if(comment instanceof ScalarComment) {
+                    com = ((ScalarComment) comment).above().value();
+                } else {
+                    com = comment.value();
+                }
+                if (com.trim().length() != 0) {
+                    this.writer.lines(com, indentation, true);
+                    printed = true;
                 }
-                printed = true;
             }
         }
         return printed;
     }
 
-    /**
-     * Indent a given String value. If the String has multiple lines,
-     * they will all be indented together.
-     * @param value String to indent.
-     * @param indentation Indentation level.
-     * @return Indented String.
-     */
-    private String indent(final String value, final int indentation) {
-        StringBuilder alignment = new StringBuilder();
-        int spaces = indentation;
-        while (spaces > 0) {
-            alignment.append(" ");
-            spaces--;
-        }
-        String[] lines = value.split(System.lineSeparator());
-        StringBuilder printed = new StringBuilder();
-        for(int idx = 0; idx < lines.length; idx++) {
-            printed.append(alignment);
-            printed.append(lines[idx]);
-            if(idx < lines.length - 1) {
-                printed.append(System.lineSeparator());
-            }
-        }
-        return printed.toString();
-    }
-
     /**
      * A scalar which escapes its value.
      * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -370,6 +299,13 @@ final class RtYamlPrinter implements YamlPrinter {
      */
     static class Escaped extends BaseScalar {
 
+        /**
+         * ASCII characters which require quotes.
+         */
+        private static final boolean[] SPECIAL = Escaped.table(
+            "?-#:>|$%&{}[]"
+        );
+
         /**
          * Original unescaped scalar.
          */
@@ -386,15 +322,12 @@ final class RtYamlPrinter implements YamlPrinter {
         @Override
         public String value() {
             final String value = this.original.value();
-            String escaped = value;
-            boolean quoted = (value.startsWith("'") && value.endsWith("'"))
-                    || (value.startsWith("\"") && value.endsWith("\""));
-            if (!quoted && value.matches(".*[?\\-#:>|$%&{}\\[\\]]+.*|[ ]+")) {
-                if(value.contains("\"")) {
-                    escaped = "'" + value + "'";
-                } else {
-                    escaped = "\"" + value + "\"";
-                }
+            final char quote = Escaped.quote(value);
+            final String escaped;
+            if(quote == 0) {
+                escaped = value;
+            } else {
+                escaped = quote + value + quote;
             }
             return escaped;
         }
@@ -403,5 +336,70 @@ final class RtYamlPrinter implements YamlPrinter {
         public Comment comment() {
             return this.original.comment();
         }
+
+        /**
+         * The quote to put around the given value. A value needs quotes if
+         * it is not quoted already and it has special characters on a
+         * single line, or it is made only of spaces. Double quotes are
+         * used, unless the value contains some.
+         * @param value Value.
+         * @return Quote or 0 if no quotes are needed.
+         */
+        static char quote(final String value) {
+            final boolean quoted = value.length() > 0
+                && (value.charAt(0) == '\'' || value.charAt(0) == '"')
+                && value.charAt(value.length() - 1) == value.charAt(0);
+            char quote = 0;
+            if(!quoted && Escaped.special(value)) {
+                if(value.indexOf('"') >= 0) {
+                    quote = '\'';
+                } else {
+                    quote = '"';
+                }
+            }
+            return quote;
+        }
+
+        /**
+         * Does the value have special characters and no line terminators,
+         * or is it made only of spaces?
+         * @param value Value.
+         * @return True or false.
+         */
+        private static boolean special(final String value) {
+            boolean special = false;
+            boolean terminated = false;
+            boolean blank = !value.isEmpty();
+            for(int idx = 0; idx < value.length(); ++idx) {
+                final char chr = value.charAt(idx);
+                special = special || chr < SPECIAL.length && SPECIAL[chr];
+                terminated = terminated || Escaped.terminator(chr);
+                blank = blank && chr == ' ';
+            }
+            return special && !terminated || blank;
+        }
+
+        /**
+         * Is the character a line terminator?
+         * @param chr Character.
+         * @return True or false.
+         */
+        private static boolean terminator(final char chr) {
+            return chr == '\n' || chr == '\r'
+                || "\u0085\u2028\u2029".indexOf(chr) >= 0;
+        }
+
+        /**
+         * Lookup table of the given ASCII characters.
+         * @param chars Characters.
+         * @return Table, true for the given characters.
+         */
+        private static boolean[] table(final String chars) {
+            final boolean[] table = new boolean[128];
+            for(int idx = 0; idx < chars.length(); ++idx) {
+                table[chars.charAt(idx)] = true;
+            }
+            return table;
+        }
     }
 }
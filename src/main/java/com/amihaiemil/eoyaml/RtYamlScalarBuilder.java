@@ -28,7 +28,6 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -44,47 +43,45 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
     /**
      * Added lines.
      */
-    private final List<String> lines;
+    private final Appended<String> lines;
 
     /**
      * Default ctor.
      */
     RtYamlScalarBuilder() {
-        this(new LinkedList<>());
+        this(new Appended<>());
     }
 
     /**
      * Constructor.
      * @param lines String lines of the Scalar.
      */
-    RtYamlScalarBuilder(final List<String> lines) {
+    RtYamlScalarBuilder(final Appended<String> lines) {
         this.lines = lines;
     }
 
     @Override
     public YamlScalarBuilder addLine(final String value) {
-        final List<String> all = new LinkedList<>();
-        all.addAll(this.lines);
-        all.add(value);
-        return new RtYamlScalarBuilder(all);
+        return new RtYamlScalarBuilder(this.lines.with(value));
     }
 
     @Override
     public Scalar buildPlainScalar(final String above, final String inline) {
-        final String plain = this.lines.stream().filter(line -> line!=null).map(
-            line -> line.replaceAll(System.lineSeparator(), " ")
-        ).collect(Collectors.joining(" "));
+        final String plain = this.lines.toList().stream()
+            .filter(line -> line!=null)
+            .map(line -> line.replaceAll(System.lineSeparator(), " "))
+            .collect(Collectors.joining(" "));
         return new PlainStringScalar(plain, above, inline);
     }
 
     @Override
     public Scalar buildFoldedBlockScalar(final String comment) {
-        return new BuiltFoldedBlockScalar(this.lines, comment);
+        return new BuiltFoldedBlockScalar(this.lines.toList(), comment);
     }
 
     @Override
     public Scalar buildLiteralBlockScalar(final String comment) {
-        return new BuiltLiteralBlockScalar(this.lines, comment);
+        return new BuiltLiteralBlockScalar(this.lines.toList(), comment);
     }
 
     /**
@@ -105,6 +102,12 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
          */
         private final List<String> lines;
 
+        /**
+         * Value of this scalar, if it is already known (e.g. it is a copy
+         * of a read scalar), or null if it is folded from the lines.
+         */
+        private final String folded;
+
         /**
          * Ctor.
          * @param lines Given string lines.
@@ -120,9 +123,25 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
          */
         BuiltFoldedBlockScalar(
             final List<String> lines, final String comment
+        ) {
+            this(lines, comment, null);
+        }
+
+        /**
+         * Ctor.
+         * @param lines Given string lines.
+         * @param comment Comment referring to this scalar.
+         * @param folded Value of this scalar or null if it should be
+         *  folded from the lines.
+         */
+        BuiltFoldedBlockScalar(
+            final List<String> lines,
+            final String comment,
+            final String folded
         ) {
             this.lines = lines;
             this.comment = new BuiltComment(this, comment);
+            this.folded = folded;
         }
 
         /**
@@ -136,9 +155,13 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
          */
         @Override
         public String value() {
-            return this.lines.stream().map(
-                line -> line.replaceAll(System.lineSeparator(), " ")
-            ).collect(Collectors.joining(" "));
+            String value = this.folded;
+            if(value == null) {
+                value = this.lines.stream().map(
+                    line -> line.replaceAll(System.lineSeparator(), " ")
+                ).collect(Collectors.joining(" "));
+            }
+            return value;
         }
 
         @Override
@@ -46,7 +46,7 @@ final class RtYamlSequence extends BaseYamlSequence {
     /**
      * Nodes in this sequence.
      */
-    private final List<YamlNode> nodes = new LinkedList<>();
+    private final List<YamlNode> nodes;
 
     /**
      * Ctor.
@@ -65,15 +65,46 @@ final class RtYamlSequence extends BaseYamlSequence {
         final Collection<YamlNode> elements,
         final String comment
     ) {
-        this.nodes.addAll(elements);
+        this(new ArrayList<>(elements), comment, true);
+    }
+
+    /**
+     * Constructor.
+     * @param elements Elements of this sequence.
+     * @param comment Comment referring to this sequence itself.
+     * @param owned If true, the given List is used as it is, instead of
+     *  being copied, so nobody else should change it.
+     */
+    RtYamlSequence(
+        final List<YamlNode> elements,
+        final String comment,
+        final boolean owned
+    ) {
+        if(owned) {
+            this.nodes = elements;
+        } else {
+            this.nodes = new ArrayList<>(elements);
+        }
         this.comment = new BuiltComment(this, comment);
     }
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> children = new LinkedList<>();
-        children.addAll(this.nodes);
-        return children;
+        return new ArrayList<>(this.nodes);
+    }
+
+    @Override
+    public YamlNode get(final int index) {
+        YamlNode found = null;
+        if(index >= 0 && index < this.nodes.size()) {
+            found = this.nodes.get(index);
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        return this.nodes.size();
     }
 
     @Override
@@ -27,9 +27,6 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.LinkedList;
-import java.util.List;
-
 /**
  * YamlSequenceBuilder implementation. "Rt" stands for "Runtime".
  * This class is immutable and thread-safe.
@@ -41,20 +38,20 @@ final class RtYamlSequenceBuilder implements YamlSequenceBuilder {
     /**
      * Added nodes.
      */
-    private final List<YamlNode> nodes;
+    private final Appended<YamlNode> nodes;
 
     /**
      * Default ctor.
      */
     RtYamlSequenceBuilder() {
-        this(new LinkedList<>());
+        this(new Appended<>());
     }
 
     /**
      * Constructor.
      * @param nodes Nodes used in building the YamlSequence
      */
-    RtYamlSequenceBuilder(final List<YamlNode> nodes) {
+    RtYamlSequenceBuilder(final Appended<YamlNode> nodes) {
         this.nodes = nodes;
     }
 
@@ -65,15 +62,19 @@ final class RtYamlSequenceBuilder implements YamlSequenceBuilder {
 
     @Override
     public YamlSequenceBuilder add(final YamlNode node) {
-        final List<YamlNode> list = new LinkedList<>();
-        list.addAll(this.nodes);
-        list.add(node);
-        return new RtYamlSequenceBuilder(list);
+        return new RtYamlSequenceBuilder(this.nodes.with(node));
+    }
+
+    @Override
+    public YamlSequenceBuilder transientMode() {
+        return new TransientYamlSequenceBuilder(this.nodes.toList());
     }
 
     @Override
     public YamlSequence build(final String comment) {
-        YamlSequence sequence = new RtYamlSequence(this.nodes, comment);
+        YamlSequence sequence = new RtYamlSequence(
+            this.nodes.toList(), comment, true
+        );
         if (this.nodes.isEmpty()) {
             sequence = new EmptyYamlSequence(sequence);
         }
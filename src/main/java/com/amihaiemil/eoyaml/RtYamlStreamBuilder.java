@@ -28,8 +28,6 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * YamlStreamBuilder implementation. "Rt" stands for "Runtime".
@@ -43,34 +41,31 @@ final class RtYamlStreamBuilder implements YamlStreamBuilder {
     /**
      * Added nodes.
      */
-    private final List<YamlNode> documents;
+    private final Appended<YamlNode> documents;
 
     /**
      * Default ctor.
      */
     RtYamlStreamBuilder() {
-        this(new LinkedList<YamlNode>());
+        this(new Appended<>());
     }
 
     /**
      * Constructor.
      * @param documents YAML documents used in building the YamlStream.
      */
-    RtYamlStreamBuilder(final List<YamlNode> documents) {
+    RtYamlStreamBuilder(final Appended<YamlNode> documents) {
         this.documents = documents;
     }
 
     @Override
     public YamlStreamBuilder add(final YamlNode document) {
-        final List<YamlNode> list = new LinkedList<>();
-        list.addAll(this.documents);
-        list.add(document);
-        return new RtYamlStreamBuilder(list);
+        return new RtYamlStreamBuilder(this.documents.with(document));
     }
 
     @Override
     public YamlStream build() {
-        return new BuiltYamlStream(this.documents);
+        return new BuiltYamlStream(this.documents.toList());
     }
 
     /**
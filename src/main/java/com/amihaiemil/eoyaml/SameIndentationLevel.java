@@ -27,10 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * SameIndentationLevel. Decorates some YamlLines
@@ -67,30 +65,49 @@ final class SameIndentationLevel implements YamlLines {
      * level of indentation with the first! It breaks iteration
      * when a line with smaller indentation is met since that is the
      * beginning of another YAML object.
+     * @checkstyle AnonInnerLength (50 lines)
      * @return Iterator over these yaml lines.
      */
     @Override
     public Iterator<YamlLine> iterator() {
-        Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        if (iterator.hasNext()) {
-            final List<YamlLine> sameIndentation = new ArrayList<>();
-            final YamlLine first = iterator.next();
-            sameIndentation.add(first);
-            int firstIndentation = first.indentation();
-            if(this.mappingStartsAtDash(first)) {
-                firstIndentation += 2;
-            }
-            while (iterator.hasNext()) {
-                YamlLine current = iterator.next();
-                if(current.indentation() == firstIndentation) {
-                    sameIndentation.add(current);
-                } else if (current.indentation() < firstIndentation) {
-                    break;
+        final Iterator<YamlLine> iterator = this.yamlLines.iterator();
+        return new LookAheadIterator() {
+            /**
+             * Is the first line fetched?
+             */
+            private boolean started;
+
+            /**
+             * Indentation of the first line.
+             */
+            private int level;
+
+            @Override
+            protected YamlLine fetch() {
+                YamlLine found = null;
+                if(!this.started) {
+                    this.started = true;
+                    if(iterator.hasNext()) {
+                        found = iterator.next();
+                        this.level = found.indentation();
+                        if(found.kind().dashMapping()) {
+                            this.level += 2;
+                        }
+                    }
+                } else {
+                    boolean dedent = false;
+                    while(found == null && !dedent && iterator.hasNext()) {
+                        final YamlLine current = iterator.next();
+                        if(current.indentation() == this.level) {
+                            found = current;
+                        } else {
+                            dedent = current.indentation() < this.level;
+                        }
+                    }
                 }
+                return found;
             }
-            iterator = sameIndentation.iterator();
-        }
-        return iterator;
+        };
     }
 
     @Override
@@ -98,6 +115,11 @@ final class SameIndentationLevel implements YamlLines {
         return this.yamlLines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.yamlLines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
@@ -106,17 +128,4 @@ final class SameIndentationLevel implements YamlLines {
         return this.yamlLines.toYamlNode(prev, guessIndentation);
     }
 
-    /**
-     * Returns true if there's a YamlMapping starting right after the
-     * dash, on the same line.
-     * @param dashLine Line.
-     * @return True of false.
-     */
-    private boolean mappingStartsAtDash(final YamlLine dashLine) {
-        final String trimmed = dashLine.trimmed();
-        final boolean escapedScalar = trimmed.matches("^[ ]*\\-[ ]*\".*\"$")
-            || trimmed.matches("^[ ]*\\-[ ]*\'.*\'$");
-        return trimmed.matches("^[ ]*\\-.*\\:.+$") && !escapedScalar;
-    }
-
 }
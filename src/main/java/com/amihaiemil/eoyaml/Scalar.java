@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+
 /**
  * Yaml Scalar.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -46,4 +48,47 @@ public interface Scalar extends YamlNode {
      *  supposed to be.
      */
     String value();
+
+    /**
+     * Value of this scalar as an int. Besides decimal integers, the octal
+     * (0o17) and hexadecimal (0x1F) forms of the YAML 1.2 core schema
+     * are understood.
+     * @return Int value.
+     * @throws NumberFormatException If the value is not an int.
+     */
+    default int asInt() {
+        return CoreValue.from(this.value()).asInt();
+    }
+
+    /**
+     * Value of this scalar as a long. Besides decimal integers, the octal
+     * (0o17) and hexadecimal (0x1F) forms of the YAML 1.2 core schema
+     * are understood.
+     * @return Long value.
+     * @throws NumberFormatException If the value is not a long.
+     */
+    default long asLong() {
+        return CoreValue.from(this.value()).asLong();
+    }
+
+    /**
+     * Value of this scalar as a double. Besides the java forms,
+     * .inf, -.inf and .nan are understood, as well as the octal and
+     * hexadecimal integers of the YAML 1.2 core schema.
+     * @return Double value.
+     * @throws NumberFormatException If the value is not a number.
+     */
+    default double asDouble() {
+        return CoreValue.from(this.value()).asDouble();
+    }
+
+    /**
+     * Value of this scalar as a boolean: true, True or TRUE and
+     * false, False or FALSE, as the YAML 1.2 core schema says.
+     * @return Boolean value.
+     * @throws YamlReadingException If the value is not a boolean.
+     */
+    default boolean asBoolean() {
+        return CoreValue.from(this.value()).asBoolean();
+    }
 }
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The significant lines which follow a given line and are at the same
+ * indentation level as the first of them: the keys of a mapping or the
+ * items of a sequence. This is equivalent to
+ * {@link SameIndentationLevel} over {@link WellIndented} over
+ * {@link Skip}, but it walks the {@link LinesIndex} of the document,
+ * instead of filtering all its lines every time.<br><br>
+ * The positions of the siblings are found only once; the lines
+ * themselves are taken from the document when they are iterated.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class Siblings implements YamlLines {
+
+    /**
+     * Line just before the first sibling.
+     */
+    private final YamlLine previous;
+
+    /**
+     * All the lines of the document.
+     */
+    private final AllYamlLines all;
+
+    /**
+     * Positions of the siblings in the index of the document.
+     */
+    private final Memo<int[]> positions;
+
+    /**
+     * Ctor.
+     * @param previous Line just before the first sibling.
+     * @param all All the lines of the document.
+     */
+    Siblings(final YamlLine previous, final AllYamlLines all) {
+        this.previous = previous;
+        this.all = all;
+        this.positions = new Memo<>(this::siblings);
+    }
+
+    /**
+     * Returns an iterator over the sibling lines.
+     * @return Iterator over these yaml lines.
+     * @throws com.amihaiemil.eoyaml.exceptions.YamlIndentationException
+     *  If any significant line after the previous one is misplaced.
+     */
+    @Override
+    public Iterator<YamlLine> iterator() {
+        return this.asList().iterator();
+    }
+
+    /**
+     * The sibling lines, as a list which takes each line from the
+     * document when it is asked for.
+     * @return List of YamlLine.
+     * @throws com.amihaiemil.eoyaml.exceptions.YamlIndentationException
+     *  If any significant line after the previous one is misplaced.
+     */
+    @Override
+    public List<YamlLine> asList() {
+        final LinesIndex index = this.all.index();
+        final int[] siblings = this.positions.get();
+        return new AbstractList<YamlLine>() {
+            @Override
+            public YamlLine get(final int position) {
+                return index.line(siblings[position]);
+            }
+            @Override
+            public int size() {
+                return siblings.length;
+            }
+        };
+    }
+
+    /**
+     * Find the positions of the siblings.
+     * @checkstyle ExecutableStatementCount (50 lines)
+     * @return Array of positions.
+     * @throws com.amihaiemil.eoyaml.exceptions.YamlIndentationException
+     *  If any significant line after the previous one is misplaced.
+     */
+    private int[] siblings() {
+        final LinesIndex index = this.all.index();
+        int[] siblings = new int[0];
+        int count = 0;
+        final int first = index.next(index.after(this.previous.number()));
+        if(first >= 0) {
+            index.verify(first);
+            final boolean dashed = index.line(first).kind().dashMapping();
+            final int level;
+            int next;
+            if(dashed) {
+                level = index.indentation(first) + 2;
+                next = index.child(first);
+                siblings = new int[] {first};
+                count = 1;
+            } else {
+                level = index.indentation(first);
+                next = first;
+            }
+            while(next >= 0 && index.indentation(next) >= level) {
+                if(index.indentation(next) == level) {
+                    if(count == siblings.length) {
+                        siblings = Arrays.copyOf(siblings, count * 2 + 1);
+                    }
+                    siblings[count] = next;
+                    count = count + 1;
+                } else if(!dashed) {
+                    break;
+                }
+                next = index.sibling(next);
+            }
+        }
+        return Arrays.copyOf(siblings, count);
+    }
+
+    @Override
+    public Collection<YamlLine> original() {
+        return this.all.original();
+    }
+
+    @Override
+    public YamlLine line(final int number) {
+        return this.all.line(number);
+    }
+
+    @Override
+    public YamlNode toYamlNode(
+        final YamlLine prev,
+        final boolean guessIndentation
+    ) {
+        return this.all.toYamlNode(prev, guessIndentation);
+    }
+}
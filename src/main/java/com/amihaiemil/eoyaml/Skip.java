@@ -27,10 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * Decorator over some YamlLines which makes sure that lines
@@ -64,25 +62,36 @@ final class Skip implements YamlLines {
 
     @Override
     public Iterator<YamlLine> iterator() {
-        Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        if (iterator.hasNext()) {
-            final List<YamlLine> notSkipped = new ArrayList<>();
-            while (iterator.hasNext()) {
-                boolean skip = false;
-                final YamlLine current = iterator.next();
-                for(int idx = 0; idx < this.conditions.length; idx++) {
-                    if(this.conditions[idx].isMet(current)) {
-                        skip = true;
-                        break;
+        final Iterator<YamlLine> iterator = this.yamlLines.iterator();
+        return new LookAheadIterator() {
+            @Override
+            protected YamlLine fetch() {
+                YamlLine found = null;
+                while(found == null && iterator.hasNext()) {
+                    final YamlLine current = iterator.next();
+                    if(!Skip.this.skipped(current)) {
+                        found = current;
                     }
                 }
-                if(!skip) {
-                    notSkipped.add(current);
-                }
+                return found;
+            }
+        };
+    }
+
+    /**
+     * Does the given line meet any of the conditions?
+     * @param line YamlLine.
+     * @return True if the line should be skipped, false otherwise.
+     */
+    private boolean skipped(final YamlLine line) {
+        boolean skip = false;
+        for(int idx = 0; idx < this.conditions.length; idx++) {
+            if(this.conditions[idx].isMet(line)) {
+                skip = true;
+                break;
             }
-            iterator = notSkipped.iterator();
         }
-        return iterator;
+        return skip;
     }
 
     @Override
@@ -90,6 +99,11 @@ final class Skip implements YamlLines {
         return this.yamlLines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.yamlLines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
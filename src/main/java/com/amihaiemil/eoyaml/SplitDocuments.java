@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the documents of a YAML Stream which can be split,
+ * so the documents can be read in parallel. The lines are cut at the start
+ * markers (---) in one cheap scan and each chunk is then read, on its own,
+ * by {@link Documents}. A chunk holds at most one document, since documents
+ * are separated by start markers, so the order of the stream is kept.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class SplitDocuments implements Spliterator<YamlNode> {
+
+    /**
+     * All the lines of the YAML Stream.
+     */
+    private final List<YamlLine> lines;
+
+    /**
+     * Where each chunk starts, plus the number of lines at the end.
+     */
+    private final int[] starts;
+
+    /**
+     * If set to true we will try to guess the correct indentation
+     * of misplaced lines.
+     */
+    private final boolean guessIndentation;
+
+    /**
+     * Are comments read?
+     */
+    private final boolean readComments;
+
+    /**
+     * First chunk to read.
+     */
+    private int from;
+
+    /**
+     * Chunk where this Spliterator stops (exclusive).
+     */
+    private final int end;
+
+    /**
+     * Ctor.
+     * @param lines All the lines of the YAML Stream. They should support
+     *  fast random access.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     */
+    SplitDocuments(final List<YamlLine> lines, final boolean guessIndentation) {
+        this(lines, guessIndentation, true);
+    }
+
+    /**
+     * Ctor.
+     * @param lines All the lines of the YAML Stream. They should support
+     *  fast random access.
+     * @param guessIndentation If set to true, we will try to guess
+     *  the correct indentation of misplaced lines.
+     * @param readComments Are comments read?
+     */
+    SplitDocuments(
+        final List<YamlLine> lines,
+        final boolean guessIndentation,
+        final boolean readComments
+    ) {
+        this.lines = lines;
+        this.starts = SplitDocuments.chunks(lines);
+        this.guessIndentation = guessIndentation;
+        this.readComments = readComments;
+        this.from = 0;
+        this.end = this.starts.length - 1;
+    }
+
+    /**
+     * Ctor for a part of the given Spliterator.
+     * @param whole Spliterator which is split.
+     * @param from First chunk to read.
+     * @param end Chunk where to stop (exclusive).
+     */
+    private SplitDocuments(
+        final SplitDocuments whole, final int from, final int end
+    ) {
+        this.lines = whole.lines;
+        this.starts = whole.starts;
+        this.guessIndentation = whole.guessIndentation;
+        this.readComments = whole.readComments;
+        this.from = from;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super YamlNode> action) {
+        boolean advanced = false;
+        while(!advanced && this.from < this.end) {
+            final Iterator<YamlNode> document = new Documents(
+                this.lines.subList(
+                    this.starts[this.from], this.starts[this.from + 1]
+                ).iterator(),
+                this.guessIndentation,
+                this.readComments
+            );
+            this.from = this.from + 1;
+            if(document.hasNext()) {
+                action.accept(document.next());
+                advanced = true;
+            }
+        }
+        return advanced;
+    }
+
+    @Override
+    public Spliterator<YamlNode> trySplit() {
+        Spliterator<YamlNode> prefix = null;
+        final int middle = (this.from + this.end) >>> 1;
+        if(middle > this.from) {
+            prefix = new SplitDocuments(this, this.from, middle);
+            this.from = middle;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.end - this.from;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL
+            | Spliterator.IMMUTABLE;
+    }
+
+    /**
+     * Cut the lines at the start markers. Only the lines which are not
+     * significant (comments, directives, markers, tags) are looked at
+     * closer, the others are told apart by their cached kind.
+     * @param lines Lines of the YAML Stream.
+     * @return Where each chunk starts, plus the number of lines at the end.
+     */
+    private static int[] chunks(final List<YamlLine> lines) {
+        final List<Integer> found = new ArrayList<>();
+        found.add(0);
+        for(int idx = 0; idx < lines.size(); ++idx) {
+            final YamlLine line = lines.get(idx);
+            if(idx > 0 && !line.kind().significant()
+                && "---".equals(line.trimmed())) {
+                found.add(idx);
+            }
+        }
+        found.add(lines.size());
+        final int[] starts = new int[found.size()];
+        for(int idx = 0; idx < starts.length; ++idx) {
+            starts[idx] = found.get(idx);
+        }
+        return starts;
+    }
+}
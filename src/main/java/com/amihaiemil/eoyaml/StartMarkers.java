@@ -27,10 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * StartMarkers. Decorator over some YamlLines, that
@@ -72,29 +70,40 @@ final class StartMarkers implements YamlLines {
      * ---
      * test: 2
      * </pre>
+     * @checkstyle AnonInnerLength (50 lines)
      * @return Iterator over these yaml lines.
      */
     @Override
     public Iterator<YamlLine> iterator() {
-        Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        if (iterator.hasNext()) {
-            final List<YamlLine> docsStart = new ArrayList<>();
-            final YamlLine first = iterator.next();
-            if("---".equals(first.trimmed())) {
-                docsStart.add(first);
-            } else {
-                docsStart.add(new YamlLine.NullYamlLine());
-            }
-            while (iterator.hasNext()) {
-                final YamlLine current = iterator.next();
-                final String currentLine = current.trimmed();
-                if ("---".equals(currentLine)) {
-                    docsStart.add(current);
+        final Iterator<YamlLine> iterator = this.yamlLines.iterator();
+        return new LookAheadIterator() {
+            /**
+             * Is the first line fetched?
+             */
+            private boolean started;
+
+            @Override
+            protected YamlLine fetch() {
+                YamlLine found = null;
+                if(!this.started) {
+                    this.started = true;
+                    if(iterator.hasNext()) {
+                        found = iterator.next();
+                        if(!"---".equals(found.trimmed())) {
+                            found = new YamlLine.NullYamlLine();
+                        }
+                    }
+                } else {
+                    while(found == null && iterator.hasNext()) {
+                        final YamlLine current = iterator.next();
+                        if("---".equals(current.trimmed())) {
+                            found = current;
+                        }
+                    }
                 }
+                return found;
             }
-            iterator = docsStart.iterator();
-        }
-        return iterator;
+        };
     }
 
     @Override
@@ -102,6 +111,11 @@ final class StartMarkers implements YamlLines {
         return this.yamlLines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.yamlLines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * YamlSource which is an InputStream of encoded text. If the bytes start
+ * with a BOM, they are decoded with the charset given by it, otherwise
+ * with the given charset. If the charset is compatible with ASCII and all
+ * the bytes are ASCII, they are not decoded at all: the lines are read
+ * directly from the bytes (see {@link AsciiChars}).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class StreamSource implements YamlSource {
+
+    /**
+     * The input.
+     */
+    private final InputStream input;
+
+    /**
+     * Charset of the input, if it does not start with a BOM.
+     */
+    private final Charset charset;
+
+    /**
+     * Ctor.
+     * @param input The input.
+     * @param charset Charset of the input, if it does not start with
+     *  a BOM.
+     */
+    StreamSource(final InputStream input, final Charset charset) {
+        this.input = input;
+        this.charset = charset;
+    }
+
+    @Override
+    public CharSequence chars() throws IOException {
+        byte[] bytes = new byte[8192];
+        int size = 0;
+        try (InputStream source = this.input) {
+            int read = source.read(bytes, size, bytes.length - size);
+            while(read != -1) {
+                size = size + read;
+                if(size == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, size * 2);
+                }
+                read = source.read(bytes, size, bytes.length - size);
+            }
+        }
+        final Bom bom = new Bom(bytes, size, this.charset);
+        final ByteBuffer buffer = ByteBuffer.wrap(
+            bytes, bom.length(), size - bom.length()
+        );
+        final CharSequence chars;
+        if(bom.asciiCompatible()
+            && AsciiChars.ascii(buffer, bom.length(), size)) {
+            chars = new AsciiChars(
+                ByteBuffer.wrap(Arrays.copyOf(bytes, size)),
+                bom.length(), size - bom.length()
+            );
+        } else {
+            chars = bom.charset().decode(buffer);
+        }
+        return chars;
+    }
+
+    @Override
+    public Reader reader() throws IOException {
+        final PushbackInputStream source = new PushbackInputStream(
+            this.input, Bom.MAX_LENGTH
+        );
+        final byte[] first = new byte[Bom.MAX_LENGTH];
+        int size = 0;
+        int read = 0;
+        while(size < first.length && read != -1) {
+            read = source.read(first, size, first.length - size);
+            if(read > 0) {
+                size = size + read;
+            }
+        }
+        final Bom bom = new Bom(first, size, this.charset);
+        source.unread(first, bom.length(), size - bom.length());
+        return new InputStreamReader(source, bom.charset());
+    }
+}
@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -75,6 +77,16 @@ public final class StrictYamlMapping extends BaseYamlMapping {
         return found;
     }
 
+    @Override
+    public Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        return this.decorated.entries();
+    }
+
+    @Override
+    public boolean containsKey(final YamlNode key) {
+        return this.decorated.containsKey(key);
+    }
+
     @Override
     public Comment comment() {
         return this.decorated.comment();
@@ -62,6 +62,22 @@ public final class StrictYamlSequence extends BaseYamlSequence {
         return this.decorated.values();
     }
 
+    /**
+     * Get the Yaml element from the given index.
+     * @param index Integer index.
+     * @return YamlNode
+     */
+    @Override
+    public YamlNode get(final int index) {
+        YamlNode found = this.decorated.get(index);
+        if (found == null) {
+            throw new YamlNodeNotFoundException(
+                "No YamlNode found at index " + index
+            );
+        }
+        return found;
+    }
+
     /**
      * Get the Yaml mapping  from the given index.
      * @param index Integer index.
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * YamlLine which is a row of a {@link LineTable}. It is a flyweight:
+ * it holds only the table and its row, everything else is read from the
+ * table when needed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class TableLine implements YamlLine {
+
+    /**
+     * Table of lines.
+     */
+    private final LineTable table;
+
+    /**
+     * Row of this line.
+     */
+    private final int row;
+
+    /**
+     * Ctor.
+     * @param table Table of lines.
+     * @param row Row of this line.
+     */
+    TableLine(final LineTable table, final int row) {
+        this.table = table;
+        this.row = row;
+    }
+
+    @Override
+    public String trimmed() {
+        return this.table.trimmed(this.row);
+    }
+
+    @Override
+    public String contents(final int previousIndent) {
+        return this.full().contents(previousIndent);
+    }
+
+    @Override
+    public String comment() {
+        final String comment;
+        if(this.table.commented(this.row)) {
+            comment = this.full().comment();
+        } else {
+            comment = "";
+        }
+        return comment;
+    }
+
+    @Override
+    public int number() {
+        return this.table.number(this.row);
+    }
+
+    @Override
+    public int indentation() {
+        return this.table.indentation(this.row);
+    }
+
+    @Override
+    public boolean requireNestedIndentation() {
+        return this.full().requireNestedIndentation();
+    }
+
+    @Override
+    public LineKind kind() {
+        return this.table.kind(this.row);
+    }
+
+    @Override
+    public int compareTo(final YamlLine other) {
+        return this.full().compareTo(other);
+    }
+
+    @Override
+    public String toString() {
+        final int indentation = this.indentation();
+        final StringBuilder text = new StringBuilder();
+        for(int idx = 0; idx < indentation; ++idx) {
+            text.append(' ');
+        }
+        return text.append(this.table.contents(this.row)).toString();
+    }
+
+    /**
+     * This line, with all its contents.
+     * @return YamlLine.
+     */
+    private YamlLine full() {
+        return new RtYamlLine(this.toString(), this.number());
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.List;
+
+/**
+ * YamlSequenceBuilder which adds the nodes in place. It is not immutable
+ * and not thread-safe: it should be used by one thread, to build large
+ * sequences. The built YamlSequence takes over the added nodes, without
+ * copying them, so nothing can be added after build.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+final class TransientYamlSequenceBuilder implements YamlSequenceBuilder {
+
+    /**
+     * Added nodes.
+     */
+    private final List<YamlNode> nodes;
+
+    /**
+     * Has the YamlSequence been built?
+     */
+    private boolean built;
+
+    /**
+     * Constructor.
+     * @param nodes Nodes which are already added, as a mutable List
+     *  which only this builder uses.
+     */
+    TransientYamlSequenceBuilder(final List<YamlNode> nodes) {
+        this.nodes = nodes;
+    }
+
+    @Override
+    public YamlSequenceBuilder add(final String value) {
+        return this.add(new PlainStringScalar(value));
+    }
+
+    @Override
+    public YamlSequenceBuilder add(final YamlNode node) {
+        if(this.built) {
+            throw new IllegalStateException(
+                "The YamlSequence is already built, nothing can be added."
+            );
+        }
+        this.nodes.add(node);
+        return this;
+    }
+
+    @Override
+    public YamlSequenceBuilder transientMode() {
+        return this;
+    }
+
+    @Override
+    public YamlSequence build(final String comment) {
+        this.built = true;
+        YamlSequence sequence = new RtYamlSequence(this.nodes, comment, true);
+        if (this.nodes.isEmpty()) {
+            sequence = new EmptyYamlSequence(sequence);
+        }
+        return sequence;
+    }
+}
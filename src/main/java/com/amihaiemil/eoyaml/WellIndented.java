@@ -28,10 +28,8 @@
 package com.amihaiemil.eoyaml;
 
 import com.amihaiemil.eoyaml.exceptions.YamlIndentationException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * YamlLines decorator which iterates over them and verifies
@@ -102,63 +100,37 @@ final class WellIndented implements YamlLines {
      * Returns an iterator over these Yaml lines.
      * It will verify that each line is properly indented in relation
      * to the previous one and will complain if the indentation is not
-     * correct.
-     * @checkstyle LineLength (50 lines)
+     * correct. The lines are verified lazily, as they are iterated.
+     * @checkstyle AnonInnerLength (50 lines)
      * @return Iterator over these yaml lines.
      */
     @Override
     public Iterator<YamlLine> iterator() {
         final Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        final List<YamlLine> wellIndented = new ArrayList<>();
-        YamlLine previous;
-        if(iterator.hasNext()) {
-            previous = iterator.next();
-            wellIndented.add(previous);
-            while(iterator.hasNext()) {
-                YamlLine line = iterator.next();
-                if(!(previous instanceof YamlLine.NullYamlLine)) {
-                    int prevIndent = previous.indentation();
-                    if(previous.trimmed().matches("^[ ]*\\-.*\\:.*$")) {
-                        prevIndent += 2;
-                    }
-                    int lineIndent = line.indentation();
-                    if(previous.requireNestedIndentation()) {
-                        if(lineIndent != prevIndent + 2) {
-                            if(this.guessIndentation) {
-                                line = new Indented(line, prevIndent + 2);
-                            } else {
-                                throw new YamlIndentationException(
-                                    "Indentation of line " + (line.number() + 1)
-                                  + " [" + line.trimmed() + "]"
-                                  + " is not ok. It should be greater than the one"
-                                  + " of line " + (previous.number() + 1)
-                                  + " [" + previous.trimmed() + "]"
-                                  + " by 2 spaces."
-                                );
-                            }
-                        }
-                    } else {
-                        if(!"---".equals(previous.trimmed()) && lineIndent > prevIndent) {
-                            if(this.guessIndentation) {
-                                line = new Indented(line, prevIndent);
-                            } else {
-                                throw new YamlIndentationException(
-                                    "Indentation of line " + (line.number() + 1)
-                                  + " [" + line.trimmed() + "]"
-                                  + " is greater than the one of line "
-                                  + (previous.number() + 1)
-                                  + " [" + previous.trimmed() + "]. "
-                                  + "It should be less or equal."
-                                );
-                            }
-                        }
+        final boolean guess = this.guessIndentation;
+        return new LookAheadIterator() {
+            /**
+             * Previously iterated line.
+             */
+            private YamlLine previous;
+
+            @Override
+            protected YamlLine fetch() {
+                YamlLine line = null;
+                if(iterator.hasNext()) {
+                    line = iterator.next();
+                    final boolean verify = this.previous != null
+                        && !(this.previous instanceof YamlLine.NullYamlLine);
+                    if(verify) {
+                        line = WellIndented.verified(
+                            this.previous, line, guess
+                        );
                     }
+                    this.previous = line;
                 }
-                previous = line;
-                wellIndented.add(line);
+                return line;
             }
-        }
-        return wellIndented.iterator();
+        };
     }
 
     @Override
@@ -166,6 +138,11 @@ final class WellIndented implements YamlLines {
         return this.yamlLines.original();
     }
 
+    @Override
+    public YamlLine line(final int number) {
+        return this.yamlLines.line(number);
+    }
+
     @Override
     public YamlNode toYamlNode(
         final YamlLine prev,
@@ -174,4 +151,61 @@ final class WellIndented implements YamlLines {
         return this.yamlLines.toYamlNode(prev, guessIndent);
     }
 
+    /**
+     * Verify that a line is properly indented in relation to the
+     * previous one.
+     * @param previous Previous YamlLine.
+     * @param line YamlLine to verify.
+     * @param guessIndentation If true, a misplaced line is re-indented
+     *  instead of throwing an exception.
+     * @return The same line if it is well indented, or an {@link Indented}
+     *  line if it is misplaced and guessIndentation is true.
+     * @throws YamlIndentationException If the line is misplaced and
+     *  guessIndentation is false.
+     */
+    static YamlLine verified(
+        final YamlLine previous,
+        final YamlLine line,
+        final boolean guessIndentation
+    ) {
+        YamlLine verified = line;
+        int prevIndent = previous.indentation();
+        if(previous.kind().dashKey()) {
+            prevIndent += 2;
+        }
+        final int lineIndent = line.indentation();
+        if(previous.requireNestedIndentation()) {
+            if(lineIndent != prevIndent + 2) {
+                if(guessIndentation) {
+                    verified = new Indented(line, prevIndent + 2);
+                } else {
+                    throw new YamlIndentationException(
+                        "Indentation of line " + (line.number() + 1)
+                      + " [" + line.trimmed() + "]"
+                      + " is not ok. It should be greater than the one"
+                      + " of line " + (previous.number() + 1)
+                      + " [" + previous.trimmed() + "]"
+                      + " by 2 spaces."
+                    );
+                }
+            }
+        } else {
+            if(!"---".equals(previous.trimmed()) && lineIndent > prevIndent) {
+                if(guessIndentation) {
+                    verified = new Indented(line, prevIndent);
+                } else {
+                    throw new YamlIndentationException(
+                        "Indentation of line " + (line.number() + 1)
+                      + " [" + line.trimmed() + "]"
+                      + " is greater than the one of line "
+                      + (previous.number() + 1)
+                      + " [" + previous.trimmed() + "]. "
+                      + "It should be less or equal."
+                    );
+                }
+            }
+        }
+        return verified;
+    }
+
 }
@@ -30,12 +30,16 @@ package com.amihaiemil.eoyaml;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 /**
  * Yaml.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 1.0.0
+ * @checkstyle ClassFanOutComplexity (1000 lines)
  * @todo #231:60min Wiki documentation is needed for YAML mappings from JSON.
  *  (fromJsonObject() and fromJsonArray()).
  */
@@ -108,6 +112,40 @@ public final class Yaml {
         );
     }
 
+    /**
+     * Create a {@link YamlInput} from a file, which is mapped in memory.
+     * If the file is ASCII, the lines are read directly from the mapped
+     * file, without copying it in memory, so this is the best choice for
+     * large files. The file should be UTF-8 encoded, unless it starts
+     * with a BOM, and not larger than 2GB.
+     * @param input Path of the file to read from.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(final Path input) {
+        return Yaml.createYamlInput(input, Boolean.FALSE);
+    }
+
+    /**
+     * Create a {@link YamlInput} from a file, which is mapped in memory.
+     * If the file is ASCII, the lines are read directly from the mapped
+     * file, without copying it in memory, so this is the best choice for
+     * large files. The file should be UTF-8 encoded, unless it starts
+     * with a BOM, and not larger than 2GB.
+     * @param input Path of the file to read from.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(
+        final Path input,
+        final boolean guessIndentation
+    ) {
+        return new RtYamlInput(
+            new MappedSource(input, StandardCharsets.UTF_8), guessIndentation
+        );
+    }
+
     /**
      * Create a {@link YamlInput} from a String.
      * @param input String to read from.
@@ -129,10 +167,37 @@ public final class Yaml {
         final String input,
         final boolean guessIndentation
     ) {
-        return Yaml.createYamlInput(
-            new ByteArrayInputStream(input.getBytes()),
-            guessIndentation
-        );
+        return Yaml.createYamlInput((CharSequence) input, guessIndentation);
+    }
+
+    /**
+     * Create a {@link YamlInput} from some text which is already in memory.
+     * The text is read directly, it is not copied or encoded, so it should
+     * not change while the read YAML is used. To read a char[], wrap it
+     * with java.nio.CharBuffer.wrap(...).
+     * @param input Text to read from.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(final CharSequence input) {
+        return Yaml.createYamlInput(input, Boolean.FALSE);
+    }
+
+    /**
+     * Create a {@link YamlInput} from some text which is already in memory.
+     * The text is read directly, it is not copied or encoded, so it should
+     * not change while the read YAML is used. To read a char[], wrap it
+     * with java.nio.CharBuffer.wrap(...).
+     * @param input Text to read from.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(
+        final CharSequence input,
+        final boolean guessIndentation
+    ) {
+        return new RtYamlInput(input, guessIndentation);
     }
 
     /**
@@ -159,6 +224,66 @@ public final class Yaml {
         return new RtYamlInput(input, guessIndentation);
     }
 
+    /**
+     * Create a {@link YamlInput} from an InputStream with the given charset.
+     * If the input starts with a Byte Order Mark, the charset given by it
+     * (UTF-8, UTF-16 or UTF-32) is used instead.
+     * @param input InputStream to read from.
+     * @param charset Charset of the input.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(
+        final InputStream input,
+        final Charset charset
+    ) {
+        return Yaml.createYamlInput(input, charset, Boolean.FALSE);
+    }
+
+    /**
+     * Create a {@link YamlInput} from an InputStream with the given charset.
+     * If the input starts with a Byte Order Mark, the charset given by it
+     * (UTF-8, UTF-16 or UTF-32) is used instead.
+     * @param input InputStream to read from.
+     * @param charset Charset of the input.
+     * @param guessIndentation If set to true, we will try to guess the correct
+     *  indentation of misplaced lines. The default value is false
+     *  and an exception is thrown if indentation is not correct.
+     * @return YamlInput, reader of Yaml.
+     */
+    public static YamlInput createYamlInput(
+        final InputStream input,
+        final Charset charset,
+        final boolean guessIndentation
+    ) {
+        return new RtYamlInput(input, charset, guessIndentation);
+    }
+
+    /**
+     * Create a {@link YamlEventReader} to pull the YAML events from an
+     * InputStream, one by one, without reading the whole input first.
+     * @param input InputStream to read from.
+     * @return YamlEventReader.
+     */
+    public static YamlEventReader createYamlEventReader(
+        final InputStream input
+    ) {
+        return new RtYamlEventReader(input);
+    }
+
+    /**
+     * Create a {@link YamlEventReader} to pull the YAML events from an
+     * InputStream, one by one, without reading the whole input first.
+     * @param input InputStream to read from.
+     * @param charset Charset of the input, if it does not start with a BOM.
+     * @return YamlEventReader.
+     */
+    public static YamlEventReader createYamlEventReader(
+        final InputStream input,
+        final Charset charset
+    ) {
+        return new RtYamlEventReader(input, charset);
+    }
+
     /**
      * Create a YamlPrinter to write a YamlNode somewhere. If you want to
      * print a YamlNode to String, just use YamlNode.toString() -- it is a
@@ -176,6 +301,57 @@ public final class Yaml {
         return new RtYamlPrinter(destination);
     }
 
+    /**
+     * Create a YamlGenerator to write YAML somewhere, without building
+     * any YamlNode first. E.g.
+     * <pre>
+     *   try (YamlGenerator yaml = Yaml.createYamlGenerator(writer)) {
+     *       yaml.writeStartMapping()
+     *           .writeKey("name").writeScalar("eo-yaml")
+     *           .writeEnd();
+     *   }
+     * </pre>
+     * @param destination Writer where the YAML will be written.
+     * @return YamlGenerator.
+     */
+    public static YamlGenerator createYamlGenerator(final Writer destination) {
+        return new RtYamlGenerator(destination);
+    }
+
+    /**
+     * Compile a {@link YamlPath}, to find nodes in YAML documents. E.g.
+     * <pre>
+     *   final YamlPath images = Yaml.createYamlPath(
+     *       "spec.template.spec.containers[*].image"
+     *   );
+     *   images.select(deployment).forEach(System.out::println);
+     * </pre>
+     * @param path The path.
+     * @return YamlPath.
+     * @throws IllegalArgumentException If the path is not valid.
+     */
+    public static YamlPath createYamlPath(final String path) {
+        return new RtYamlPath(path);
+    }
+
+    /**
+     * Create a {@link Projection}, to read only some parts of a YAML
+     * document. E.g.
+     * <pre>
+     *   final YamlMapping routes = Yaml.createYamlInput(file)
+     *       .readYamlMapping(
+     *           Yaml.createProjection("routes[*].match", "routes[*].backend")
+     *       );
+     * </pre>
+     * @param paths Paths of the nodes to read, as for
+     *  {@link #createYamlPath(String)}.
+     * @return Projection.
+     * @throws IllegalArgumentException If any path is not valid.
+     */
+    public static Projection createProjection(final String... paths) {
+        return new RtProjection(paths);
+    }
+
     /**
      * Create a YAML dump to represent the given object as YAML.
      * @param object Object to dump.
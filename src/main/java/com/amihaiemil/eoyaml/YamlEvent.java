@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Event read by a {@link YamlEventReader}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public interface YamlEvent {
+
+    /**
+     * Type of this event.
+     * @return Type.
+     */
+    Type type();
+
+    /**
+     * Value of this event: the key of a KEY event, the value of a SCALAR
+     * event or the text of a COMMENT event.
+     * @return String or null if the event has no value (or if the
+     *  scalar is null).
+     */
+    String value();
+
+    /**
+     * Number of the line where this event occurred, starting from 1.
+     * @return Line number.
+     */
+    int line();
+
+    /**
+     * Types of events.
+     */
+    enum Type {
+        /**
+         * A document starts.
+         */
+        DOCUMENT_START,
+        /**
+         * A document ends.
+         */
+        DOCUMENT_END,
+        /**
+         * A mapping starts.
+         */
+        START_MAPPING,
+        /**
+         * A mapping ends.
+         */
+        END_MAPPING,
+        /**
+         * A sequence starts.
+         */
+        START_SEQUENCE,
+        /**
+         * A sequence ends.
+         */
+        END_SEQUENCE,
+        /**
+         * Key of a mapping. It is followed by the events of its value.
+         * A complex key (written after "?") has no value: it is followed
+         * by the events of the key node, then by the ones of its value.
+         */
+        KEY,
+        /**
+         * A scalar.
+         */
+        SCALAR,
+        /**
+         * A comment.
+         */
+        COMMENT
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Streaming writer of YAML. Unlike {@link YamlPrinter}, it needs no
+ * YamlNode: the YAML is written as the methods are called, so only the
+ * path of the nodes which are still open is kept in memory. E.g.
+ * <pre>
+ *   try (YamlGenerator yaml = Yaml.createYamlGenerator(writer)) {
+ *       yaml.writeStartMapping()
+ *           .writeComment("the project")
+ *           .writeKey("name").writeScalar("eo-yaml")
+ *           .writeKey("developers").writeStartSequence()
+ *               .writeScalar("amihaiemil")
+ *           .writeEnd()
+ *           .writeEnd();
+ *   }
+ * </pre>
+ * The output is the same as the one of {@link YamlPrinter} for the same
+ * nodes. A comment is written above the key or item which follows it.
+ * To write a YAML Stream, start each document with
+ * {@link #writeDocumentStart()}.<br><br>
+ * Pay attention, the methods throw IllegalStateException if they are
+ * not called in order (e.g. a scalar in a mapping, without a key).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public interface YamlGenerator extends Closeable, Flushable {
+
+    /**
+     * Start a new document of a YAML Stream.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeDocumentStart() throws IOException;
+
+    /**
+     * Start a mapping. It has to be ended with {@link #writeEnd()}.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeStartMapping() throws IOException;
+
+    /**
+     * Start a sequence. It has to be ended with {@link #writeEnd()}.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeStartSequence() throws IOException;
+
+    /**
+     * Write the key of the next entry of the current mapping.
+     * @param key Key.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeKey(String key) throws IOException;
+
+    /**
+     * Write a plain scalar. Null or empty values are written as null.
+     * @param value Value.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    default YamlGenerator writeScalar(final String value)
+        throws IOException {
+        return this.writeScalar(value, "");
+    }
+
+    /**
+     * Write a plain scalar with an inline comment.
+     * @param value Value.
+     * @param comment Inline comment.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeScalar(String value, String comment)
+        throws IOException;
+
+    /**
+     * Write a comment, above the next key, item or document.
+     * @param comment Comment, it can have more lines.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeComment(String comment) throws IOException;
+
+    /**
+     * End the current mapping or sequence.
+     * @return This generator.
+     * @throws IOException If the YAML cannot be written.
+     */
+    YamlGenerator writeEnd() throws IOException;
+}
@@ -51,6 +51,63 @@ public interface YamlInput {
      */
     YamlSequence readYamlSequence() throws IOException;
 
+    /**
+     * Read the given input as a Yaml mapping, eagerly: the whole tree is
+     * built in memory, with its comments, right away. Reading is slower,
+     * but then accessing the mapping does not read anything anymore. Use it
+     * for documents which are read once and queried many times.
+     * @return Read YamlMapping.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlMapping readYamlMappingEagerly() throws IOException {
+        return this.readYamlMapping().materialize().asMapping();
+    }
+
+    /**
+     * Read the given input as a Yaml sequence, eagerly: the whole tree is
+     * built in memory, with its comments, right away. Reading is slower,
+     * but then accessing the sequence does not read anything anymore. Use
+     * it for documents which are read once and queried many times.
+     * @return Read YamlSequence.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlSequence readYamlSequenceEagerly() throws IOException {
+        return this.readYamlSequence().materialize().asSequence();
+    }
+
+    /**
+     * Read only the parts of the given input, which are covered by the
+     * projection, as a Yaml mapping. The other parts are skipped while
+     * reading, so they cost neither time nor memory. E.g.
+     * <pre>
+     *   final YamlMapping routes = input.readYamlMapping(
+     *       Yaml.createProjection("routes[*].match", "routes[*].backend")
+     *   );
+     * </pre>
+     * By default, the projection is ignored and the whole mapping is read.
+     * @param projection Parts to read.
+     * @return Read YamlMapping.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlMapping readYamlMapping(final Projection projection)
+        throws IOException {
+        return this.readYamlMapping();
+    }
+
+    /**
+     * Read only the parts of the given input, which are covered by the
+     * projection, as a Yaml sequence. The other parts are skipped while
+     * reading, so they cost neither time nor memory.
+     * By default, the projection is ignored and the whole sequence is read.
+     * @param projection Parts to read.
+     * @return Read YamlSequence.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlSequence readYamlSequence(final Projection projection)
+        throws IOException {
+        return this.readYamlSequence();
+    }
+
     /**
      * Read the given input as a Yaml stream.
      * @return Read YamlStream.
@@ -58,6 +115,36 @@ public interface YamlInput {
      */
     YamlStream readYamlStream() throws IOException;
 
+    /**
+     * Read the given input as a Yaml stream, lazily: the documents are
+     * read from the input one by one, as the stream is consumed, and the
+     * consumed documents can be garbage collected. Use it for large
+     * inputs with many documents.<br><br>
+     * Pay attention: just like any java.util.stream.Stream, the returned
+     * YamlStream can be consumed only once, unless you call values() first
+     * (which reads all the documents). It should be closed after use.
+     * By default, this method simply reads the whole stream.
+     * @return Read YamlStream.
+     * @throws IOException if the input cannot be read for some reason
+     */
+    default YamlStream readYamlStreamLazily() throws IOException {
+        return this.readYamlStream();
+    }
+
+    /**
+     * This input, read without comments. The comment lines and the inline
+     * comments are dropped while reading and all the read nodes have
+     * empty comments, so nothing is spent on them. Use it when the
+     * comments are of no interest (e.g. for configuration files which
+     * are only read).<br><br>
+     * By default, this method simply returns this input and comments
+     * are still read.
+     * @return YamlInput.
+     */
+    default YamlInput withoutComments() {
+        return this;
+    }
+
     /**
      * Read the given input as a plain scalar. e.g.
      * <pre>
@@ -80,6 +80,15 @@ interface YamlLine extends Comparable<YamlLine> {
      */
     boolean requireNestedIndentation();
 
+    /**
+     * The kind of this line (sequence item, key, comment etc).
+     * Implementations should cache it, since it is asked for often.
+     * @return LineKind.
+     */
+    default LineKind kind() {
+        return LineKind.from(this.trimmed());
+    }
+
     /**
      * YamlLine null object.
      */
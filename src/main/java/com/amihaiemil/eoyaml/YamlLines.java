@@ -27,8 +27,10 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Iterable yaml lines.
@@ -64,7 +66,9 @@ interface YamlLines extends Iterable<YamlLine> {
     Iterator<YamlLine> iterator();
 
     /**
-     * Get a certain YamlLine.
+     * Get a certain YamlLine. This default implementation scans the
+     * original lines; {@link AllYamlLines} finds the line in constant time,
+     * so decorators should delegate this method to the decorated lines.
      * @checkstyle ReturnCount (50 lines)
      * @param number Number of the line.
      * @return YamlLine or throws {@link IndexOutOfBoundsException}.
@@ -85,4 +89,29 @@ interface YamlLines extends Iterable<YamlLine> {
           + this.original().size() + " lines!");
     }
 
+    /**
+     * These lines, as a random access list.
+     * @return List of YamlLine.
+     */
+    default List<YamlLine> asList() {
+        final List<YamlLine> lines = new ArrayList<>();
+        this.forEach(lines::add);
+        return lines;
+    }
+
+    /**
+     * Number of the first of these lines.
+     * @return Line number or Integer.MAX_VALUE if there are no lines.
+     */
+    default int start() {
+        final Iterator<YamlLine> lines = this.iterator();
+        final int start;
+        if(lines.hasNext()) {
+            start = lines.next().number();
+        } else {
+            start = Integer.MAX_VALUE;
+        }
+        return start;
+    }
+
 }
@@ -31,6 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * A Yaml mapping.
@@ -61,12 +62,39 @@ public interface YamlMapping extends YamlNode {
      * @return Collection of {@link YamlNode}
      */
     default Collection<YamlNode> values() {
-        final List<YamlNode> values = new LinkedList<>();
-        for(final YamlNode key : this.keys()) {
-            values.add(this.value(key));
+        final List<YamlNode> values = new ArrayList<>();
+        for(final Map.Entry<YamlNode, YamlNode> entry : this.entries()) {
+            values.add(entry.getValue());
         }
         return values;
     }
+
+    /**
+     * Fetch the key:value pairs of this mapping, in order. Use it instead
+     * of looking up the value of each key, when walking the whole mapping:
+     * implementations read all the pairs at once.
+     * @return Collection of entries.
+     */
+    default Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        final List<Map.Entry<YamlNode, YamlNode>> entries = new ArrayList<>();
+        for(final YamlNode key : this.keys()) {
+            entries.add(
+                new AbstractMap.SimpleImmutableEntry<>(key, this.value(key))
+            );
+        }
+        return entries;
+    }
+
+    /**
+     * Perform the given action for each key:value pair of this mapping,
+     * in order.
+     * @param action Action receiving the key and the value.
+     */
+    default void forEach(final BiConsumer<YamlNode, YamlNode> action) {
+        for(final Map.Entry<YamlNode, YamlNode> entry : this.entries()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
     /**
      * Get the Yaml mapping associated with the given key.
      * @param key String key
@@ -215,6 +243,27 @@ public interface YamlMapping extends YamlNode {
         }
         return found;
     }
+
+    /**
+     * Does this mapping contain the given key?
+     * @param key String key.
+     * @return True or false.
+     */
+    default boolean containsKey(final String key) {
+        return this.containsKey(
+            Yaml.createYamlScalarBuilder().addLine(key).buildPlainScalar()
+        );
+    }
+
+    /**
+     * Does this mapping contain the given key?
+     * @param key YamlNode key.
+     * @return True or false.
+     */
+    default boolean containsKey(final YamlNode key) {
+        return this.keys().contains(key);
+    }
+
     /**
      * Get the YamlNode mapped to the specified key.
      * @param key String key.
@@ -261,7 +310,7 @@ public interface YamlMapping extends YamlNode {
     default int integer(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value != null && value instanceof Scalar) {
-            return Integer.parseInt(((Scalar) value).value());
+            return ((Scalar) value).asInt();
         }
         return -1;
     }
@@ -341,7 +390,7 @@ public interface YamlMapping extends YamlNode {
     default double doubleNumber(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value != null && value instanceof Scalar) {
-            return Double.parseDouble(((Scalar) value).value());
+            return ((Scalar) value).asDouble();
         }
         return -1.0;
     }
@@ -381,7 +430,7 @@ public interface YamlMapping extends YamlNode {
     default long longNumber(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value != null && value instanceof Scalar) {
-            return Long.parseLong(((Scalar) value).value());
+            return ((Scalar) value).asLong();
         }
         return -1L;
     }
@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.Map;
+
 /**
  * Builder of YamlMapping. Implementations should be immutable and thread-safe.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -66,6 +68,38 @@ public interface YamlMappingBuilder {
      */
     YamlMappingBuilder add(final String key, final YamlNode value);
 
+    /**
+     * Add all the pairs of a Map, in its order. Values which are not
+     * YamlNodes are turned into YAML as {@link Yaml#createYamlDump(Object)}
+     * does.
+     * @param pairs Pairs to add.
+     * @return This builder
+     */
+    default YamlMappingBuilder addAll(final Map<String, ?> pairs) {
+        YamlMappingBuilder builder = this;
+        for(final Map.Entry<String, ?> pair : pairs.entrySet()) {
+            final YamlNode value;
+            if(pair.getValue() instanceof YamlNode) {
+                value = (YamlNode) pair.getValue();
+            } else {
+                value = new ReflectedYamlDump(pair.getValue()).dump();
+            }
+            builder = builder.add(pair.getKey(), value);
+        }
+        return builder;
+    }
+
+    /**
+     * A builder with the same pairs, which adds the next ones in place and
+     * returns itself, instead of a new builder. Use it to build large
+     * mappings from a single thread. It is not thread-safe and, once it
+     * built the YamlMapping, it cannot add anything anymore.
+     * @return Transient builder, or this one if it is already transient.
+     */
+    default YamlMappingBuilder transientMode() {
+        return this;
+    }
+
     /**
      * Build the YamlMapping.
      * @return Built YamlMapping.
@@ -104,4 +104,15 @@ public interface YamlNode extends Comparable<YamlNode> {
     <T extends YamlNode> T asClass(Class<T> clazz, Node type)
         throws YamlReadingException, ClassCastException;
 
+    /**
+     * Copy this node, with all its children, into immutable in-memory
+     * nodes, so nothing is read or computed again when it is accessed.
+     * The top-level entries of big mappings and sequences are copied
+     * in parallel, on the common ForkJoinPool.
+     * @return Materialized YamlNode, equal to this one.
+     */
+    default YamlNode materialize() {
+        return new Materialized(this).value();
+    }
+
 }
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.stream.Stream;
+
+/**
+ * A path to some nodes of a YAML document, compiled once and evaluated
+ * against any number of YamlNodes. E.g.
+ * <pre>
+ *   spec.template.spec.containers[2].image
+ *   spec.containers[*].name
+ *   metadata.*
+ *   ..image
+ * </pre>
+ * A step is a key (use ['some.key'] if the key contains dots or
+ * brackets), an index in a sequence ([2]), a wildcard (* or [*]) which
+ * selects all the values of a mapping or a sequence, or a recursive
+ * descent (..) which looks for the next step in the node and in all its
+ * descendants. The path may start with $, which is the node itself.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public interface YamlPath {
+
+    /**
+     * Select the nodes found at this path. The nodes are found lazily,
+     * as the Stream is consumed, in the order of the document.
+     * @param node Node to start from.
+     * @return Stream of the found nodes, never null.
+     */
+    Stream<YamlNode> select(final YamlNode node);
+
+    /**
+     * The first node found at this path.
+     * @param node Node to start from.
+     * @return Found YamlNode or null if there is none.
+     */
+    default YamlNode first(final YamlNode node) {
+        return this.select(node).findFirst().orElse(null);
+    }
+}
@@ -67,20 +67,38 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
         return this.values().size();
     }
 
+    /**
+     * Get the Yaml element (scalar, mapping or sequence) from the given
+     * index. Implementations which keep their elements in a List return
+     * it directly, without walking the values.
+     * @param index Integer index.
+     * @return YamlNode or null if the index is out of bounds.
+     */
+    default YamlNode get(final int index) {
+        YamlNode found = null;
+        if(index >= 0) {
+            int count = 0;
+            for (final YamlNode node : this.values()) {
+                if (count == index) {
+                    found = node;
+                    break;
+                }
+                count = count + 1;
+            }
+        }
+        return found;
+    }
+
     /**
      * Get the Yaml mapping  from the given index.
      * @param index Integer index.
      * @return Yaml mapping.
      */
-
     default YamlMapping yamlMapping(final int index) {
         YamlMapping mapping = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof YamlMapping) {
-                mapping = (YamlMapping) node;
-            }
-            count = count + 1;
+        final YamlNode node = this.get(index);
+        if (node instanceof YamlMapping) {
+            mapping = (YamlMapping) node;
         }
         return mapping;
     }
@@ -91,17 +109,28 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     default YamlSequence yamlSequence(final int index) {
         YamlSequence sequence = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if (count == index && node instanceof YamlSequence) {
-                sequence = (YamlSequence) node;
-            }
-            count = count + 1;
+        final YamlNode node = this.get(index);
+        if (node instanceof YamlSequence) {
+            sequence = (YamlSequence) node;
         }
         return sequence;
     }
 
 
+    /**
+     * Get the Scalar from the given index.
+     * @param index Integer index.
+     * @return Scalar or null if the node at the index is not a Scalar.
+     */
+    default Scalar scalar(final int index) {
+        Scalar scalar = null;
+        final YamlNode node = this.get(index);
+        if (node instanceof Scalar) {
+            scalar = (Scalar) node;
+        }
+        return scalar;
+    }
+
     /**
      * Get the String from the given index.
      * @param index Integer index.
@@ -109,13 +138,9 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     default String string(final int index) {
         String value = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if(count == index && (node instanceof Scalar)) {
-                value = ((Scalar) node).value();
-                break;
-            }
-            count++;
+        final Scalar scalar = this.scalar(index);
+        if(scalar != null) {
+            value = scalar.value();
         }
         return value;
     }
@@ -127,13 +152,9 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     default String foldedBlockScalar(final int index) {
         String value = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if(count == index && (node instanceof Scalar)) {
-                value = ((Scalar) node).value();
-                break;
-            }
-            count++;
+        final Scalar scalar = this.scalar(index);
+        if(scalar != null) {
+            value = scalar.value();
         }
         return value;
     }
@@ -145,16 +166,11 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     default Collection<String> literalBlockScalar(final int index) {
         Collection<String> value = null;
-        int count = 0;
-        for (final YamlNode node : this.values()) {
-            if(count == index && (node instanceof Scalar)) {
-                value = Arrays.asList(
-                    ((Scalar) node)
-                        .value().split(System.lineSeparator())
-                );
-                break;
-            }
-            count++;
+        final Scalar scalar = this.scalar(index);
+        if(scalar != null) {
+            value = Arrays.asList(
+                scalar.value().split(System.lineSeparator())
+            );
         }
         return value;
     }
@@ -172,9 +188,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable integer.
      */
     default int integer(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Integer.parseInt(value);
+        final Scalar value = this.scalar(index);
+        if(value != null && value.value() != null
+            && !value.value().isEmpty()) {
+            return value.asInt();
         }
         return -1;
     }
@@ -212,9 +229,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable double.
      */
     default double doubleNumber(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Double.parseDouble(value);
+        final Scalar value = this.scalar(index);
+        if(value != null && value.value() != null
+            && !value.value().isEmpty()) {
+            return value.asDouble();
         }
         return -1.0;
     }
@@ -232,9 +250,10 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      *  is not a parsable long.
      */
     default long longNumber(final int index) {
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            return Long.parseLong(value);
+        final Scalar value = this.scalar(index);
+        if(value != null && value.value() != null
+            && !value.value().isEmpty()) {
+            return value.asLong();
         }
         return -1L;
     }
@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.Collection;
+
 /**
  * Builder of YamlSequence. Implementations should be immutable and thread-safe.
  * @author Salavat.Yalalov (s.yalalov@gmail.com)
@@ -49,6 +51,36 @@ public interface YamlSequenceBuilder {
      */
     YamlSequenceBuilder add(final YamlNode node);
 
+    /**
+     * Add all the values of a Collection, in its order. Values which are
+     * not YamlNodes are turned into YAML as
+     * {@link Yaml#createYamlDump(Object)} does.
+     * @param values Values to add.
+     * @return This builder
+     */
+    default YamlSequenceBuilder addAll(final Collection<?> values) {
+        YamlSequenceBuilder builder = this;
+        for(final Object value : values) {
+            if(value instanceof YamlNode) {
+                builder = builder.add((YamlNode) value);
+            } else {
+                builder = builder.add(new ReflectedYamlDump(value).dump());
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * A builder with the same values, which adds the next ones in place
+     * and returns itself, instead of a new builder. Use it to build large
+     * sequences from a single thread. It is not thread-safe and, once it
+     * built the YamlSequence, it cannot add anything anymore.
+     * @return Transient builder, or this one if it is already transient.
+     */
+    default YamlSequenceBuilder transientMode() {
+        return this;
+    }
+
     /**
      * Build the YamlSequence.
      * @return Built YamlSequence
@@ -34,8 +34,11 @@ import java.util.stream.*;
 /**
  * A YAML Stream of documents. Documents are separated by 3 dashes (---).<br>
  * This interface also offers integrations with Java 8's Stream API.<br>
- * All the methods have a default implementations based on the YamlNode
- * values Collection.
+ * All the methods have a default implementations based on the
+ * {@link #spliterator()}, which, by default, is the Spliterator of the
+ * YamlNode values Collection. Implementations which read the documents
+ * lazily should override it, so the Stream operations (e.g. findFirst())
+ * only read the documents they need.
  *
  * @checkstyle FinalParameters (400 lines)
  * @checkstyle JavadocMethod (400 lines)
@@ -59,164 +62,164 @@ public interface YamlStream extends YamlNode, Stream<YamlNode> {
     }
 
     default Iterator<YamlNode> iterator() {
-        return this.values().stream().iterator();
+        return Spliterators.iterator(this.spliterator());
     }
 
     default Spliterator<YamlNode> spliterator() {
-        return this.values().stream().spliterator();
+        return this.values().spliterator();
     }
 
     default boolean isParallel() {
-        return this.values().stream().isParallel();
+        return StreamSupport.stream(this.spliterator(), false).isParallel();
     }
 
     default Stream<YamlNode> sequential() {
-        return this.values().stream().sequential();
+        return StreamSupport.stream(this.spliterator(), false).sequential();
     }
 
     default Stream<YamlNode> parallel() {
-        return this.values().stream().parallel();
+        return StreamSupport.stream(this.spliterator(), false).parallel();
     }
 
     default Stream<YamlNode> unordered() {
-        return this.values().stream().unordered();
+        return StreamSupport.stream(this.spliterator(), false).unordered();
     }
 
     default Stream<YamlNode> onClose(Runnable closeHandler) {
-        return this.values().stream().onClose(closeHandler);
+        return StreamSupport.stream(this.spliterator(), false).onClose(closeHandler);
     }
 
     default void close() {
-        this.values().stream().close();
+        StreamSupport.stream(this.spliterator(), false).close();
     }
 
     default Stream<YamlNode> filter(Predicate<? super YamlNode> predicate) {
-        return this.values().stream().filter(predicate);
+        return StreamSupport.stream(this.spliterator(), false).filter(predicate);
     }
 
     default <R> Stream<R> map(Function<? super YamlNode, ? extends R> mapper) {
-        return this.values().stream().map(mapper);
+        return StreamSupport.stream(this.spliterator(), false).map(mapper);
     }
 
     default IntStream mapToInt(ToIntFunction<? super YamlNode> mapper) {
-        return this.values().stream().mapToInt(mapper);
+        return StreamSupport.stream(this.spliterator(), false).mapToInt(mapper);
     }
 
     default LongStream mapToLong(ToLongFunction<? super YamlNode> mapper) {
-        return this.values().stream().mapToLong(mapper);
+        return StreamSupport.stream(this.spliterator(), false).mapToLong(mapper);
     }
 
     default DoubleStream mapToDouble(ToDoubleFunction<? super YamlNode> mapper) {
-        return this.values().stream().mapToDouble(mapper);
+        return StreamSupport.stream(this.spliterator(), false).mapToDouble(mapper);
     }
 
     default <R> Stream<R> flatMap(Function<? super YamlNode, ? extends Stream<? extends R>> mapper) {
-        return this.values().stream().flatMap(mapper);
+        return StreamSupport.stream(this.spliterator(), false).flatMap(mapper);
     }
 
     default IntStream flatMapToInt(Function<? super YamlNode, ? extends IntStream> mapper) {
-        return this.values().stream().flatMapToInt(mapper);
+        return StreamSupport.stream(this.spliterator(), false).flatMapToInt(mapper);
     }
 
     default LongStream flatMapToLong(Function<? super YamlNode, ? extends LongStream> mapper) {
-        return this.values().stream().flatMapToLong(mapper);
+        return StreamSupport.stream(this.spliterator(), false).flatMapToLong(mapper);
     }
 
     default DoubleStream flatMapToDouble(Function<? super YamlNode, ? extends DoubleStream> mapper) {
-        return this.values().stream().flatMapToDouble(mapper);
+        return StreamSupport.stream(this.spliterator(), false).flatMapToDouble(mapper);
     }
 
     default Stream<YamlNode> distinct() {
-        return this.values().stream().distinct();
+        return StreamSupport.stream(this.spliterator(), false).distinct();
     }
 
     default Stream<YamlNode> sorted() {
-        return this.values().stream().sorted();
+        return StreamSupport.stream(this.spliterator(), false).sorted();
     }
 
     default Stream<YamlNode> sorted(Comparator<? super YamlNode> comparator) {
-        return this.values().stream().sorted(comparator);
+        return StreamSupport.stream(this.spliterator(), false).sorted(comparator);
     }
 
     default Stream<YamlNode> peek(Consumer<? super YamlNode> action) {
-        return this.values().stream().peek(action);
+        return StreamSupport.stream(this.spliterator(), false).peek(action);
     }
 
     default Stream<YamlNode> limit(long maxSize) {
-        return this.values().stream().limit(maxSize);
+        return StreamSupport.stream(this.spliterator(), false).limit(maxSize);
     }
 
     default Stream<YamlNode> skip(long n) {
-        return this.values().stream().skip(n);
+        return StreamSupport.stream(this.spliterator(), false).skip(n);
     }
 
     default void forEach(Consumer<? super YamlNode> action) {
-        this.values().stream().forEach(action);
+        StreamSupport.stream(this.spliterator(), false).forEach(action);
     }
 
     default void forEachOrdered(Consumer<? super YamlNode> action) {
-        this.values().stream().forEachOrdered(action);
+        StreamSupport.stream(this.spliterator(), false).forEachOrdered(action);
     }
 
     default Object[] toArray() {
-        return this.values().stream().toArray();
+        return StreamSupport.stream(this.spliterator(), false).toArray();
     }
 
     default <A> A[] toArray(IntFunction<A[]> generator) {
-        return this.values().stream().toArray(generator);
+        return StreamSupport.stream(this.spliterator(), false).toArray(generator);
     }
 
     default YamlNode reduce(YamlNode identity, BinaryOperator<YamlNode> accumulator) {
-        return this.values().stream().reduce(identity, accumulator);
+        return StreamSupport.stream(this.spliterator(), false).reduce(identity, accumulator);
     }
 
     default Optional<YamlNode> reduce(BinaryOperator<YamlNode> accumulator) {
-        return this.values().stream().reduce(accumulator);
+        return StreamSupport.stream(this.spliterator(), false).reduce(accumulator);
     }
 
     default <U> U reduce(U identity, BiFunction<U, ? super YamlNode, U> accumulator, BinaryOperator<U> combiner) {
-        return this.values().stream().reduce(identity, accumulator, combiner);
+        return StreamSupport.stream(this.spliterator(), false).reduce(identity, accumulator, combiner);
     }
 
     default <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super YamlNode> accumulator,
                          BiConsumer<R, R> combiner) {
-        return this.values().stream().collect(supplier, accumulator, combiner);
+        return StreamSupport.stream(this.spliterator(), false).collect(supplier, accumulator, combiner);
     }
 
     default <R, A> R collect(Collector<? super YamlNode, A, R> collector) {
-        return this.values().stream().collect(collector);
+        return StreamSupport.stream(this.spliterator(), false).collect(collector);
     }
 
     default Optional<YamlNode> min(Comparator<? super YamlNode> comparator) {
-        return this.values().stream().min(comparator);
+        return StreamSupport.stream(this.spliterator(), false).min(comparator);
     }
 
     default Optional<YamlNode> max(Comparator<? super YamlNode> comparator) {
-        return this.values().stream().max(comparator);
+        return StreamSupport.stream(this.spliterator(), false).max(comparator);
     }
 
     default long count() {
-        return this.values().stream().count();
+        return StreamSupport.stream(this.spliterator(), false).count();
     }
 
     default boolean anyMatch(Predicate<? super YamlNode> predicate) {
-        return this.values().stream().anyMatch(predicate);
+        return StreamSupport.stream(this.spliterator(), false).anyMatch(predicate);
     }
 
     default boolean allMatch(Predicate<? super YamlNode> predicate) {
-        return this.values().stream().allMatch(predicate);
+        return StreamSupport.stream(this.spliterator(), false).allMatch(predicate);
     }
 
     default boolean noneMatch(Predicate<? super YamlNode> predicate) {
-        return this.values().stream().noneMatch(predicate);
+        return StreamSupport.stream(this.spliterator(), false).noneMatch(predicate);
     }
 
     default Optional<YamlNode> findFirst() {
-        return this.values().stream().findFirst();
+        return StreamSupport.stream(this.spliterator(), false).findFirst();
     }
 
     default Optional<YamlNode> findAny() {
-        return this.values().stream().findAny();
+        return StreamSupport.stream(this.spliterator(), false).findAny();
     }
 
 
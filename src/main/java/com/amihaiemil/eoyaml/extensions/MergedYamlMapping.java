@@ -29,6 +29,8 @@ package com.amihaiemil.eoyaml.extensions;
 
 import com.amihaiemil.eoyaml.*;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -131,6 +133,11 @@ public final class MergedYamlMapping extends BaseYamlMapping {
         return this.merged.value(key);
     }
 
+    @Override
+    public Collection<Map.Entry<YamlNode, YamlNode>> entries() {
+        return this.merged.entries();
+    }
+
     @Override
     public Comment comment() {
         return this.merged.comment();
@@ -176,10 +183,10 @@ public final class MergedYamlMapping extends BaseYamlMapping {
     ) {
         YamlMappingBuilder originalBuilder = this
             .yamlMappingBuilderFrom(original);
-        final Set<YamlNode> changedKeys = changed.keys();
-        for(final YamlNode key : changedKeys) {
+        for(final Map.Entry<YamlNode, YamlNode> entry : changed.entries()) {
+            final YamlNode key = entry.getKey();
             final YamlNode originalValue = original.value(key);
-            final YamlNode changedValue = changed.value(key);
+            final YamlNode changedValue = entry.getValue();
             if (changedValue instanceof YamlMapping
                 && originalValue instanceof YamlMapping) {
                 originalBuilder = originalBuilder.add(
@@ -248,8 +255,8 @@ public final class MergedYamlMapping extends BaseYamlMapping {
     ) {
         YamlMappingBuilder builder = Yaml
             .createYamlMappingBuilder();
-        for (final YamlNode key : source.keys()) {
-            builder = builder.add(key, source.value(key));
+        for (final Map.Entry<YamlNode, YamlNode> entry : source.entries()) {
+            builder = builder.add(entry.getKey(), entry.getValue());
         }
         return builder;
     }
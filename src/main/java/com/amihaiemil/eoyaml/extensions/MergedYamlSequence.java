@@ -128,6 +128,11 @@ public final class MergedYamlSequence extends BaseYamlSequence {
         return this.merged.values();
     }
 
+    @Override
+    public YamlNode get(final int index) {
+        return this.merged.get(index);
+    }
+
     @Override
     public Comment comment() {
         return this.merged.comment();
@@ -28,10 +28,12 @@
 package com.amihaiemil.eoyaml;
 
 import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -298,4 +300,115 @@ public final class AllYamlLinesTest {
             );
         }
     }
+
+    /**
+     * AllYamlLines.line(int) finds the lines by number, also when
+     * accessed through a decorator.
+     */
+    @Test
+    public void findsLinesByNumber() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: value", 3));
+        lines.add(new RtYamlLine("# comment", 4));
+        lines.add(new RtYamlLine("second: value", 6));
+        final YamlLines yamlLines = new Skip(
+            new AllYamlLines(lines),
+            line -> line.trimmed().startsWith("#")
+        );
+        MatcherAssert.assertThat(
+            yamlLines.line(4), Matchers.is(lines.get(1))
+        );
+        MatcherAssert.assertThat(
+            yamlLines.line(6), Matchers.is(lines.get(2))
+        );
+        MatcherAssert.assertThat(
+            yamlLines.line(-1), Matchers.is(lines.get(0))
+        );
+        try {
+            yamlLines.line(5);
+            Assert.fail("Expected IllegalArgumentException!");
+        } catch (final IllegalArgumentException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.startsWith("Couldn't find line 5")
+            );
+        }
+    }
+
+    /**
+     * Looking up lines by number should not depend on the size of
+     * the document: once the index is built, each lookup reads exactly
+     * one line, whether the line numbers are consecutive or not.
+     */
+    @Test
+    public void findsLinesWithoutRescanning() {
+        final int size = 1000;
+        for(final int step : new int[] {1, 2}) {
+            final List<YamlLine> lines = new ArrayList<>(size);
+            for(int idx = 0; idx < size; ++idx) {
+                lines.add(
+                    new RtYamlLine("key" + idx + ": value", idx * step)
+                );
+            }
+            final CountedLines counted = new CountedLines(lines);
+            final YamlLines yamlLines = new AllYamlLines(counted);
+            MatcherAssert.assertThat(
+                yamlLines.line(0).number(), Matchers.is(0)
+            );
+            final int built = counted.reads();
+            for(int idx = size - 1; idx >= 0; --idx) {
+                MatcherAssert.assertThat(
+                    yamlLines.line(idx * step).number(),
+                    Matchers.is(idx * step)
+                );
+            }
+            MatcherAssert.assertThat(
+                counted.reads() - built, Matchers.is(size)
+            );
+        }
+    }
+
+    /**
+     * Random access list of lines counting how many lines are read.
+     */
+    private static final class CountedLines
+        extends AbstractList<YamlLine> implements RandomAccess {
+
+        /**
+         * Counted lines.
+         */
+        private final List<YamlLine> lines;
+
+        /**
+         * Number of lines read so far.
+         */
+        private int count;
+
+        /**
+         * Ctor.
+         * @param lines Counted lines.
+         */
+        CountedLines(final List<YamlLine> lines) {
+            this.lines = lines;
+        }
+
+        /**
+         * Number of lines read so far.
+         * @return Integer.
+         */
+        int reads() {
+            return this.count;
+        }
+
+        @Override
+        public YamlLine get(final int index) {
+            this.count = this.count + 1;
+            return this.lines.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.lines.size();
+        }
+    }
 }
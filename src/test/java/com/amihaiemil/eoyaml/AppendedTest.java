@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Appended}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class AppendedTest {
+
+    /**
+     * Appended keeps the elements in the order they were added.
+     */
+    @Test
+    public void keepsOrder() {
+        final Appended<String> list = new Appended<String>()
+            .with("a").with("b").with("c");
+        MatcherAssert.assertThat(list.size(), Matchers.is(3));
+        MatcherAssert.assertThat(list.isEmpty(), Matchers.is(false));
+        MatcherAssert.assertThat(
+            list.toList(), Matchers.contains("a", "b", "c")
+        );
+    }
+
+    /**
+     * An empty Appended has no elements.
+     */
+    @Test
+    public void canBeEmpty() {
+        final Appended<String> list = new Appended<>();
+        MatcherAssert.assertThat(list.isEmpty(), Matchers.is(true));
+        MatcherAssert.assertThat(list.toList(), Matchers.emptyIterable());
+    }
+
+    /**
+     * Appended does not change when an element is added, so the lists
+     * obtained from it are independent.
+     */
+    @Test
+    public void forksWithoutChanging() {
+        final Appended<String> common = new Appended<String>().with("a");
+        final Appended<String> first = common.with("b");
+        final Appended<String> second = common.with("c").with("d");
+        MatcherAssert.assertThat(common.toList(), Matchers.contains("a"));
+        MatcherAssert.assertThat(
+            first.toList(), Matchers.contains("a", "b")
+        );
+        MatcherAssert.assertThat(
+            second.toList(), Matchers.contains("a", "c", "d")
+        );
+    }
+
+    /**
+     * The List copied from Appended can be changed without changing
+     * the Appended.
+     */
+    @Test
+    public void copiesToList() {
+        final Appended<String> list = new Appended<String>().with("a");
+        list.toList().add("b");
+        MatcherAssert.assertThat(list.toList(), Matchers.contains("a"));
+    }
+}
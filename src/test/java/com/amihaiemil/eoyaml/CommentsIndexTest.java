@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CommentsIndex}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class CommentsIndexTest {
+
+    /**
+     * CommentsIndex finds the block comment above a position, skipping
+     * tags and stopping at lines without comments.
+     */
+    @Test
+    public void findsCommentAbove() {
+        final CommentsIndex index = new CommentsIndex(this.lines());
+        MatcherAssert.assertThat(
+            index.above(6, false),
+            Matchers.equalTo(
+                "first line" + System.lineSeparator() + "second line"
+            )
+        );
+        MatcherAssert.assertThat(
+            index.above(3, false), Matchers.isEmptyString()
+        );
+    }
+
+    /**
+     * CommentsIndex skips the start marker only if asked to.
+     */
+    @Test
+    public void skipsStartMarkerIfAsked() {
+        final CommentsIndex index = new CommentsIndex(this.lines());
+        MatcherAssert.assertThat(
+            index.above(2, true), Matchers.equalTo("document comment")
+        );
+        MatcherAssert.assertThat(
+            index.above(2, false), Matchers.isEmptyString()
+        );
+    }
+
+    /**
+     * CommentsIndex finds the comment of the document, above the start
+     * marker.
+     */
+    @Test
+    public void findsDocumentComment() {
+        final CommentsIndex index = new CommentsIndex(this.lines());
+        MatcherAssert.assertThat(
+            index.document(2), Matchers.equalTo("document comment")
+        );
+        MatcherAssert.assertThat(
+            index.document(1), Matchers.isEmptyString()
+        );
+    }
+
+    /**
+     * CommentsIndex finds inline comments.
+     */
+    @Test
+    public void findsInlineComment() {
+        final CommentsIndex index = new CommentsIndex(this.lines());
+        MatcherAssert.assertThat(
+            index.inline(6, 7), Matchers.equalTo("inline")
+        );
+        MatcherAssert.assertThat(
+            index.inline(2, 3), Matchers.isEmptyString()
+        );
+    }
+
+    /**
+     * Some lines with comments.
+     * @return List of YamlLine.
+     */
+    private List<YamlLine> lines() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("# document comment", 0));
+        lines.add(new RtYamlLine("---", 1));
+        lines.add(new RtYamlLine("first: value", 2));
+        lines.add(new RtYamlLine("# first line", 3));
+        lines.add(new RtYamlLine("!!map", 4));
+        lines.add(new RtYamlLine("# second line", 5));
+        lines.add(new RtYamlLine("second: value # inline", 6));
+        return lines;
+    }
+}
@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CoreValue}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class CoreValueTest {
+
+    /**
+     * Integers are resolved in decimal, octal and hexadecimal forms.
+     */
+    @Test
+    public void resolvesIntegers() {
+        MatcherAssert.assertThat(CoreValue.from("42").asInt(), Matchers.is(42));
+        MatcherAssert.assertThat(
+            CoreValue.from("-17").asInt(), Matchers.is(-17)
+        );
+        MatcherAssert.assertThat(CoreValue.from("+5").asInt(), Matchers.is(5));
+        MatcherAssert.assertThat(
+            CoreValue.from("0o17").asInt(), Matchers.is(15)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("0x1F").asLong(), Matchers.is(31L)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("9000000000").asLong(), Matchers.is(9000000000L)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("12").asDouble(), Matchers.is(12.0)
+        );
+    }
+
+    /**
+     * Floats are resolved, including the infinite and not-a-number forms.
+     */
+    @Test
+    public void resolvesFloats() {
+        MatcherAssert.assertThat(
+            CoreValue.from("1.5e3").asDouble(), Matchers.is(1500.0)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from(".5").asDouble(), Matchers.is(0.5)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from(".Inf").asDouble(),
+            Matchers.is(Double.POSITIVE_INFINITY)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("-.INF").asDouble(),
+            Matchers.is(Double.NEGATIVE_INFINITY)
+        );
+        MatcherAssert.assertThat(
+            Double.isNaN(CoreValue.from(".nan").asDouble()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            Double.isNaN(CoreValue.from("NaN").asDouble()),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Not-a-number is resolved in each of the forms the core schema
+     * accepts: .nan, .NaN and .NAN.
+     */
+    @Test
+    public void resolvesEachFormOfNan() {
+        MatcherAssert.assertThat(
+            Double.isNaN(CoreValue.from(".nan").asDouble()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            Double.isNaN(CoreValue.from(".NaN").asDouble()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            Double.isNaN(CoreValue.from(".NAN").asDouble()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            Double.isNaN(
+                Yaml.createYamlScalarBuilder().addLine(".NaN")
+                    .buildPlainScalar().asDouble()
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Booleans are resolved only in the cases the core schema accepts.
+     */
+    @Test
+    public void resolvesBooleans() {
+        MatcherAssert.assertThat(
+            CoreValue.from("true").asBoolean(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("True").asBoolean(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("FALSE").asBoolean(), Matchers.is(false)
+        );
+        try {
+            CoreValue.from("tRUE").asBoolean();
+            MatcherAssert.assertThat("Expected exception", false);
+        } catch (final YamlReadingException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.containsString("tRUE")
+            );
+        }
+    }
+
+    /**
+     * Values which are not numbers fail like the java parse methods.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void failsOnStringAsInt() {
+        CoreValue.from("not a number").asInt();
+    }
+
+    /**
+     * An integer too big for an int is not read as one.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void failsOnLongAsInt() {
+        CoreValue.from("9000000000").asInt();
+    }
+
+    /**
+     * Common values are shared instances.
+     */
+    @Test
+    public void sharesCommonValues() {
+        MatcherAssert.assertThat(
+            CoreValue.from("true"),
+            Matchers.sameInstance(CoreValue.from("true"))
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("null"),
+            Matchers.sameInstance(CoreValue.from("null"))
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("7"),
+            Matchers.sameInstance(CoreValue.from("7"))
+        );
+        MatcherAssert.assertThat(
+            CoreValue.from("-128"),
+            Matchers.sameInstance(CoreValue.from("-128"))
+        );
+    }
+
+    /**
+     * Small integers which are not written in the canonical decimal form
+     * are not shared, so they keep their own text.
+     */
+    @Test
+    public void keepsTextOfNonCanonicalIntegers() {
+        for(final String text : new String[] {"0x10", "+16", "016", "0o20"}) {
+            final CoreValue value = CoreValue.from(text);
+            MatcherAssert.assertThat(value.asInt(), Matchers.is(16));
+            MatcherAssert.assertThat(
+                value, Matchers.not(Matchers.sameInstance(CoreValue.from("16")))
+            );
+            try {
+                value.asBoolean();
+                MatcherAssert.assertThat("Expected exception", false);
+            } catch (final YamlReadingException ex) {
+                MatcherAssert.assertThat(
+                    ex.getMessage(), Matchers.containsString("'" + text + "'")
+                );
+            }
+        }
+    }
+
+    /**
+     * A negative zero integer keeps its sign as a double, like
+     * Double.parseDouble does.
+     */
+    @Test
+    public void keepsSignOfNegativeZero() {
+        MatcherAssert.assertThat(
+            Double.doubleToLongBits(CoreValue.from("-0").asDouble()),
+            Matchers.is(Double.doubleToLongBits(-0.0))
+        );
+        MatcherAssert.assertThat(
+            Double.doubleToLongBits(CoreValue.from("0").asDouble()),
+            Matchers.is(Double.doubleToLongBits(0.0))
+        );
+        MatcherAssert.assertThat(CoreValue.from("-0").asInt(), Matchers.is(0));
+    }
+
+    /**
+     * Scalars read from YAML cache their resolved value.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsTypedValuesFromYaml() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            "limit: 0x400\nratio: 0.75\nenabled: True\nlist:\n  - 12\n"
+        ).readYamlMapping();
+        final Scalar limit = read.value("limit").asScalar();
+        MatcherAssert.assertThat(limit.asInt(), Matchers.is(1024));
+        MatcherAssert.assertThat(limit.asInt(), Matchers.is(1024));
+        MatcherAssert.assertThat(read.integer("limit"), Matchers.is(1024));
+        MatcherAssert.assertThat(
+            read.doubleNumber("ratio"), Matchers.is(0.75)
+        );
+        MatcherAssert.assertThat(
+            read.value("enabled").asScalar().asBoolean(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("list").longNumber(0), Matchers.is(12L)
+        );
+    }
+}
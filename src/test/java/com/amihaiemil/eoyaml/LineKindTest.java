@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LineKind}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class LineKindTest {
+
+    /**
+     * LineKind recognizes the lines which are not significant.
+     */
+    @Test
+    public void recognizesInsignificantLines() {
+        MatcherAssert.assertThat(
+            LineKind.from("# comment").comment(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("# comment").significant(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("%YAML 1.2").significant(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("---").significant(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("...").significant(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("!!map").significant(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("key: value").significant(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("").significant(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * LineKind recognizes sequence items.
+     */
+    @Test
+    public void recognizesDashLines() {
+        MatcherAssert.assertThat(LineKind.from("-").item(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            LineKind.from("- value").item(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("-value").item(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("-value").dash(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("- key: value").dashMapping(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("- key:").dashMapping(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("- key:").dashKey(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("- \"key: value\"").dashKey(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("- 'quoted'").dashQuoted(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("-  {}").dashEmptyMapping(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("- []").dashEmptySequence(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * LineKind recognizes keys, plain or quoted.
+     */
+    @Test
+    public void recognizesKeys() {
+        MatcherAssert.assertThat(
+            LineKind.from("key: value").key(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("key:").key(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("key:value").key(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("\"some: key\": value").key(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("'some key':").key(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("\"not: a key\"").key(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * LineKind recognizes complex keys and block scalars.
+     */
+    @Test
+    public void recognizesComplexKeysAndBlocks() {
+        MatcherAssert.assertThat(
+            LineKind.from("?").complexKey(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from(": value").complexValue(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from(":  >").complexBlock(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("key: |").literal(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("key: >").folded(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("key: | -").foldedSequence(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            LineKind.from("|-").foldedSequence(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * LineKind finds the first colon which is not inside quotes.
+     */
+    @Test
+    public void findsColonOutsideQuotes() {
+        MatcherAssert.assertThat(
+            LineKind.colon("key: value", 0), Matchers.is(3)
+        );
+        MatcherAssert.assertThat(
+            LineKind.colon("\"a: b\": c", 0), Matchers.is(6)
+        );
+        MatcherAssert.assertThat(
+            LineKind.colon("it's: fine", 0), Matchers.is(4)
+        );
+        MatcherAssert.assertThat(
+            LineKind.colon("http://url", 0), Matchers.is(-1)
+        );
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LineTable} and {@link TableLine}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class LineTableTest {
+
+    /**
+     * LineTable has the same lines as InputLines.
+     */
+    @Test
+    public void readsSameLinesAsInputLines() {
+        final String yaml = "# comment\n"
+            + "key: value # inline\n"
+            + "\n"
+            + "seq:\n"
+            + "  - first: \"a # b\"\n"
+            + "    second: 'c'\n"
+            + "  -   plain\n"
+            + "literal: |\n"
+            + "  text\t\n"
+            + "...\n";
+        final LineTable table = new LineTable(yaml);
+        final List<YamlLine> expected = new ArrayList<>();
+        new InputLines(
+            new BufferedReader(new StringReader(yaml))
+        ).forEachRemaining(expected::add);
+        MatcherAssert.assertThat(table.size(), Matchers.is(expected.size()));
+        for(int row = 0; row < table.size(); ++row) {
+            final YamlLine line = table.get(row);
+            final YamlLine other = expected.get(row);
+            MatcherAssert.assertThat(
+                line.toString(), Matchers.equalTo(other.toString())
+            );
+            MatcherAssert.assertThat(
+                line.trimmed(), Matchers.equalTo(other.trimmed())
+            );
+            MatcherAssert.assertThat(
+                line.comment(), Matchers.equalTo(other.comment())
+            );
+            MatcherAssert.assertThat(
+                line.number(), Matchers.is(other.number())
+            );
+            MatcherAssert.assertThat(
+                line.indentation(), Matchers.is(other.indentation())
+            );
+            MatcherAssert.assertThat(
+                line.kind(), Matchers.equalTo(other.kind())
+            );
+        }
+    }
+
+    /**
+     * LineTable understands CRLF and CR line terminators.
+     */
+    @Test
+    public void readsCrlfAndCr() {
+        final LineTable table = new LineTable(
+            "first: 1\r\nsecond: 2\rthird: 3\r\n"
+        );
+        MatcherAssert.assertThat(table.size(), Matchers.is(3));
+        MatcherAssert.assertThat(
+            table.get(1).trimmed(), Matchers.equalTo("second: 2")
+        );
+        MatcherAssert.assertThat(table.get(2).number(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            table.get(2).trimmed(), Matchers.equalTo("third: 3")
+        );
+    }
+
+    /**
+     * LineTable backs the lines of the documents read by RtYamlInput.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void backsReadDocuments() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            "name: eo-yaml\n"
+            + "developers:\n"
+            + "  - name: amihaiemil\n"
+            + "    role: architect\n"
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("developers").yamlMapping(0).string("role"),
+            Matchers.equalTo("architect")
+        );
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.exceptions.YamlIndentationException;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LinesIndex}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class LinesIndexTest {
+
+    /**
+     * LinesIndex links parents, children and siblings by indentation,
+     * ignoring comments.
+     */
+    @Test
+    public void linksLinesByIndentation() {
+        final LinesIndex index = new LinesIndex(this.lines());
+        MatcherAssert.assertThat(index.size(), Matchers.is(7));
+        MatcherAssert.assertThat(index.parent(0), Matchers.is(-1));
+        MatcherAssert.assertThat(index.sibling(0), Matchers.is(1));
+        MatcherAssert.assertThat(index.child(1), Matchers.is(2));
+        MatcherAssert.assertThat(index.parent(2), Matchers.is(1));
+        MatcherAssert.assertThat(index.sibling(2), Matchers.is(4));
+        MatcherAssert.assertThat(index.child(4), Matchers.is(5));
+        MatcherAssert.assertThat(index.end(1), Matchers.is(5));
+        MatcherAssert.assertThat(index.sibling(1), Matchers.is(6));
+        MatcherAssert.assertThat(index.sibling(6), Matchers.is(-1));
+        MatcherAssert.assertThat(index.end(6), Matchers.is(6));
+    }
+
+    /**
+     * LinesIndex finds the next significant line and the position after
+     * a given line number.
+     */
+    @Test
+    public void findsPositions() {
+        final LinesIndex index = new LinesIndex(this.lines());
+        MatcherAssert.assertThat(index.ordered(), Matchers.is(true));
+        MatcherAssert.assertThat(index.after(-1), Matchers.is(0));
+        MatcherAssert.assertThat(index.after(2), Matchers.is(3));
+        MatcherAssert.assertThat(index.after(6), Matchers.is(7));
+        MatcherAssert.assertThat(index.next(3), Matchers.is(4));
+        MatcherAssert.assertThat(index.next(7), Matchers.is(-1));
+        MatcherAssert.assertThat(index.indentation(5), Matchers.is(4));
+        MatcherAssert.assertThat(
+            index.line(6).trimmed(), Matchers.equalTo("third: value")
+        );
+    }
+
+    /**
+     * LinesIndex complains about misplaced lines which follow
+     * the given position.
+     */
+    @Test(expected = YamlIndentationException.class)
+    public void verifiesFollowingLines() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: value", 0));
+        lines.add(new RtYamlLine("second: value", 1));
+        lines.add(new RtYamlLine("  third: value", 2));
+        final LinesIndex index = new LinesIndex(lines);
+        index.verify(2);
+        index.verify(0);
+    }
+
+    /**
+     * LinesIndex knows when the line numbers are not ordered.
+     */
+    @Test
+    public void knowsWhenNotOrdered() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: value", 1));
+        lines.add(new RtYamlLine("second: value", 0));
+        MatcherAssert.assertThat(
+            new LinesIndex(lines).ordered(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * LinesIndex does not copy the lines if they are a random access
+     * list, it takes each line from the list when it is asked for.
+     */
+    @Test
+    public void takesLinesFromRandomAccessList() {
+        final List<YamlLine> lines = this.lines();
+        final LinesIndex index = new LinesIndex(lines);
+        lines.set(6, new RtYamlLine("fourth: value", 6));
+        MatcherAssert.assertThat(
+            index.line(6).trimmed(), Matchers.equalTo("fourth: value")
+        );
+        MatcherAssert.assertThat(index.sibling(1), Matchers.is(6));
+    }
+
+    /**
+     * Some YAML lines.
+     * @return List of YamlLine.
+     */
+    private List<YamlLine> lines() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: value", 0));
+        lines.add(new RtYamlLine("second:", 1));
+        lines.add(new RtYamlLine("  key: value", 2));
+        lines.add(new RtYamlLine("  # a comment", 3));
+        lines.add(new RtYamlLine("  other:", 4));
+        lines.add(new RtYamlLine("    nested: value", 5));
+        lines.add(new RtYamlLine("third: value", 6));
+        return lines;
+    }
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MappedSource}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class MappedSourceTest {
+
+    /**
+     * A mapped file is read into the same mappings as RtYamlInput.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsMappingsLikeRtYamlInput() throws Exception {
+        final String[] files = {
+            "commentedMapping.yml", "complexMapping.yml", "dashMappings.yml",
+            "indentedComplexMapping.yml", "issue_447_bug_mapping_case_1.yml",
+            "mappingWithDocumentComment.yml", "quotedKeysMax.yml",
+            "scalarCommentsInMapping.yml", "simpleMapping.yml",
+        };
+        for(final String name : files) {
+            final Path path = Paths.get("src/test/resources", name);
+            MatcherAssert.assertThat(
+                name,
+                Yaml.createYamlInput(path).readYamlMapping().toString(),
+                Matchers.equalTo(
+                    Yaml.createYamlInput(path.toFile())
+                        .readYamlMapping().toString()
+                )
+            );
+        }
+    }
+
+    /**
+     * A mapped file is read into the same sequences and streams as RtYamlInput.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSequencesAndStreamsLikeRtYamlInput() throws Exception {
+        final String[] sequences = {
+            "commentedSequence.yml", "complexSequence.yml",
+            "escapedScalarsInSequence.yml", "simpleSequence.yml",
+        };
+        for(final String name : sequences) {
+            final File file = new File("src/test/resources", name);
+            MatcherAssert.assertThat(
+                name,
+                Yaml.createYamlInput(file.toPath())
+                    .readYamlSequence().toString(),
+                Matchers.equalTo(
+                    Yaml.createYamlInput(file).readYamlSequence().toString()
+                )
+            );
+        }
+        final String[] streams = {
+            "streamMixed.yml", "streamOfMappings.yml",
+            "streamWithoutFirstStartMarker.yml",
+        };
+        for(final String name : streams) {
+            final File file = new File("src/test/resources", name);
+            MatcherAssert.assertThat(
+                name,
+                Yaml.createYamlInput(file.toPath())
+                    .readYamlStream().toString(),
+                Matchers.equalTo(
+                    Yaml.createYamlInput(file).readYamlStream().toString()
+                )
+            );
+        }
+    }
+
+    /**
+     * A mapped UTF-8 file with CRLF line terminators is read.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsUtfEightWithCrlf() throws Exception {
+        final Path path = Files.createTempFile("eoyaml", ".yml");
+        try {
+            Files.write(
+                path,
+                (
+                    "name: éo-yaml # comment\r\n"
+                    + "\r\n"
+                    + "items:\r\n"
+                    + "  - key: ключ\r\n"
+                    + "    other: value\r\n"
+                    + "  - plain\r"
+                    + "literal: |\r\n"
+                    + "  line\r\n"
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            final YamlMapping read = Yaml.createYamlInput(path)
+                .readYamlMapping();
+            MatcherAssert.assertThat(
+                read.string("name"), Matchers.equalTo("éo-yaml")
+            );
+            MatcherAssert.assertThat(
+                read.yamlSequence("items").yamlMapping(0).string("key"),
+                Matchers.equalTo("ключ")
+            );
+            MatcherAssert.assertThat(
+                read.yamlSequence("items").yamlMapping(0).string("other"),
+                Matchers.equalTo("value")
+            );
+            MatcherAssert.assertThat(
+                read.yamlSequence("items").string(1),
+                Matchers.equalTo("plain")
+            );
+            MatcherAssert.assertThat(
+                read.string("literal"), Matchers.startsWith("line")
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * An ASCII file is read directly from the mapped bytes.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsAsciiFromMappedFile() throws Exception {
+        final Path path = MappedSourceTest.file(
+            "key: value\n".getBytes(StandardCharsets.UTF_8)
+        );
+        try {
+            final CharSequence chars = new MappedSource(
+                path, StandardCharsets.UTF_8
+            ).chars();
+            MatcherAssert.assertThat(
+                chars, Matchers.instanceOf(AsciiChars.class)
+            );
+            MatcherAssert.assertThat(
+                chars.toString(), Matchers.equalTo("key: value\n")
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * The BOM of a mapped file is skipped and its charset is used.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void skipsBom() throws Exception {
+        final String[] charsets = {"UTF-8", "UTF-16BE", "UTF-16LE"};
+        for(final String charset : charsets) {
+            final Path path = MappedSourceTest.file(
+                "\uFEFFname: eo-yaml\ncity: Bucureşti\n".getBytes(charset)
+            );
+            try {
+                final YamlMapping read = Yaml.createYamlInput(path)
+                    .readYamlMapping();
+                MatcherAssert.assertThat(
+                    charset, read.string("name"), Matchers.equalTo("eo-yaml")
+                );
+                MatcherAssert.assertThat(
+                    charset, read.string("city"),
+                    Matchers.equalTo("Bucureşti")
+                );
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * A mapped file can be read without comments, projected or lazily.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsReadingOptions() throws Exception {
+        final Path path = MappedSourceTest.file(
+            (
+                "\uFEFF# the document\n"
+                + "name: eo-yaml # the name\n"
+                + "version: 5\n"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        try {
+            final YamlMapping uncommented = Yaml.createYamlInput(path)
+                .withoutComments().readYamlMapping();
+            MatcherAssert.assertThat(
+                uncommented.comment().value(), Matchers.isEmptyString()
+            );
+            MatcherAssert.assertThat(
+                uncommented.value("name").comment().value(),
+                Matchers.isEmptyString()
+            );
+            MatcherAssert.assertThat(
+                uncommented.string("name"), Matchers.equalTo("eo-yaml")
+            );
+            final YamlMapping projected = Yaml.createYamlInput(path)
+                .readYamlMapping(Yaml.createProjection("version"));
+            MatcherAssert.assertThat(
+                projected.keys(),
+                Matchers.contains(Yaml.createYamlScalarBuilder()
+                    .addLine("version").buildPlainScalar())
+            );
+            final YamlStream lazy = Yaml.createYamlInput(path)
+                .readYamlStreamLazily();
+            final YamlMapping[] docs = lazy.values().stream()
+                .map(YamlNode::asMapping).toArray(YamlMapping[]::new);
+            MatcherAssert.assertThat(docs.length, Matchers.is(1));
+            MatcherAssert.assertThat(
+                docs[0].string("name"), Matchers.equalTo("eo-yaml")
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Write the given bytes in a temporary file.
+     * @param bytes Bytes.
+     * @return Path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private static Path file(final byte[] bytes) throws IOException {
+        final Path path = Files.createTempFile("eoyaml", ".yml");
+        Files.write(path, bytes);
+        return path;
+    }
+}
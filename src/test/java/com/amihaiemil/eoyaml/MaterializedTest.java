@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.File;
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Materialized}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class MaterializedTest {
+
+    /**
+     * A materialized mapping is printed exactly like the read one.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void printsMappingsLikeRead() throws IOException {
+        final String[] files = {
+            "complexMapping.yml", "commentedMapping.yml",
+            "indentedComplexMapping.yml", "scalarCommentsInMapping.yml",
+            "multilineCommentedMapping.yml", "dashMappings.yml",
+            "printing_tests/yamlMappingIndentedComments.yml",
+        };
+        for(final String file : files) {
+            final YamlMapping read = Yaml.createYamlInput(
+                new File("src/test/resources/" + file)
+            ).readYamlMapping();
+            final YamlNode materialized = read.materialize();
+            MatcherAssert.assertThat(
+                materialized, Matchers.instanceOf(RtYamlMapping.class)
+            );
+            MatcherAssert.assertThat(
+                materialized.toString(), Matchers.equalTo(read.toString())
+            );
+        }
+    }
+
+    /**
+     * A materialized sequence is printed exactly like the read one.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void printsSequencesLikeRead() throws IOException {
+        final String[] files = {
+            "complexSequence.yml", "commentedSequence.yml",
+            "scalarCommentsInSequence.yml", "escapedScalarsInSequence.yml",
+        };
+        for(final String file : files) {
+            final YamlSequence read = Yaml.createYamlInput(
+                new File("src/test/resources/" + file)
+            ).readYamlSequence();
+            final YamlNode materialized = read.materialize();
+            MatcherAssert.assertThat(
+                materialized, Matchers.instanceOf(RtYamlSequence.class)
+            );
+            MatcherAssert.assertThat(
+                materialized.toString(), Matchers.equalTo(read.toString())
+            );
+        }
+    }
+
+    /**
+     * A mapping with more top-level keys than the threshold is split
+     * and copied in parallel, keeping the order of the keys.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void materializesBigMappingInParallel() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        final int size = Materialized.THRESHOLD * 10 + 7;
+        for(int idx = 0; idx < size; ++idx) {
+            text.append("key").append(idx).append(":\n")
+                .append("  name: value").append(idx).append('\n')
+                .append("  list:\n    - a\n    - b\n")
+                .append("  empty: {}\n");
+        }
+        final YamlMapping read = Yaml.createYamlInput(text).readYamlMapping();
+        final YamlMapping materialized = read.materialize().asMapping();
+        MatcherAssert.assertThat(
+            materialized.keys(), Matchers.iterableWithSize(size)
+        );
+        MatcherAssert.assertThat(materialized, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            materialized.toString(), Matchers.equalTo(read.toString())
+        );
+        final YamlMapping last = materialized.yamlMapping("key" + (size - 1));
+        MatcherAssert.assertThat(
+            last, Matchers.instanceOf(RtYamlMapping.class)
+        );
+        MatcherAssert.assertThat(
+            last.string("name"), Matchers.equalTo("value" + (size - 1))
+        );
+        MatcherAssert.assertThat(
+            last.value("empty"), Matchers.instanceOf(EmptyYamlMapping.class)
+        );
+    }
+
+    /**
+     * Scalars are copied into PlainStringScalar, with their comments.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void copiesScalarsWithComments() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            "# about the key\nkey: value # inline\n"
+        ).readYamlMapping();
+        final YamlNode value = read.materialize().asMapping().value("key");
+        MatcherAssert.assertThat(
+            value, Matchers.instanceOf(PlainStringScalar.class)
+        );
+        MatcherAssert.assertThat(
+            value.asScalar().value(), Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(
+            ((ScalarComment) value.comment()).inline().value(),
+            Matchers.equalTo("inline")
+        );
+    }
+
+    /**
+     * Read block scalars are copied into built ones, with the same value,
+     * comment and printed form.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void copiesReadBlockScalars() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            "# folded\nfolded: >\n  first line\n  second line\n"
+            + "# literal\nliteral: |\n  first line\n  second line\n"
+        ).readYamlMapping();
+        final YamlMapping copy = read.materialize().asMapping();
+        MatcherAssert.assertThat(
+            copy.value("folded"),
+            Matchers.instanceOf(
+                RtYamlScalarBuilder.BuiltFoldedBlockScalar.class
+            )
+        );
+        MatcherAssert.assertThat(
+            copy.value("literal"),
+            Matchers.instanceOf(
+                RtYamlScalarBuilder.BuiltLiteralBlockScalar.class
+            )
+        );
+        for(final String key : new String[] {"folded", "literal"}) {
+            MatcherAssert.assertThat(
+                copy.string(key), Matchers.equalTo(read.string(key))
+            );
+            MatcherAssert.assertThat(
+                copy.value(key).comment().value(),
+                Matchers.equalTo(read.value(key).comment().value())
+            );
+        }
+        MatcherAssert.assertThat(
+            copy.toString(), Matchers.equalTo(read.toString())
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Memo}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class MemoTest {
+
+    /**
+     * Memo calculates the value only once.
+     */
+    @Test
+    public void calculatesValueOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<String> memo = new Memo<>(
+            () -> "value" + calls.incrementAndGet(), false
+        );
+        MatcherAssert.assertThat(memo.get(), Matchers.equalTo("value1"));
+        MatcherAssert.assertThat(memo.get(), Matchers.equalTo("value1"));
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+
+    /**
+     * Memo can also keep the value softly referenced.
+     */
+    @Test
+    public void remembersSoftlyReferencedValue() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<String> memo = new Memo<>(
+            () -> "value" + calls.incrementAndGet(), true
+        );
+        final String value = memo.get();
+        MatcherAssert.assertThat(memo.get(), Matchers.sameInstance(value));
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+
+    /**
+     * Memo calculates the value only once, even if it is requested by
+     * more threads at the same time.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void calculatesValueOnceForManyThreads() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<Integer> memo = new Memo<>(calls::incrementAndGet, false);
+        final Thread[] threads = new Thread[8];
+        for(int idx = 0; idx < threads.length; ++idx) {
+            threads[idx] = new Thread(memo::get);
+            threads[idx].start();
+        }
+        for(final Thread thread : threads) {
+            thread.join();
+        }
+        MatcherAssert.assertThat(memo.get(), Matchers.is(1));
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+}
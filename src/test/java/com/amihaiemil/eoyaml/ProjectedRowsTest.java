@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ProjectedRows}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class ProjectedRowsTest {
+
+    /**
+     * Route table with some unneeded fields.
+     */
+    private static final String ROUTES = String.join(
+        "\n",
+        "# Routes of the gateway",
+        "version: 3",
+        "description: |",
+        "  routes:",
+        "    not: a route",
+        "routes:",
+        "  - name: first",
+        "    # where it matches",
+        "    match: /first",
+        "    backend: first-service",
+        "    retries:",
+        "      count: 3",
+        "      timeout: 10s",
+        "  - name: second",
+        "    match:",
+        "      path: /second",
+        "      # only GET",
+        "      method: GET",
+        "    backend: second-service",
+        "    headers:",
+        "      - X-One",
+        "      - X-Two",
+        "owner: someone",
+        ""
+    );
+
+    /**
+     * Only the projected fields are read.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsOnlyProjectedKeys() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(ROUTES).readYamlMapping(
+            Yaml.createProjection("routes[*].match", "routes[*].backend")
+        );
+        final YamlMapping expected = Yaml.createYamlMappingBuilder()
+            .add(
+                "routes",
+                Yaml.createYamlSequenceBuilder()
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("match", "/first")
+                            .add("backend", "first-service")
+                            .build()
+                    )
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add(
+                                "match",
+                                Yaml.createYamlMappingBuilder()
+                                    .add("path", "/second")
+                                    .add("method", "GET")
+                                    .build()
+                            )
+                            .add("backend", "second-service")
+                            .build()
+                    )
+                    .build()
+            ).build();
+        MatcherAssert.assertThat(read, Matchers.equalTo(expected));
+    }
+
+    /**
+     * The rows which are not projected are not kept at all, and neither
+     * are the comments outside the selected nodes.
+     */
+    @Test
+    public void keepsOnlyProjectedRows() {
+        final LineTable table = new LineTable(
+            ROUTES,
+            new ProjectedRows(Yaml.createProjection("routes[1].match"))
+        );
+        MatcherAssert.assertThat(
+            table.stream().map(YamlLine::trimmed).toArray(),
+            Matchers.arrayContaining(
+                "routes:", "-", "match:", "path: /second", "# only GET",
+                "method: GET"
+            )
+        );
+    }
+
+    /**
+     * Sequence items at the same indentation as their key are skipped
+     * together with the key.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void skipsItemsIndentedAsTheirKey() throws IOException {
+        final String yaml = String.join(
+            "\n",
+            "skipped:",
+            "- name: x",
+            "  match: /x",
+            "routes:",
+            "  - name: a",
+            "    match: /a",
+            "  - match: /b",
+            "    name: b",
+            "last: 1",
+            ""
+        );
+        final YamlMapping read = Yaml.createYamlInput(yaml).readYamlMapping(
+            Yaml.createProjection("routes[*].match")
+        );
+        MatcherAssert.assertThat(read.keys(), Matchers.iterableWithSize(1));
+        final YamlSequence routes = read.yamlSequence("routes");
+        MatcherAssert.assertThat(routes.size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            routes.yamlMapping(0).string("match"), Matchers.equalTo("/a")
+        );
+        MatcherAssert.assertThat(
+            routes.yamlMapping(1).string("match"), Matchers.equalTo("/b")
+        );
+        MatcherAssert.assertThat(
+            routes.yamlMapping(1).string("name"), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * Recursive descent and whole subtrees can be projected.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsRecursiveAndWholeSubtrees() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(ROUTES).readYamlMapping(
+            Yaml.createProjection("..backend", "version", "description")
+        );
+        MatcherAssert.assertThat(read.integer("version"), Matchers.is(3));
+        MatcherAssert.assertThat(
+            read.literalBlockScalar("description"),
+            Matchers.contains("routes:", "  not: a route")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("routes").yamlMapping(0).keys(),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("routes").yamlMapping(1).keys(),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("routes").yamlMapping(1).string("backend"),
+            Matchers.equalTo("second-service")
+        );
+        MatcherAssert.assertThat(read.string("owner"), Matchers.nullValue());
+    }
+
+    /**
+     * Keys which are on the way to a selected node, but end up without
+     * any kept children, are retracted.
+     */
+    @Test
+    public void retractsKeysWithoutKeptChildren() {
+        final LineTable table = new LineTable(
+            ROUTES,
+            new ProjectedRows(Yaml.createProjection("..count", "..X-Two"))
+        );
+        MatcherAssert.assertThat(
+            table.stream().map(YamlLine::trimmed).toArray(),
+            Matchers.arrayContaining(
+                "routes:", "-", "retries:", "count: 3"
+            )
+        );
+    }
+
+    /**
+     * The root path selects the whole document.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsEverythingWithRootProjection() throws IOException {
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(ROUTES).readYamlMapping(
+                Yaml.createProjection("$")
+            ),
+            Matchers.equalTo(
+                Yaml.createYamlInput(ROUTES).readYamlMapping()
+            )
+        );
+    }
+}
@@ -66,6 +66,21 @@ public final class ReadPlainScalarTest {
         MatcherAssert.assertThat(scalar.value(), Matchers.equalTo("key:value"));
     }
 
+    /**
+     * ReadPlainScalar can return a quoted value which contains
+     * a colon followed by a space.
+     */
+    @Test
+    public void returnsQuotedValueWithColon() {
+        final Scalar scalar = new ReadPlainScalar(
+            new AllYamlLines(new ArrayList<>()),
+            new RtYamlLine("key: \"some: value\"", 0)
+        );
+        MatcherAssert.assertThat(
+            scalar.value(), Matchers.equalTo("some: value")
+        );
+    }
+
     /**
      * ReadPlainScalar can return the scalar's value from an
      * unbalanced/incorrect string escaping.
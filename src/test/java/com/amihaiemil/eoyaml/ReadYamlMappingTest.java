@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hamcrest.MatcherAssert;
@@ -217,6 +218,56 @@ public final class ReadYamlMappingTest {
         );
     }
 
+    /**
+     * ReadYamlMapping can return its entries when there are both
+     * String and YamlNode keys.
+     */
+    @Test
+    public void returnsEntriesOfStringAndComplexKeys(){
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: somethingElse", 0));
+        lines.add(new RtYamlLine("? ", 1));
+        lines.add(new RtYamlLine("  - sequence", 2));
+        lines.add(new RtYamlLine("  - key", 3));
+        lines.add(new RtYamlLine(": simpleValue", 4));
+        lines.add(new RtYamlLine("second: ", 5));
+        lines.add(new RtYamlLine("  map: value", 6));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        final Iterator<Map.Entry<YamlNode, YamlNode>> entries =
+            map.entries().iterator();
+        Map.Entry<YamlNode, YamlNode> entry = entries.next();
+        MatcherAssert.assertThat(
+            entry.getKey(), Matchers.equalTo(new PlainStringScalar("first"))
+        );
+        MatcherAssert.assertThat(
+            entry.getValue(),
+            Matchers.equalTo(new PlainStringScalar("somethingElse"))
+        );
+        entry = entries.next();
+        MatcherAssert.assertThat(
+            entry.getKey(),
+            Matchers.equalTo(
+                Yaml.createYamlSequenceBuilder()
+                    .add("sequence")
+                    .add("key")
+                    .build()
+            )
+        );
+        MatcherAssert.assertThat(
+            entry.getValue(),
+            Matchers.equalTo(new PlainStringScalar("simpleValue"))
+        );
+        entry = entries.next();
+        MatcherAssert.assertThat(
+            entry.getKey(), Matchers.equalTo(new PlainStringScalar("second"))
+        );
+        MatcherAssert.assertThat(
+            entry.getValue().asMapping().string("map"),
+            Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(entries.hasNext(), Matchers.is(false));
+    }
+
     /**
      * ReadYamlMapping can return the YamlMapping mapped to a
      * YamlMapping key.
@@ -1170,4 +1221,116 @@ public final class ReadYamlMappingTest {
         MatcherAssert.assertThat(copy.string("key2"), Matchers
             .equalTo("Some other value."));
     }
+
+    /**
+     * ReadYamlMapping knows which keys it contains, regardless of their
+     * quotes.
+     */
+    @Test
+    public void containsKeys() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("plain: value", 0));
+        lines.add(new RtYamlLine("\"quoted\": value", 1));
+        lines.add(new RtYamlLine("'single': value", 2));
+        lines.add(new RtYamlLine("nested:", 3));
+        lines.add(new RtYamlLine("  inner: value", 4));
+        lines.add(new RtYamlLine("empty: {}", 5));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        MatcherAssert.assertThat(map.containsKey("plain"), Matchers.is(true));
+        MatcherAssert.assertThat(map.containsKey("quoted"), Matchers.is(true));
+        MatcherAssert.assertThat(map.containsKey("single"), Matchers.is(true));
+        MatcherAssert.assertThat(map.containsKey("nested"), Matchers.is(true));
+        MatcherAssert.assertThat(map.containsKey("empty"), Matchers.is(true));
+        MatcherAssert.assertThat(map.containsKey("inner"), Matchers.is(false));
+        MatcherAssert.assertThat(
+            map.containsKey("missing"), Matchers.is(false)
+        );
+    }
+
+    /**
+     * ReadYamlMapping contains only the real key of each line, not the
+     * text before other colons of the line, so containsKey agrees with
+     * keys().
+     */
+    @Test
+    public void containsOnlyRealKeys() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("url: http://x.com", 0));
+        lines.add(new RtYamlLine("time: 12:30", 1));
+        lines.add(new RtYamlLine("\"a:b\": quoted", 2));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        MatcherAssert.assertThat(
+            map.containsKey("url: http"), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            map.containsKey("time: 12"), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(map.containsKey("url"), Matchers.is(true));
+        MatcherAssert.assertThat(map.containsKey("a:b"), Matchers.is(true));
+        MatcherAssert.assertThat(
+            map.string("url"), Matchers.equalTo("http://x.com")
+        );
+        MatcherAssert.assertThat(
+            map.string("a:b"), Matchers.equalTo("quoted")
+        );
+        final List<String> keys = new ArrayList<>();
+        for(final YamlNode key : map.keys()) {
+            keys.add(key.asScalar().value());
+            MatcherAssert.assertThat(
+                map.containsKey(key), Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            keys, Matchers.contains("url", "time", "\"a:b\"")
+        );
+    }
+
+    /**
+     * ReadYamlMapping prefers the plain spelling of a key over the
+     * quoted ones and finds every kind of value by key.
+     */
+    @Test
+    public void findsValuesByKeySpelling() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("\"key\": quoted", 0));
+        lines.add(new RtYamlLine("key: plain", 1));
+        lines.add(new RtYamlLine("map: {}", 2));
+        lines.add(new RtYamlLine("seq: []", 3));
+        lines.add(new RtYamlLine("literal: |", 4));
+        lines.add(new RtYamlLine("  some text", 5));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        MatcherAssert.assertThat(map.string("key"), Matchers.equalTo("plain"));
+        MatcherAssert.assertThat(
+            map.string("\"key\""), Matchers.equalTo("quoted")
+        );
+        MatcherAssert.assertThat(
+            map.yamlMapping("map").keys(), Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            map.yamlSequence("seq").values(), Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            map.string("literal"), Matchers.startsWith("some text")
+        );
+    }
+
+    /**
+     * ReadYamlMapping reads the value of a key only once.
+     */
+    @Test
+    public void remembersValues() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first:", 0));
+        lines.add(new RtYamlLine("  key: value", 1));
+        lines.add(new RtYamlLine("second: plain", 2));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        MatcherAssert.assertThat(
+            map.value("first"), Matchers.sameInstance(map.value("first"))
+        );
+        MatcherAssert.assertThat(
+            map.keys(), Matchers.not(Matchers.sameInstance(map.keys()))
+        );
+        MatcherAssert.assertThat(map.keys(), Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(map.value("missing"), Matchers.nullValue());
+    }
 }
@@ -419,4 +419,34 @@ public final class ReadYamlSequenceTest {
         );
         MatcherAssert.assertThat(sequence.toString(), Matchers.isEmptyString());
     }
+
+    /**
+     * ReadYamlSequence returns its elements by index.
+     */
+    @Test
+    public void returnsElementsByIndex() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- first", 0));
+        lines.add(new RtYamlLine("- key: value", 1));
+        lines.add(new RtYamlLine("- ", 2));
+        lines.add(new RtYamlLine("  - inner", 3));
+        lines.add(new RtYamlLine("- 4", 4));
+        final YamlSequence sequence = new ReadYamlSequence(
+            new AllYamlLines(lines)
+        );
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(4));
+        MatcherAssert.assertThat(
+            sequence.get(0), Matchers.equalTo(new PlainStringScalar("first"))
+        );
+        MatcherAssert.assertThat(
+            sequence.yamlMapping(1).string("key"), Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(sequence.yamlMapping(0), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            sequence.yamlSequence(2).string(0), Matchers.equalTo("inner")
+        );
+        MatcherAssert.assertThat(sequence.integer(3), Matchers.is(4));
+        MatcherAssert.assertThat(sequence.get(4), Matchers.nullValue());
+        MatcherAssert.assertThat(sequence.get(-1), Matchers.nullValue());
+    }
 }
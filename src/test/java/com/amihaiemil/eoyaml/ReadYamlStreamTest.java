@@ -33,6 +33,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Unit tests for {@link ReadYamlStream}.
@@ -163,4 +164,39 @@ public final class ReadYamlStreamTest {
         );
         MatcherAssert.assertThat(stream.values(), Matchers.iterableWithSize(3));
     }
+
+    /**
+     * ReadYamlStream builds the documents only as they are consumed and
+     * its Spliterator is ordered, but not sized.
+     */
+    @Test
+    public void readsDocumentsAsTheyAreConsumed() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("# comment", 0));
+        lines.add(new RtYamlLine("first: 1", 1));
+        lines.add(new RtYamlLine("---", 2));
+        lines.add(new RtYamlLine("second: 2", 3));
+        final YamlStream stream = new ReadYamlStream(
+            new AllYamlLines(lines)
+        );
+        MatcherAssert.assertThat(
+            stream.spliterator().hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            stream.spliterator().hasCharacteristics(Spliterator.SIZED),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            stream.findFirst().get().asMapping().string("first"),
+            Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            stream.skip(1).findFirst().get().asMapping().string("second"),
+            Matchers.equalTo("2")
+        );
+        MatcherAssert.assertThat(stream.values(), Matchers.iterableWithSize(2));
+    }
 }
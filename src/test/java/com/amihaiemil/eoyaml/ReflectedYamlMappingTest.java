@@ -57,6 +57,34 @@ public final class ReflectedYamlMappingTest {
         );
     }
 
+    /**
+     * A mapping reflected from a Map returns its entries in one pass.
+     */
+    @Test
+    public void returnsEntriesOfMap() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "eo-yaml");
+        map.put("stars", 250);
+        final YamlMapping mapping = new ReflectedYamlMapping(map);
+        final Iterator<Map.Entry<YamlNode, YamlNode>> entries =
+            mapping.entries().iterator();
+        Map.Entry<YamlNode, YamlNode> entry = entries.next();
+        MatcherAssert.assertThat(
+            entry.getKey().asScalar().value(), Matchers.equalTo("name")
+        );
+        MatcherAssert.assertThat(
+            entry.getValue().asScalar().value(), Matchers.equalTo("eo-yaml")
+        );
+        entry = entries.next();
+        MatcherAssert.assertThat(
+            entry.getKey().asScalar().value(), Matchers.equalTo("stars")
+        );
+        MatcherAssert.assertThat(
+            entry.getValue().asScalar().value(), Matchers.equalTo("250")
+        );
+        MatcherAssert.assertThat(entries.hasNext(), Matchers.is(false));
+    }
+
     /**
      * A reflected mapping reflects the object's public and non-void methods
      * as Scalar keys.
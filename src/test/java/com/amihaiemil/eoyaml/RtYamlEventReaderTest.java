@@ -0,0 +1,359 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtYamlEventReader}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class RtYamlEventReaderTest {
+
+    /**
+     * RtYamlEventReader reads the events of a mapping with nested
+     * nodes and comments.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsMappingEvents() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "# the project\n"
+                + "name: eo-yaml # name\n"
+                + "developers:\n"
+                + "  - amihaiemil\n"
+                + "  - \"sherif\"\n"
+                + "\n"
+                + "build:\n"
+                + "  tool: maven\n"
+                + "  empty: {}\n"
+                + "version: null\n"
+            ),
+            Matchers.contains(
+                "COMMENT(the project)@1", "DOCUMENT_START@2",
+                "START_MAPPING@2", "KEY(name)@2", "SCALAR(eo-yaml)@2",
+                "COMMENT(name)@2", "KEY(developers)@3", "START_SEQUENCE@4",
+                "SCALAR(amihaiemil)@4", "SCALAR(sherif)@5", "END_SEQUENCE@7",
+                "KEY(build)@7", "START_MAPPING@8", "KEY(tool)@8",
+                "SCALAR(maven)@8", "KEY(empty)@9", "START_MAPPING@9",
+                "END_MAPPING@9", "END_MAPPING@10", "KEY(version)@10",
+                "SCALAR@10", "END_MAPPING@10", "DOCUMENT_END@10"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads a sequence of mappings, with the first key
+     * on the same line as the dash.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSequenceOfMappings() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "- name: first\n"
+                + "  size: 1\n"
+                + "- key:\n"
+                + "  - item\n"
+                + "-\n"
+                + "- last\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START@1", "START_SEQUENCE@1", "START_MAPPING@1",
+                "KEY(name)@1", "SCALAR(first)@1", "KEY(size)@2",
+                "SCALAR(1)@2", "END_MAPPING@3", "START_MAPPING@3",
+                "KEY(key)@3", "START_SEQUENCE@4", "SCALAR(item)@4",
+                "END_SEQUENCE@5", "END_MAPPING@5", "SCALAR@5",
+                "SCALAR(last)@6", "END_SEQUENCE@6", "DOCUMENT_END@6"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads a sequence written on the same indentation
+     * as its key and a key without value.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsSequenceOnKeyIndentation() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "items:\n"
+                + "- a\n"
+                + "- b\n"
+                + "nothing:\n"
+                + "other: value\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START@1", "START_MAPPING@1", "KEY(items)@1",
+                "START_SEQUENCE@2", "SCALAR(a)@2", "SCALAR(b)@3",
+                "END_SEQUENCE@4", "KEY(nothing)@4", "SCALAR@4",
+                "KEY(other)@5", "SCALAR(value)@5", "END_MAPPING@5",
+                "DOCUMENT_END@5"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads block scalars, just like
+     * {@link ReadLiteralBlockScalar} and {@link ReadFoldedBlockScalar}.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsBlockScalars() throws Exception {
+        final String eol = System.lineSeparator();
+        MatcherAssert.assertThat(
+            this.events(
+                "literal: |\n"
+                + "  first line\n"
+                + "  second line\n"
+                + "folded: >\n"
+                + "  folded\n"
+                + "  line\n"
+                + "after: value\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START@1", "START_MAPPING@1", "KEY(literal)@1",
+                "SCALAR(first line" + eol + "second line" + eol + ")@1",
+                "KEY(folded)@4",
+                "SCALAR(  folded" + eol + "  line" + eol + ")@4",
+                "KEY(after)@7",
+                "SCALAR(value)@7", "END_MAPPING@7", "DOCUMENT_END@7"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads more documents.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsDocuments() throws Exception {
+        MatcherAssert.assertThat(
+            this.events(
+                "%YAML 1.2\n"
+                + "---\n"
+                + "first: 1\n"
+                + "...\n"
+                + "---\n"
+                + "- second\n"
+                + "---\n"
+                + "third\n"
+            ),
+            Matchers.contains(
+                "DOCUMENT_START@2", "START_MAPPING@3", "KEY(first)@3",
+                "SCALAR(1)@3", "END_MAPPING@4", "DOCUMENT_END@4",
+                "DOCUMENT_START@5", "START_SEQUENCE@6", "SCALAR(second)@6",
+                "END_SEQUENCE@6", "DOCUMENT_END@6", "DOCUMENT_START@7",
+                "SCALAR(third)@8", "DOCUMENT_END@8"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader reads no events from an empty input and
+     * complains if there are no more events.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void readsNoEventsFromEmptyInput() throws Exception {
+        try (final YamlEventReader reader = Yaml.createYamlEventReader(
+            new ByteArrayInputStream(new byte[0])
+        )) {
+            MatcherAssert.assertThat(reader.hasNext(), Matchers.is(false));
+            reader.next();
+        }
+    }
+
+    /**
+     * RtYamlEventReader reads a large input as it is pulled, without
+     * reading the whole input first.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(timeout = 30000)
+    public void readsLargeInput() throws Exception {
+        final int entries = 500_000;
+        int keys = 0;
+        try (final YamlEventReader reader = Yaml.createYamlEventReader(
+            new Generated(entries)
+        )) {
+            while(reader.hasNext()) {
+                if(reader.next().type() == YamlEvent.Type.KEY) {
+                    keys = keys + 1;
+                }
+            }
+        }
+        MatcherAssert.assertThat(keys, Matchers.is(entries * 2));
+    }
+
+    /**
+     * RtYamlEventReader reads complex keys: a KEY event without value,
+     * followed by the events of the key node and of its value.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsComplexKeys() throws Exception {
+        final List<String> events = new ArrayList<>();
+        try (final YamlEventReader reader = Yaml.createYamlEventReader(
+            new FileInputStream("src/test/resources/complexMapping.yml")
+        )) {
+            reader.forEachRemaining(event -> events.add(event.toString()));
+        }
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains(
+                "DOCUMENT_START@1", "START_MAPPING@1", "KEY@1",
+                "START_SEQUENCE@2", "SCALAR(Atlanta Braves)@2",
+                "SCALAR(New York Yankees)@3", "END_SEQUENCE@4",
+                "START_SEQUENCE@5", "SCALAR(2001-07-02)@5",
+                "SCALAR(2001-08-12)@6", "SCALAR(2001-08-14)@7",
+                "END_SEQUENCE@8", "KEY@8", "START_SEQUENCE@9",
+                "SCALAR(Chicago cubs)@9", "SCALAR(Detroit Tigers)@10",
+                "END_SEQUENCE@11", "START_SEQUENCE@12",
+                "SCALAR(2001-07-23)@12", "END_SEQUENCE@12",
+                "END_MAPPING@12", "DOCUMENT_END@12"
+            )
+        );
+        MatcherAssert.assertThat(
+            this.events("?\n  map: key\n: value\n"),
+            Matchers.contains(
+                "DOCUMENT_START@1", "START_MAPPING@1", "KEY@1",
+                "START_MAPPING@2", "KEY(map)@2", "SCALAR(key)@2",
+                "END_MAPPING@3", "SCALAR(value)@3", "END_MAPPING@3",
+                "DOCUMENT_END@3"
+            )
+        );
+    }
+
+    /**
+     * RtYamlEventReader skips the BOM of the input and uses its charset,
+     * otherwise it uses the given charset.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsWithBomOrGivenCharset() throws Exception {
+        final List<String> events = new ArrayList<>();
+        try (final YamlEventReader reader = Yaml.createYamlEventReader(
+            new ByteArrayInputStream(
+                "\uFEFFcity: Bucureşti\n".getBytes(StandardCharsets.UTF_16LE)
+            ),
+            StandardCharsets.UTF_8
+        )) {
+            reader.forEachRemaining(event -> events.add(event.toString()));
+        }
+        try (final YamlEventReader reader = Yaml.createYamlEventReader(
+            new ByteArrayInputStream(
+                "name: José\n".getBytes(StandardCharsets.ISO_8859_1)
+            ),
+            StandardCharsets.ISO_8859_1
+        )) {
+            reader.forEachRemaining(event -> events.add(event.toString()));
+        }
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains(
+                "DOCUMENT_START@1", "START_MAPPING@1", "KEY(city)@1",
+                "SCALAR(Bucureşti)@1", "END_MAPPING@1", "DOCUMENT_END@1",
+                "DOCUMENT_START@1", "START_MAPPING@1", "KEY(name)@1",
+                "SCALAR(José)@1", "END_MAPPING@1", "DOCUMENT_END@1"
+            )
+        );
+    }
+
+    /**
+     * Read the events of the given YAML.
+     * @param yaml YAML.
+     * @return The events, as Strings.
+     * @throws IOException If something goes wrong.
+     */
+    private List<String> events(final String yaml) throws IOException {
+        final List<String> events = new ArrayList<>();
+        try (final YamlEventReader reader = Yaml.createYamlEventReader(
+            new ByteArrayInputStream(yaml.getBytes())
+        )) {
+            reader.forEachRemaining(event -> events.add(event.toString()));
+        }
+        return events;
+    }
+
+    /**
+     * InputStream generating a sequence of mappings, without keeping it
+     * in memory.
+     */
+    private static final class Generated extends InputStream {
+
+        /**
+         * One item of the sequence.
+         */
+        private static final byte[] ITEM =
+            "- key: value\n  other: 123\n".getBytes();
+
+        /**
+         * How many items to generate.
+         */
+        private final int items;
+
+        /**
+         * Bytes generated so far.
+         */
+        private long generated;
+
+        /**
+         * Ctor.
+         * @param items How many items to generate.
+         */
+        Generated(final int items) {
+            this.items = items;
+        }
+
+        @Override
+        public int read() {
+            final int read;
+            if(this.generated >= (long) this.items * ITEM.length) {
+                read = -1;
+            } else {
+                read = ITEM[(int) (this.generated % ITEM.length)];
+                this.generated = this.generated + 1;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Unit tests for {@link RtYamlGenerator}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class RtYamlGeneratorTest {
+
+    /**
+     * RtYamlGenerator writes a mapping the same way the printer does.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesMappingLikeThePrinter() throws Exception {
+        final YamlMapping expected = Yaml.createYamlMappingBuilder()
+            .add("name", "eo-yaml")
+            .add(
+                "version",
+                Yaml.createYamlScalarBuilder()
+                    .addLine("5.2.2")
+                    .buildPlainScalar("current version", "stable")
+            )
+            .add(
+                "developers",
+                Yaml.createYamlSequenceBuilder()
+                    .add("amihaiemil")
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("name", "sherif")
+                            .add("role", "dev: ops")
+                            .build()
+                    )
+                    .add(Yaml.createYamlSequenceBuilder().build())
+                    .build("who works on it")
+            )
+            .add("empty", Yaml.createYamlMappingBuilder().build())
+            .add("missing", "")
+            .add("url", "https://github.com/decorators-squad/eo-yaml")
+            .build("the project\nwith two lines");
+        final StringWriter written = new StringWriter();
+        try (YamlGenerator yaml = Yaml.createYamlGenerator(written)) {
+            yaml.writeComment("the project\nwith two lines")
+                .writeStartMapping()
+                .writeKey("name").writeScalar("eo-yaml")
+                .writeComment("current version")
+                .writeKey("version").writeScalar("5.2.2", "stable")
+                .writeComment("who works on it")
+                .writeKey("developers").writeStartSequence()
+                    .writeScalar("amihaiemil")
+                    .writeStartMapping()
+                        .writeKey("name").writeScalar("sherif")
+                        .writeKey("role").writeScalar("dev: ops")
+                    .writeEnd()
+                    .writeStartSequence().writeEnd()
+                .writeEnd()
+                .writeKey("empty").writeStartMapping().writeEnd()
+                .writeKey("missing").writeScalar(null)
+                .writeKey("url")
+                .writeScalar("https://github.com/decorators-squad/eo-yaml")
+                .writeEnd();
+        }
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    /**
+     * RtYamlGenerator writes a sequence the same way the printer does.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesSequenceLikeThePrinter() throws Exception {
+        final YamlSequence expected = Yaml.createYamlSequenceBuilder()
+            .add("- dash")
+            .add(
+                Yaml.createYamlSequenceBuilder()
+                    .add("inner")
+                    .add(
+                        Yaml.createYamlScalarBuilder()
+                            .addLine("last")
+                            .buildPlainScalar("above", "")
+                    )
+                    .build()
+            )
+            .add("#hash")
+            .build();
+        final StringWriter written = new StringWriter();
+        try (YamlGenerator yaml = Yaml.createYamlGenerator(written)) {
+            yaml.writeStartSequence()
+                .writeScalar("- dash")
+                .writeStartSequence()
+                    .writeScalar("inner")
+                    .writeComment("above")
+                    .writeScalar("last")
+                .writeEnd()
+                .writeScalar("#hash")
+                .writeEnd();
+        }
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    /**
+     * RtYamlGenerator writes a scalar document the same way the printer
+     * does.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesScalarLikeThePrinter() throws Exception {
+        final Scalar expected = Yaml.createYamlScalarBuilder()
+            .addLine("value: quoted")
+            .buildPlainScalar("a scalar", "inline");
+        final StringWriter written = new StringWriter();
+        try (YamlGenerator yaml = Yaml.createYamlGenerator(written)) {
+            yaml.writeComment("a scalar")
+                .writeScalar("value: quoted", "inline");
+        }
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    /**
+     * RtYamlGenerator writes a YAML Stream the same way the printer does.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesStreamLikeThePrinter() throws Exception {
+        final YamlStream expected = Yaml.createYamlStreamBuilder()
+            .add(
+                Yaml.createYamlMappingBuilder()
+                    .add("key", "value")
+                    .add(
+                        "seq",
+                        Yaml.createYamlSequenceBuilder().add("a").build()
+                    )
+                    .build()
+            )
+            .add(Yaml.createYamlSequenceBuilder().build())
+            .add(
+                Yaml.createYamlScalarBuilder()
+                    .addLine("plain")
+                    .buildPlainScalar()
+            )
+            .build();
+        final StringWriter written = new StringWriter();
+        try (YamlGenerator yaml = Yaml.createYamlGenerator(written)) {
+            yaml.writeDocumentStart()
+                .writeStartMapping()
+                    .writeKey("key").writeScalar("value")
+                    .writeKey("seq").writeStartSequence()
+                        .writeScalar("a")
+                    .writeEnd()
+                .writeEnd()
+                .writeDocumentStart()
+                .writeStartSequence().writeEnd()
+                .writeDocumentStart()
+                .writeScalar("plain");
+        }
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    /**
+     * RtYamlGenerator writes the comments of the documents in a stream
+     * above their start.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesDocumentComments() throws Exception {
+        final StringWriter written = new StringWriter();
+        try (YamlGenerator yaml = Yaml.createYamlGenerator(written)) {
+            yaml.writeComment("first")
+                .writeDocumentStart()
+                .writeStartMapping()
+                    .writeKey("one").writeScalar("1")
+                .writeEnd()
+                .writeComment("second")
+                .writeDocumentStart()
+                .writeStartMapping()
+                    .writeKey("two").writeScalar("2")
+                .writeEnd();
+        }
+        MatcherAssert.assertThat(
+            written.toString(),
+            Matchers.equalTo(
+                "# first" + System.lineSeparator()
+                + "---" + System.lineSeparator()
+                + "  one: 1" + System.lineSeparator()
+                + "# second" + System.lineSeparator()
+                + "---" + System.lineSeparator()
+                + "  two: 2"
+            )
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlInput(written.toString())
+                .readYamlStream()
+                .values()
+                .size(),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * RtYamlGenerator complains if the methods are called out of order.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void complainsAboutWrongOrder() throws Exception {
+        final YamlGenerator yaml = Yaml.createYamlGenerator(
+            new StringWriter()
+        );
+        yaml.writeStartMapping();
+        try {
+            yaml.writeScalar("without key");
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.equalTo("The value of a mapping has to follow a key.")
+            );
+        }
+        yaml.writeKey("key");
+        try {
+            yaml.writeEnd();
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.startsWith("There is no mapping or sequence to end")
+            );
+        }
+        try {
+            yaml.close();
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.equalTo(
+                    "Not all the mappings and sequences are ended."
+                )
+            );
+        }
+    }
+
+    /**
+     * RtYamlGenerator writes only one node if no documents are started.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void complainsAboutSecondNode() throws IOException {
+        final YamlGenerator yaml = Yaml.createYamlGenerator(
+            new StringWriter()
+        );
+        yaml.writeStartSequence().writeEnd();
+        try {
+            yaml.writeStartMapping();
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.startsWith("The document is already written")
+            );
+        }
+    }
+}
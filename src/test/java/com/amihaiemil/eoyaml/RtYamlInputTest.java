@@ -28,9 +28,12 @@
 package com.amihaiemil.eoyaml;
 
 import java.io.*;
+import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
@@ -350,6 +353,106 @@ public final class RtYamlInputTest {
         );
     }
 
+    /**
+     * A Yaml stream of mappings can be read lazily.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsStreamOfMappingsLazily() throws Exception {
+        try (final YamlStream read = Yaml.createYamlInput(
+            new FileInputStream(
+                new File("src/test/resources/streamOfMappings.yml")
+            )
+        ).readYamlStreamLazily()) {
+            MatcherAssert.assertThat(
+                read.toString(),
+                Matchers.equalTo(
+                    this.readTestResource("streamOfMappings.yml")
+                )
+            );
+            MatcherAssert.assertThat(
+                read.count(), Matchers.is((long) read.values().size())
+            );
+        }
+    }
+
+    /**
+     * A lazy Yaml stream reads only the documents it needs, so it can read
+     * even an endless input, but it can be consumed only once.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsEndlessStreamLazily() throws Exception {
+        final YamlStream read = Yaml.createYamlInput(
+            new InputStream() {
+                private final byte[] doc = "---\nkey: value\n".getBytes();
+                private long index;
+                @Override
+                public int read() {
+                    final int next = this.doc[(int) (this.index % 15)];
+                    this.index = this.index + 1;
+                    return next;
+                }
+            }
+        ).readYamlStreamLazily();
+        MatcherAssert.assertThat(
+            read.limit(3).map(doc -> doc.asMapping().string("key")).collect(
+                Collectors.toList()
+            ),
+            Matchers.contains("value", "value", "value")
+        );
+        try {
+            read.findFirst();
+            MatcherAssert.assertThat("Stream was consumed twice!", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.containsString("already been consumed")
+            );
+        }
+    }
+
+    /**
+     * A consumed lazy Yaml stream can still be printed, hashed and compared,
+     * while one read with values() first is printed as usual.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsConsumedLazyStream() throws Exception {
+        final String text = "---\nkey: value\n---\nother: value\n";
+        final YamlStream consumed = Yaml.createYamlInput(text)
+            .readYamlStreamLazily();
+        MatcherAssert.assertThat(
+            consumed.findFirst().get().asMapping().string("key"),
+            Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(
+            consumed.toString(),
+            Matchers.equalTo("YamlStream read lazily, already consumed.")
+        );
+        MatcherAssert.assertThat(
+            consumed.hashCode(),
+            Matchers.is(System.identityHashCode(consumed))
+        );
+        MatcherAssert.assertThat(consumed.equals(consumed), Matchers.is(true));
+        final YamlStream remembered = Yaml.createYamlInput(text)
+            .readYamlStreamLazily();
+        MatcherAssert.assertThat(
+            consumed.equals(remembered), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(remembered.values().size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            remembered.findFirst().get().asMapping().string("key"),
+            Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(
+            remembered.toString(),
+            Matchers.equalTo(
+                Yaml.createYamlInput(text).readYamlStream().toString()
+            )
+        );
+    }
+
     /**
      * A stream of mixed YAML documents can be read.
      * @throws Exception If something goes wrong.
@@ -897,4 +1000,208 @@ public final class RtYamlInputTest {
         );
     }
 
+    /**
+     * RtYamlInput keeps the whole value of a mapping which starts at the
+     * dash of a sequence item, even if the value contains dashes.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsDashedValueOfMappingStartingAtDash() throws Exception {
+        final YamlSequence sequence = new RtYamlInput(
+            new ByteArrayInputStream(
+                "- name: eo-yaml-reader\n  version: 1-0\n".getBytes()
+            )
+        ).readYamlSequence();
+        final YamlMapping first = sequence.yamlMapping(0);
+        MatcherAssert.assertThat(
+            first.string("name"), Matchers.equalTo("eo-yaml-reader")
+        );
+        MatcherAssert.assertThat(
+            first.string("version"), Matchers.equalTo("1-0")
+        );
+    }
+
+    /**
+     * A YamlMapping can be read eagerly, into in-memory nodes which are
+     * equal to the read ones and have the same comments.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void readsMappingEagerly() throws Exception {
+        final File file = new File("src/test/resources/commentedMapping.yml");
+        final YamlMapping lazy = Yaml.createYamlInput(file).readYamlMapping();
+        final YamlMapping eager = Yaml.createYamlInput(file)
+            .readYamlMappingEagerly();
+        MatcherAssert.assertThat(
+            eager, Matchers.instanceOf(RtYamlMapping.class)
+        );
+        MatcherAssert.assertThat(eager, Matchers.equalTo(lazy));
+        MatcherAssert.assertThat(
+            eager.toString(), Matchers.equalTo(lazy.toString())
+        );
+        for(final YamlNode key : eager.keys()) {
+            MatcherAssert.assertThat(
+                eager.value(key),
+                Matchers.not(Matchers.instanceOf(ReadYamlMapping.class))
+            );
+        }
+    }
+
+    /**
+     * A YamlSequence can be read eagerly, into in-memory nodes which are
+     * equal to the read ones and have the same comments.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void readsSequenceEagerly() throws Exception {
+        final File file = new File("src/test/resources/complexSequence.yml");
+        final YamlSequence lazy = Yaml.createYamlInput(file)
+            .readYamlSequence();
+        final YamlSequence eager = Yaml.createYamlInput(file)
+            .readYamlSequenceEagerly();
+        MatcherAssert.assertThat(
+            eager, Matchers.instanceOf(RtYamlSequence.class)
+        );
+        MatcherAssert.assertThat(eager, Matchers.equalTo(lazy));
+        MatcherAssert.assertThat(
+            eager.toString(), Matchers.equalTo(lazy.toString())
+        );
+    }
+
+    /**
+     * A YamlMapping can be read without comments: it is equal to the
+     * mapping read with comments, but all its nodes have empty comments.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void skipsCommentsOfMapping() throws Exception {
+        final File file = new File("src/test/resources/commentedMapping.yml");
+        final YamlMapping commented = Yaml.createYamlInput(file)
+            .readYamlMapping();
+        final YamlMapping read = Yaml.createYamlInput(file)
+            .withoutComments()
+            .readYamlMapping();
+        MatcherAssert.assertThat(read, Matchers.equalTo(commented));
+        MatcherAssert.assertThat(
+            read.comment().value(), Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            read.value("developers").comment().value(),
+            Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            read.value("name").comment().value(), Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            read.toString(), Matchers.not(Matchers.containsString("#"))
+        );
+    }
+
+    /**
+     * The lines of block scalars are read as they are, even if they look
+     * like comments, when comments are not read.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void keepsBlockScalarsWithoutComments() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            String.join(
+                "\n",
+                "# some comment",
+                "script: |",
+                "  # not a comment",
+                "  echo run # not a comment either",
+                "name: test # a comment",
+                ""
+            )
+        ).withoutComments().readYamlMapping();
+        MatcherAssert.assertThat(
+            read.literalBlockScalar("script"),
+            Matchers.contains(
+                "# not a comment", "echo run # not a comment either"
+            )
+        );
+        MatcherAssert.assertThat(read.string("name"), Matchers.is("test"));
+        MatcherAssert.assertThat(
+            read.value("name").comment().value(), Matchers.isEmptyString()
+        );
+    }
+
+    /**
+     * A YamlStream can be read without comments, both at once and lazily.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void readsStreamWithoutComments() throws Exception {
+        final File file = new File(
+            "src/test/resources/streamWithComments.yml"
+        );
+        final YamlStream read = Yaml.createYamlInput(file)
+            .withoutComments()
+            .readYamlStream();
+        MatcherAssert.assertThat(
+            read, Matchers.equalTo(Yaml.createYamlInput(file).readYamlStream())
+        );
+        for(final YamlNode document : read.values()) {
+            MatcherAssert.assertThat(
+                document.comment().value(), Matchers.isEmptyString()
+            );
+        }
+        try (YamlStream lazy = Yaml.createYamlInput(file)
+            .withoutComments()
+            .readYamlStreamLazily()) {
+            lazy.forEach(
+                document -> MatcherAssert.assertThat(
+                    document.comment().value(), Matchers.isEmptyString()
+                )
+            );
+        }
+    }
+
+    /**
+     * Without comments, the comment lines are dropped while the input is
+     * read and the lines are never searched for comments.
+     */
+    @Test
+    public void neverLooksForCommentsWithoutComments() {
+        final String text = "# the document\n"
+            + "name: eo-yaml # inline\n"
+            + "# above build\n"
+            + "build:\n"
+            + "  # nested\n"
+            + "  tool: maven\n";
+        final LineTable table = new LineTable(
+            text, (indent, trimmed, kind) -> true, false
+        );
+        MatcherAssert.assertThat(table.size(), Matchers.is(3));
+        for(final YamlLine line : table) {
+            MatcherAssert.assertThat(line.kind().comment(), Matchers.is(false));
+            MatcherAssert.assertThat(line.comment(), Matchers.isEmptyString());
+        }
+        final AtomicInteger reads = new AtomicInteger();
+        final AllYamlLines lines = new AllYamlLines(
+            new AbstractList<YamlLine>() {
+                @Override
+                public YamlLine get(final int index) {
+                    reads.incrementAndGet();
+                    return table.get(index);
+                }
+                @Override
+                public int size() {
+                    return table.size();
+                }
+            },
+            false
+        );
+        MatcherAssert.assertThat(
+            lines.documentComment(1), Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            lines.comment(3, false), Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            lines.inlineComment(1), Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(reads.get(), Matchers.is(0));
+    }
 }
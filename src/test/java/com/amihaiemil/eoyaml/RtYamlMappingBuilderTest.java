@@ -28,7 +28,10 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -186,4 +189,92 @@ public final class RtYamlMappingBuilderTest {
         }
     }
 
+    /**
+     * RtYamlMappingBuilder replaces the value of a key which is added
+     * again, keeping the place of the key.
+     */
+    @Test
+    public void replacesValueOfAddedKey() {
+        final YamlMapping mapping = new RtYamlMappingBuilder()
+            .add("first", "1")
+            .add("second", "2")
+            .add("first", "one")
+            .build();
+        MatcherAssert.assertThat(
+            mapping.keys().iterator().next().asScalar().value(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(mapping.keys().size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            mapping.string("first"), Matchers.equalTo("one")
+        );
+    }
+
+    /**
+     * Builders forked from the same RtYamlMappingBuilder do not see each
+     * other's pairs.
+     */
+    @Test
+    public void forksAreIndependent() {
+        final YamlMappingBuilder common = new RtYamlMappingBuilder()
+            .add("common", "value");
+        final YamlMapping first = common.add("first", "1").build();
+        final YamlMapping second = common.add("second", "2").build();
+        MatcherAssert.assertThat(common.build().keys().size(), Matchers.is(1));
+        MatcherAssert.assertThat(first.keys().size(), Matchers.is(2));
+        MatcherAssert.assertThat(first.string("second"), Matchers.nullValue());
+        MatcherAssert.assertThat(second.keys().size(), Matchers.is(2));
+        MatcherAssert.assertThat(second.string("first"), Matchers.nullValue());
+    }
+
+    /**
+     * RtYamlMappingBuilder adds a pair without copying the previous ones,
+     * so it can build a large mapping quickly.
+     */
+    @Test
+    public void buildsLargeMapping() {
+        YamlMappingBuilder builder = new RtYamlMappingBuilder();
+        final long start = System.currentTimeMillis();
+        for(int idx = 0; idx < 100_000; ++idx) {
+            builder = builder.add("key" + idx, "value" + idx);
+        }
+        final YamlMapping mapping = builder.build();
+        MatcherAssert.assertThat(
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(10_000L)
+        );
+        MatcherAssert.assertThat(mapping.keys().size(), Matchers.is(100_000));
+        MatcherAssert.assertThat(
+            mapping.string("key99999"), Matchers.equalTo("value99999")
+        );
+    }
+
+    /**
+     * RtYamlMappingBuilder can add all the pairs of a Map.
+     */
+    @Test
+    public void addsAllPairsOfMap() {
+        final Map<String, Object> pairs = new LinkedHashMap<>();
+        pairs.put("name", "eo-yaml");
+        pairs.put("stars", 250);
+        pairs.put("developers", Arrays.asList("amihaiemil", "sherif"));
+        pairs.put("node", new PlainStringScalar("value"));
+        final YamlMapping mapping = new RtYamlMappingBuilder()
+            .add("first", "1")
+            .addAll(pairs)
+            .build();
+        MatcherAssert.assertThat(mapping.keys().size(), Matchers.is(5));
+        MatcherAssert.assertThat(
+            mapping.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(mapping.integer("stars"), Matchers.is(250));
+        MatcherAssert.assertThat(
+            mapping.yamlSequence("developers").string(1),
+            Matchers.equalTo("sherif")
+        );
+        MatcherAssert.assertThat(
+            mapping.string("node"), Matchers.equalTo("value")
+        );
+    }
+
 }
@@ -530,6 +530,54 @@ public final class RtYamlMappingTest {
         );
     }
 
+    /**
+     * RtYamlMapping knows which keys it contains.
+     */
+    @Test
+    public void containsKeys() {
+        final YamlMapping map = Yaml.createYamlMappingBuilder()
+            .add("key", "value")
+            .build();
+        MatcherAssert.assertThat(map.containsKey("key"), Matchers.is(true));
+        MatcherAssert.assertThat(
+            map.containsKey(new PlainStringScalar("missing")),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * RtYamlMapping returns its entries in order and walks them with
+     * forEach.
+     */
+    @Test
+    public void returnsEntriesInOrder() {
+        final YamlMapping map = Yaml.createYamlMappingBuilder()
+            .add("first", "1")
+            .add("second", Yaml.createYamlSequenceBuilder().add("2").build())
+            .add("third", "3")
+            .build();
+        final List<String> keys = new ArrayList<>();
+        final List<YamlNode> values = new ArrayList<>();
+        map.forEach(
+            (key, value) -> {
+                keys.add(key.asScalar().value());
+                values.add(value);
+            }
+        );
+        MatcherAssert.assertThat(
+            keys, Matchers.contains("first", "second", "third")
+        );
+        MatcherAssert.assertThat(
+            values, Matchers.contains(map.values().toArray())
+        );
+        final Map.Entry<YamlNode, YamlNode> first =
+            map.entries().iterator().next();
+        MatcherAssert.assertThat(
+            first.getValue(), Matchers.equalTo(new PlainStringScalar("1"))
+        );
+        MatcherAssert.assertThat(map.entries(), Matchers.iterableWithSize(3));
+    }
+
     /**
      * Read a test resource file's contents.
      * @param fileName File to read.
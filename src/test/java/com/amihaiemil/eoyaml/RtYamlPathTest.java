@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link RtYamlPath}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class RtYamlPathTest {
+
+    /**
+     * A deployment-like document.
+     */
+    private static final String DEPLOYMENT = String.join(
+        "\n",
+        "metadata:",
+        "  name: app",
+        "  labels:",
+        "    tier: web",
+        "spec:",
+        "  template:",
+        "    spec:",
+        "      containers:",
+        "        - name: first",
+        "          image: first:1.0",
+        "        - name: second",
+        "          image: second:2.0",
+        "        - name: third",
+        "          image: third:3.0",
+        "      \"dotted.key\": yes",
+        ""
+    );
+
+    /**
+     * Keys and indexes are followed.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void selectsByKeysAndIndex() throws IOException {
+        final YamlNode found = Yaml.createYamlPath(
+            "spec.template.spec.containers[2].image"
+        ).first(RtYamlPathTest.deployment());
+        MatcherAssert.assertThat(
+            found.asScalar().value(), Matchers.equalTo("third:3.0")
+        );
+    }
+
+    /**
+     * An index is looked up with YamlSequence.get(int), without walking the
+     * values of the sequence, and a missing index selects nothing.
+     */
+    @Test
+    public void selectsIndexWithGet() {
+        final YamlSequence sequence = Mockito.mock(YamlSequence.class);
+        final YamlNode second = new PlainStringScalar("second");
+        Mockito.when(sequence.get(1)).thenReturn(second);
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("[1]").first(sequence),
+            Matchers.sameInstance(second)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("[2]").select(sequence).count(),
+            Matchers.is(0L)
+        );
+        Mockito.verify(sequence, Mockito.never()).values();
+    }
+
+    /**
+     * Wildcards select all the values, in the order of the document.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void selectsWithWildcards() throws IOException {
+        final YamlMapping deployment = RtYamlPathTest.deployment();
+        MatcherAssert.assertThat(
+            RtYamlPathTest.values(
+                "spec.template.spec.containers[*].name", deployment
+            ),
+            Matchers.contains("first", "second", "third")
+        );
+        MatcherAssert.assertThat(
+            RtYamlPathTest.values("$.metadata.labels.*", deployment),
+            Matchers.contains("web")
+        );
+    }
+
+    /**
+     * Recursive descent finds keys at any depth.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void selectsRecursively() throws IOException {
+        final YamlMapping deployment = RtYamlPathTest.deployment();
+        MatcherAssert.assertThat(
+            RtYamlPathTest.values("..image", deployment),
+            Matchers.contains("first:1.0", "second:2.0", "third:3.0")
+        );
+        MatcherAssert.assertThat(
+            RtYamlPathTest.values("metadata..tier", deployment),
+            Matchers.contains("web")
+        );
+    }
+
+    /**
+     * Quoted keys can contain dots.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void selectsQuotedKeys() throws IOException {
+        MatcherAssert.assertThat(
+            RtYamlPathTest.values(
+                "spec.template.spec['dotted.key']",
+                RtYamlPathTest.deployment()
+            ),
+            Matchers.contains("yes")
+        );
+    }
+
+    /**
+     * Nothing is selected if the path does not match.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void selectsNothingIfNotFound() throws IOException {
+        final YamlMapping deployment = RtYamlPathTest.deployment();
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("spec.missing.key").first(deployment),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("spec.template.spec.containers[7]")
+                .select(deployment).count(),
+            Matchers.is(0L)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("metadata[0]").select(deployment).count(),
+            Matchers.is(0L)
+        );
+    }
+
+    /**
+     * The empty path and $ select the node itself.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void selectsRoot() throws IOException {
+        final YamlMapping deployment = RtYamlPathTest.deployment();
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("$").first(deployment),
+            Matchers.sameInstance(deployment)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlPath("").first(deployment),
+            Matchers.sameInstance(deployment)
+        );
+    }
+
+    /**
+     * Invalid paths are rejected when compiled.
+     */
+    @Test
+    public void rejectsInvalidPaths() {
+        final String[] invalid = {"a.", "a[", "a[x]", "a...b", "a]b[0]x"};
+        for(final String path : invalid) {
+            try {
+                Yaml.createYamlPath(path);
+                MatcherAssert.assertThat("Expected exception: " + path, false);
+            } catch (final IllegalArgumentException ex) {
+                MatcherAssert.assertThat(
+                    ex.getMessage(), Matchers.containsString(path)
+                );
+            }
+        }
+    }
+
+    /**
+     * Read the deployment.
+     * @return YamlMapping.
+     * @throws IOException If something goes wrong.
+     */
+    private static YamlMapping deployment() throws IOException {
+        return Yaml.createYamlInput(DEPLOYMENT).readYamlMapping();
+    }
+
+    /**
+     * Values of the scalars found at the path.
+     * @param path Path.
+     * @param node Node to start from.
+     * @return List of String.
+     */
+    private static List<String> values(final String path, final YamlNode node) {
+        return Yaml.createYamlPath(path).select(node)
+            .map(found -> found.asScalar().value())
+            .collect(Collectors.toList());
+    }
+}
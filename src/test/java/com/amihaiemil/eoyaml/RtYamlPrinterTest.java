@@ -35,6 +35,7 @@ import org.junit.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 
 /**
  *
@@ -108,4 +109,59 @@ public final class RtYamlPrinterTest {
                 .Escaped(new PlainStringScalar("\"Some value\"")).value(),
             Matchers.equalTo("\"Some value\""));
     }
+
+    /**
+     * {@link RtYamlPrinter.Escaped} quotes values made only of spaces, but
+     * not multiline values, even if they have special characters.
+     */
+    @Test
+    public void escapesBlankButNotMultilineValues() {
+        MatcherAssert.assertThat(
+            new RtYamlPrinter.Escaped(new PlainStringScalar("  ")).value(),
+            Matchers.equalTo("\"  \"")
+        );
+        MatcherAssert.assertThat(
+            new RtYamlPrinter.Escaped(new PlainStringScalar("")).value(),
+            Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            new RtYamlPrinter.Escaped(
+                new PlainStringScalar("first: line\nsecond")
+            ).value(),
+            Matchers.equalTo("first: line\nsecond")
+        );
+        MatcherAssert.assertThat(
+            new RtYamlPrinter.Escaped(
+                new PlainStringScalar("first: line\u2028second")
+            ).value(),
+            Matchers.equalTo("first: line\u2028second")
+        );
+    }
+
+    /**
+     * RtYamlPrinter prints every line of a multiline comment and leaves
+     * out the empty lines at its end.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void printsMultilineComments() throws IOException {
+        final String newLine = System.lineSeparator();
+        final StringWriter writer = new StringWriter();
+        new RtYamlPrinter(writer).print(
+            Yaml.createYamlMappingBuilder()
+                .add(
+                    "key",
+                    Yaml.createYamlSequenceBuilder().add("value").build(
+                        "first" + newLine + newLine + "second" + newLine
+                    )
+                ).build()
+        );
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.equalTo(
+                "# first" + newLine + "# " + newLine + "# second" + newLine
+                + "key:" + newLine + "  - value"
+            )
+        );
+    }
 }
@@ -31,6 +31,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -109,4 +110,27 @@ public final class RtYamlSequenceBuilderTest {
             Matchers.equalTo("some test sequence")
         );
     }
+
+    /**
+     * RtYamlSequenceBuilder can add all the values of a Collection.
+     */
+    @Test
+    public void addsAllValuesOfCollection() {
+        final YamlSequence sequence = new RtYamlSequenceBuilder()
+            .add("first")
+            .addAll(
+                Arrays.asList(
+                    "second", 3, new PlainStringScalar("fourth"), null
+                )
+            )
+            .build();
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(5));
+        MatcherAssert.assertThat(
+            sequence.string(1), Matchers.equalTo("second")
+        );
+        MatcherAssert.assertThat(sequence.integer(2), Matchers.is(3));
+        MatcherAssert.assertThat(
+            sequence.string(3), Matchers.equalTo("fourth")
+        );
+    }
 }
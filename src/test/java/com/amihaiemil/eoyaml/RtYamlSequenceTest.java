@@ -353,4 +353,25 @@ public final class RtYamlSequenceTest {
             )
         );
     }
+
+    /**
+     * RtYamlSequence returns its elements by index.
+     */
+    @Test
+    public void returnsElementsByIndex() {
+        final YamlSequence sequence = Yaml.createYamlSequenceBuilder()
+            .add("first")
+            .add(Yaml.createYamlMappingBuilder().add("key", "value").build())
+            .build();
+        MatcherAssert.assertThat(
+            sequence.get(0), Matchers.equalTo(new PlainStringScalar("first"))
+        );
+        MatcherAssert.assertThat(
+            sequence.get(1).asMapping().string("key"),
+            Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(sequence.string(1), Matchers.nullValue());
+        MatcherAssert.assertThat(sequence.get(2), Matchers.nullValue());
+        MatcherAssert.assertThat(sequence.get(-1), Matchers.nullValue());
+    }
 }
@@ -133,5 +133,22 @@ public final class SameIndentationLevelTestCase {
         );
         MatcherAssert.assertThat(yaml, Matchers.iterableWithSize(lines.size()));
     }
-    
+
+    /**
+     * SameIndentationLevel reads the lines lazily and stops at the first
+     * line with a smaller indentation, so the lines after it are never
+     * verified by WellIndented.
+     */
+    @Test
+    public void stopsAtFirstSmallerIndentation() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("  first: value", 0));
+        lines.add(new RtYamlLine("  second: value", 1));
+        lines.add(new RtYamlLine("third: value", 2));
+        lines.add(new RtYamlLine("     misplaced: value", 3));
+        final YamlLines yaml = new SameIndentationLevel(
+            new WellIndented(new AllYamlLines(lines))
+        );
+        MatcherAssert.assertThat(yaml, Matchers.iterableWithSize(2));
+    }
 }
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Siblings}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class SiblingsTest {
+
+    /**
+     * Siblings iterates over the lines at the same indentation level
+     * as the first line after the previous one.
+     */
+    @Test
+    public void iteratesSameLevelOfIndentation() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: somethingElse", 0));
+        lines.add(new RtYamlLine("second: ", 1));
+        lines.add(new RtYamlLine("  fourth: some", 2));
+        lines.add(new RtYamlLine("  # comment", 3));
+        lines.add(new RtYamlLine("  fifth: values", 4));
+        lines.add(new RtYamlLine("third: something", 5));
+        final AllYamlLines all = new AllYamlLines(lines);
+        final Iterator<YamlLine> top = new Siblings(
+            new YamlLine.NullYamlLine(), all
+        ).iterator();
+        MatcherAssert.assertThat(top.next(), Matchers.is(lines.get(0)));
+        MatcherAssert.assertThat(top.next(), Matchers.is(lines.get(1)));
+        MatcherAssert.assertThat(top.next(), Matchers.is(lines.get(5)));
+        MatcherAssert.assertThat(top.hasNext(), Matchers.is(false));
+        final Iterator<YamlLine> nested = new Siblings(
+            lines.get(1), all
+        ).iterator();
+        MatcherAssert.assertThat(nested.next(), Matchers.is(lines.get(2)));
+        MatcherAssert.assertThat(nested.next(), Matchers.is(lines.get(4)));
+        MatcherAssert.assertThat(nested.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * Siblings iterates over the keys of a mapping which starts
+     * at the dash of a sequence item.
+     */
+    @Test
+    public void iteratesMappingStartingAtDash() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- name: eo-yaml", 0));
+        lines.add(new RtYamlLine("  version: 1.0", 1));
+        lines.add(new RtYamlLine("  tags:", 2));
+        lines.add(new RtYamlLine("    - java", 3));
+        lines.add(new RtYamlLine("  license: BSD", 4));
+        lines.add(new RtYamlLine("- name: other", 5));
+        final YamlLines keys = new Siblings(
+            new YamlLine.NullYamlLine(), new AllYamlLines(lines)
+        );
+        MatcherAssert.assertThat(keys, Matchers.iterableWithSize(4));
+        final Iterator<YamlLine> iterator = keys.iterator();
+        MatcherAssert.assertThat(iterator.next(), Matchers.is(lines.get(0)));
+        MatcherAssert.assertThat(iterator.next(), Matchers.is(lines.get(1)));
+        MatcherAssert.assertThat(iterator.next(), Matchers.is(lines.get(2)));
+        MatcherAssert.assertThat(iterator.next(), Matchers.is(lines.get(4)));
+    }
+
+    /**
+     * Siblings iterates over nothing if there are no lines
+     * after the previous one.
+     */
+    @Test
+    public void iteratesNothingAfterLastLine() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("key: value", 0));
+        MatcherAssert.assertThat(
+            new Siblings(lines.get(0), new AllYamlLines(lines)),
+            Matchers.emptyIterable()
+        );
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SplitDocuments}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class SplitDocumentsTest {
+
+    /**
+     * The parallel Stream reads the same documents, in the same order,
+     * as the sequential one.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsSameDocumentsAsSequentially() throws IOException {
+        final String[] streams = {
+            "first: 1\n---\nsecond: 2\n---\n- third\n",
+            "# comment\n%YAML 1.2\n---\na: 1\n...\n---\n---\nb: 2\n",
+            "---\n# a comment\nkey: |\n  ---x\n  literal\n",
+            "",
+            "---\n",
+        };
+        for(final String text : streams) {
+            final YamlStream stream = Yaml.createYamlInput(text)
+                .readYamlStream();
+            MatcherAssert.assertThat(
+                stream.parallel().map(YamlNode::toString)
+                    .collect(Collectors.toList()),
+                Matchers.equalTo(
+                    stream.values().stream().map(YamlNode::toString)
+                        .collect(Collectors.toList())
+                )
+            );
+        }
+    }
+
+    /**
+     * The Spliterator splits off the first documents, so the order
+     * is kept.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void splitsOffFirstDocuments() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for(int idx = 0; idx < 8; ++idx) {
+            text.append("---\nnumber: ").append(idx).append('\n');
+        }
+        final Spliterator<YamlNode> second = new SplitDocuments(
+            new LineTable(text), false
+        );
+        MatcherAssert.assertThat(second.estimateSize(), Matchers.is(8L));
+        final Spliterator<YamlNode> first = second.trySplit();
+        MatcherAssert.assertThat(first.estimateSize(), Matchers.is(4L));
+        MatcherAssert.assertThat(second.estimateSize(), Matchers.is(4L));
+        first.tryAdvance(
+            doc -> MatcherAssert.assertThat(
+                doc.asMapping().integer("number"), Matchers.is(0)
+            )
+        );
+        second.tryAdvance(
+            doc -> MatcherAssert.assertThat(
+                doc.asMapping().integer("number"), Matchers.is(4)
+            )
+        );
+    }
+
+    /**
+     * Splitting the Spliterator as much as possible gives disjoint parts,
+     * of one document each, which cover all the documents, in order.
+     */
+    @Test
+    public void splitsIntoDisjointCoveringParts() {
+        final int total = 100;
+        final Spliterator<YamlNode> all = new SplitDocuments(
+            new LineTable(SplitDocumentsTest.numbered(total)), false
+        );
+        final Spliterator<YamlNode> half = all.trySplit();
+        MatcherAssert.assertThat(half.estimateSize(), Matchers.is(50L));
+        MatcherAssert.assertThat(all.estimateSize(), Matchers.is(50L));
+        final List<Spliterator<YamlNode>> parts = new ArrayList<>();
+        SplitDocumentsTest.split(half, parts);
+        SplitDocumentsTest.split(all, parts);
+        MatcherAssert.assertThat(parts, Matchers.hasSize(total));
+        final List<Integer> numbers = new ArrayList<>();
+        for(final Spliterator<YamlNode> part : parts) {
+            MatcherAssert.assertThat(part.estimateSize(), Matchers.is(1L));
+            part.forEachRemaining(
+                doc -> numbers.add(doc.asMapping().integer("number"))
+            );
+            MatcherAssert.assertThat(part.estimateSize(), Matchers.is(0L));
+        }
+        MatcherAssert.assertThat(
+            numbers,
+            Matchers.equalTo(
+                IntStream.range(0, total).boxed().collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * The documents of the parallel Stream are handed out in their order
+     * by forEachOrdered.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void keepsOrderInParallel() throws IOException {
+        final int total = 1_000;
+        final YamlStream stream = Yaml.createYamlInput(
+            SplitDocumentsTest.numbered(total)
+        ).readYamlStream();
+        final List<Integer> numbers = new ArrayList<>();
+        stream.parallel().forEachOrdered(
+            doc -> numbers.add(doc.asMapping().integer("number"))
+        );
+        MatcherAssert.assertThat(
+            numbers,
+            Matchers.equalTo(
+                IntStream.range(0, total).boxed().collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * Split the given Spliterator as much as possible.
+     * @param spliterator Spliterator.
+     * @param parts Where the parts are added, in order.
+     */
+    private static void split(
+        final Spliterator<YamlNode> spliterator,
+        final List<Spliterator<YamlNode>> parts
+    ) {
+        final Spliterator<YamlNode> prefix = spliterator.trySplit();
+        if(prefix == null) {
+            parts.add(spliterator);
+        } else {
+            SplitDocumentsTest.split(prefix, parts);
+            SplitDocumentsTest.split(spliterator, parts);
+        }
+    }
+
+    /**
+     * A YAML Stream of numbered documents.
+     * @param total Number of documents.
+     * @return Text of the stream.
+     */
+    private static String numbered(final int total) {
+        final StringBuilder text = new StringBuilder();
+        for(int idx = 0; idx < total; ++idx) {
+            text.append("---\nnumber: ").append(idx).append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StreamSource}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class StreamSourceTest {
+
+    /**
+     * ASCII input is read directly from the bytes, without decoding.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsAsciiWithoutDecoding() throws IOException {
+        final CharSequence chars = new StreamSource(
+            StreamSourceTest.bytes("key: value", StandardCharsets.UTF_8),
+            StandardCharsets.UTF_8
+        ).chars();
+        MatcherAssert.assertThat(
+            chars, Matchers.instanceOf(AsciiChars.class)
+        );
+        MatcherAssert.assertThat(
+            chars.toString(), Matchers.equalTo("key: value")
+        );
+    }
+
+    /**
+     * Non-ASCII input is decoded with the given charset.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void decodesWithGivenCharset() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            StreamSourceTest.bytes("city: Bucureşti", StandardCharsets.UTF_8),
+            StandardCharsets.UTF_8
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("city"), Matchers.equalTo("Bucureşti")
+        );
+        final YamlMapping latin = Yaml.createYamlInput(
+            StreamSourceTest.bytes("name: José", StandardCharsets.ISO_8859_1),
+            StandardCharsets.ISO_8859_1
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            latin.string("name"), Matchers.equalTo("José")
+        );
+    }
+
+    /**
+     * A UTF-8 BOM is skipped.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void skipsUtfEightBom() throws IOException {
+        final CharSequence chars = new StreamSource(
+            StreamSourceTest.bytes("﻿key: value", StandardCharsets.UTF_8),
+            StandardCharsets.US_ASCII
+        ).chars();
+        MatcherAssert.assertThat(
+            chars.toString(), Matchers.equalTo("key: value")
+        );
+    }
+
+    /**
+     * A UTF-16 BOM overrides the given charset.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsUtfSixteenWithBom() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            StreamSourceTest.bytes(
+                "﻿first: 1\nsecond: ş", StandardCharsets.UTF_16LE
+            ),
+            StandardCharsets.UTF_8
+        ).readYamlMapping();
+        MatcherAssert.assertThat(read.string("first"), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(read.string("second"), Matchers.equalTo("ş"));
+    }
+
+    /**
+     * The lazy Reader also skips the BOM and uses its charset.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsStreamLazilyWithBom() throws IOException {
+        final YamlStream stream = Yaml.createYamlInput(
+            StreamSourceTest.bytes(
+                "﻿---\na: 1\n---\nb: ţ\n", StandardCharsets.UTF_16BE
+            ),
+            StandardCharsets.UTF_8
+        ).readYamlStreamLazily();
+        final YamlMapping[] docs = stream.values().stream()
+            .map(YamlNode::asMapping).toArray(YamlMapping[]::new);
+        MatcherAssert.assertThat(docs.length, Matchers.is(2));
+        MatcherAssert.assertThat(docs[0].string("a"), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(docs[1].string("b"), Matchers.equalTo("ţ"));
+    }
+
+    /**
+     * Text from a CharSequence is read as it is, with no encoding involved.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsCharSequence() throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            new StringBuilder("name: Ştefan\nage: 30")
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("Ştefan")
+        );
+        MatcherAssert.assertThat(read.integer("age"), Matchers.is(30));
+    }
+
+    /**
+     * Encode some text.
+     * @param text Text.
+     * @param charset Charset.
+     * @return InputStream of encoded bytes.
+     */
+    private static InputStream bytes(
+        final String text, final Charset charset
+    ) {
+        return new ByteArrayInputStream(text.getBytes(charset));
+    }
+}
@@ -241,4 +241,16 @@ public final class StrictYamlSequenceTest {
         );
     }
 
+    /**
+     * StrictYamlSequence can throw YamlNodeNotFoundException
+     * when there is no element at the demanded index.
+     */
+    @Test (expected = YamlNodeNotFoundException.class)
+    public void exceptionOnMissingElement() {
+        YamlSequence origin = Mockito.mock(YamlSequence.class);
+        Mockito.when(origin.get(1)).thenReturn(null);
+        YamlSequence strict = new StrictYamlSequence(origin);
+        strict.get(1);
+    }
+
 }
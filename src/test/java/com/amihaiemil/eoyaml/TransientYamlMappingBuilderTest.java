@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.LinkedHashMap;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TransientYamlMappingBuilder}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class TransientYamlMappingBuilderTest {
+
+    /**
+     * TransientYamlMappingBuilder adds in place and keeps the pairs which
+     * were added before switching to the transient mode.
+     */
+    @Test
+    public void addsInPlace() {
+        final YamlMappingBuilder builder = Yaml.createYamlMappingBuilder()
+            .add("first", "1")
+            .transientMode();
+        MatcherAssert.assertThat(
+            builder.add("second", "2"), Matchers.sameInstance(builder)
+        );
+        MatcherAssert.assertThat(
+            builder.transientMode(), Matchers.sameInstance(builder)
+        );
+        final YamlMapping mapping = builder.build("comment");
+        MatcherAssert.assertThat(mapping.keys().size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            mapping.string("first"), Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            mapping.string("second"), Matchers.equalTo("2")
+        );
+        MatcherAssert.assertThat(
+            mapping.comment().value(), Matchers.equalTo("comment")
+        );
+    }
+
+    /**
+     * TransientYamlMappingBuilder builds the same YamlMapping as the
+     * immutable builder.
+     */
+    @Test
+    public void buildsLikeImmutableBuilder() {
+        final YamlMapping expected = Yaml.createYamlMappingBuilder()
+            .add("name", "eo-yaml")
+            .add("empty", Yaml.createYamlSequenceBuilder().build())
+            .build();
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .transientMode()
+            .add("name", "eo-yaml")
+            .add("empty", Yaml.createYamlSequenceBuilder().build())
+            .build();
+        MatcherAssert.assertThat(built, Matchers.equalTo(expected));
+        MatcherAssert.assertThat(
+            built.toString(), Matchers.equalTo(expected.toString())
+        );
+    }
+
+    /**
+     * TransientYamlMappingBuilder builds an empty YamlMapping.
+     */
+    @Test
+    public void buildsEmptyMapping() {
+        MatcherAssert.assertThat(
+            new TransientYamlMappingBuilder(new LinkedHashMap<>())
+                .build()
+                .keys(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * TransientYamlMappingBuilder cannot add after the mapping is built.
+     */
+    @Test
+    public void complainsAboutAddingAfterBuild() {
+        final YamlMappingBuilder builder = Yaml.createYamlMappingBuilder()
+            .transientMode()
+            .add("key", "value");
+        final YamlMapping mapping = builder.build();
+        try {
+            builder.add("other", "value");
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.equalTo(
+                    "The YamlMapping is already built, nothing can be added."
+                )
+            );
+        }
+        MatcherAssert.assertThat(mapping.keys().size(), Matchers.is(1));
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TransientYamlSequenceBuilder}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 5.2.2
+ */
+public final class TransientYamlSequenceBuilderTest {
+
+    /**
+     * TransientYamlSequenceBuilder adds in place and keeps the nodes which
+     * were added before switching to the transient mode.
+     */
+    @Test
+    public void addsInPlace() {
+        final YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder()
+            .add("first")
+            .transientMode();
+        MatcherAssert.assertThat(
+            builder.add("second"), Matchers.sameInstance(builder)
+        );
+        final YamlSequence sequence = builder.build();
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            sequence.string(0), Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            sequence.string(1), Matchers.equalTo("second")
+        );
+    }
+
+    /**
+     * TransientYamlSequenceBuilder builds an empty YamlSequence.
+     */
+    @Test
+    public void buildsEmptySequence() {
+        MatcherAssert.assertThat(
+            Yaml.createYamlSequenceBuilder().transientMode().build().values(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * TransientYamlSequenceBuilder cannot add after the sequence is built.
+     */
+    @Test
+    public void complainsAboutAddingAfterBuild() {
+        final YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder()
+            .transientMode()
+            .add("value");
+        final YamlSequence sequence = builder.build();
+        try {
+            builder.add("other");
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.equalTo(
+                    "The YamlSequence is already built, nothing can be added."
+                )
+            );
+        }
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(1));
+    }
+}